@@ -34,9 +34,14 @@ public class Configuration {
     private static final String ERR_LOCALE_INVALID_FORMAT = "Locale %s has an invalid format. Please fix it in" +
             " accordance with the readme.";
 
+    private static final String ERR_FALLBACK_INVALID_FORMAT = "Fallback chain of %s contains an invalid Locale." +
+            " Please fix it in accordance with the readme.";
+
     private static final String DEFAULT_FAILSAFE_MESSAGE = "The requested message could not be loaded.";
 
     public static final String LOCALE_CACHE_FILE_NAME = "locale_overrides.yml";
+    public static final String LOCALE_CACHE_BINARY_FILE_NAME = "locale_overrides.bin";
+    public static final String LOCALE_CACHE_JOURNAL_FILE_NAME = "locale_overrides.journal";
     public static final String LOCALE_CACHE_HEADER = "A Map of UUIDs and their Locale Cache Overrides.";
 
     // --------------- Instance Variables ---------------
@@ -49,6 +54,15 @@ public class Configuration {
     public final boolean SEND_BROADCASTS_TO_CONSOLE;
     public final boolean ENABLE_LOCALE_OVERRIDES;
     public final boolean SAVE_AND_LOAD_LOCALE_OVERRIDES;
+    public final int LOCALE_OVERRIDE_AUTOSAVE_SECONDS;
+    public final boolean JOURNAL_LOCALE_OVERRIDES;
+    public final boolean BINARY_LOCALE_OVERRIDES;
+    public final int COALESCE_LOCALE_CHANGE_TICKS;
+    public final int RENDER_CACHE_SIZE;
+
+    // Broadcast Dispatcher
+    public final int DISPATCHER_MAX_MILLIS_PER_TICK;
+    public final int DISPATCHER_MAX_MESSAGES_PER_TICK;
 
     // Defaults
     public final String DEFAULT_LOCALE, CONSOLE_LOCALE, REMOTE_CONSOLE_LOCALE;
@@ -56,6 +70,16 @@ public class Configuration {
 
     // Loading
     final boolean SUPPRESS_SECTION_WARNINGS;
+    final boolean CACHE_LANGUAGE_BUNDLES;
+    final boolean WATCH_LANGUAGE_FILES;
+
+    // Fallback
+    public final boolean USE_BASE_LANGUAGE_FALLBACK;
+    private final Map<String, List<String>> FALLBACK_CHAINS;
+
+    // Metrics
+    public final boolean METRICS_ENABLED;
+    public final int METRICS_LATENCY_SAMPLE_RATE;
 
     // Debug
     public final boolean API_REGEX_LOCALE_TESTS;
@@ -69,6 +93,11 @@ public class Configuration {
      * @throws NullPointerException          if plugin is null.
      * @throws IllegalStateException         if config_version is in an invalid format.
      * @throws IllegalStateException         if SAVE_LOCALE_OVERRIDES is true but ENABLE_LOCALE_OVERRIDES is false.
+     * @throws IllegalStateException         if locale_override_autosave_interval is negative.
+     * @throws IllegalStateException         if coalesce_locale_change_ticks is negative.
+     * @throws IllegalStateException         if render_cache_size is negative.
+     * @throws IllegalStateException         if any broadcast_dispatcher budget is negative.
+     * @throws IllegalStateException         if metrics.latency_sample_rate is less than 1.
      * @throws LocaleFormatException         if any of the Locales in config.yml have an invalid format.
      * @throws IOException                   if Bukkit fails to reload the default configuration file config.yml.
      * @throws InvalidConfigurationException if config.yml is not in valid YAML format.
@@ -84,6 +113,9 @@ public class Configuration {
         final ConfigurationSection defaultsSection = rootConfig.getConfigurationSection("defaults");
         final ConfigurationSection loadingSection = rootConfig.getConfigurationSection("loading");
         final ConfigurationSection debugSection = rootConfig.getConfigurationSection("debug");
+        final ConfigurationSection fallbackSection = rootConfig.getConfigurationSection("fallback");
+        final ConfigurationSection metricsSection = rootConfig.getConfigurationSection("metrics");
+        final ConfigurationSection dispatcherSection = rootConfig.getConfigurationSection("broadcast_dispatcher");
 
         // Load config_version
         CONFIG_VERSION = Objects.requireNonNull(rootConfig.getString("config_version"), ERR_CONFIG_NOT_FOUND);
@@ -101,6 +133,21 @@ public class Configuration {
             throw new IllegalStateException("Cannot have Locale Override saving enabled while Locale Overrides are " +
                     "disabled.");
 
+        LOCALE_OVERRIDE_AUTOSAVE_SECONDS = rootConfig.getInt("locale_override_autosave_interval", 300);
+        if (LOCALE_OVERRIDE_AUTOSAVE_SECONDS < 0)
+            throw new IllegalStateException("locale_override_autosave_interval cannot be negative.");
+
+        JOURNAL_LOCALE_OVERRIDES = rootConfig.getBoolean("journal_locale_overrides", true);
+        BINARY_LOCALE_OVERRIDES = rootConfig.getBoolean("binary_locale_overrides", false);
+
+        COALESCE_LOCALE_CHANGE_TICKS = rootConfig.getInt("coalesce_locale_change_ticks", 0);
+        if (COALESCE_LOCALE_CHANGE_TICKS < 0)
+            throw new IllegalStateException("coalesce_locale_change_ticks cannot be negative.");
+
+        RENDER_CACHE_SIZE = rootConfig.getInt("render_cache_size", 0);
+        if (RENDER_CACHE_SIZE < 0)
+            throw new IllegalStateException("render_cache_size cannot be negative.");
+
         // Load failsafe_message
         String failsafeMessage = defaultsSection.getString("failsafe_message");
         if (failsafeMessage == null) {
@@ -116,6 +163,27 @@ public class Configuration {
         REMOTE_CONSOLE_LOCALE = loadLocale(defaultsSection, "remote_console_locale");
 
         SUPPRESS_SECTION_WARNINGS = loadingSection.getBoolean("suppress_section_warnings");
+        CACHE_LANGUAGE_BUNDLES = loadingSection.getBoolean("cache_language_bundles", true);
+        WATCH_LANGUAGE_FILES = loadingSection.getBoolean("watch_language_files", false);
+
+        // The fallback section is optional so that older config.yml files still load, with the lookups they had.
+        USE_BASE_LANGUAGE_FALLBACK = fallbackSection != null &&
+                fallbackSection.getBoolean("use_base_language", false);
+        FALLBACK_CHAINS = loadFallbackChains(fallbackSection == null ? null :
+                fallbackSection.getConfigurationSection("chains"));
+
+        // The broadcast_dispatcher section is optional so that older config.yml files still load.
+        DISPATCHER_MAX_MILLIS_PER_TICK = dispatcherSection == null ? 2 :
+                dispatcherSection.getInt("max_millis_per_tick", 2);
+        DISPATCHER_MAX_MESSAGES_PER_TICK = dispatcherSection == null ? 0 :
+                dispatcherSection.getInt("max_messages_per_tick", 0);
+        if (DISPATCHER_MAX_MILLIS_PER_TICK < 0 || DISPATCHER_MAX_MESSAGES_PER_TICK < 0)
+            throw new IllegalStateException("broadcast_dispatcher budgets cannot be negative.");
+
+        METRICS_ENABLED = metricsSection != null && metricsSection.getBoolean("enabled", false);
+        METRICS_LATENCY_SAMPLE_RATE = metricsSection == null ? 64 : metricsSection.getInt("latency_sample_rate", 64);
+        if (METRICS_LATENCY_SAMPLE_RATE < 1)
+            throw new IllegalStateException("metrics.latency_sample_rate must be at least 1.");
 
         API_REGEX_LOCALE_TESTS = debugSection.getBoolean("api_regex_locale_tests", false);
         INTERNAL_REGEX_LOCALE_TESTS = debugSection.getBoolean("internal_regex_locale_tests", false);
@@ -134,6 +202,50 @@ public class Configuration {
         return new ArrayList<>(LANGUAGE_FILE_DEFINITIONS);
     }
 
+    /**
+     * Gets the configured fallback chains. Each Locale maps to the Locales it falls back to, in order. The base
+     * language and Default Locale fallbacks are not included.
+     *
+     * @return A copy of the Map of fallback chains.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<String, List<String>> getFallbackChains()
+    {
+        final Map<String, List<String>> out = new HashMap<>();
+        FALLBACK_CHAINS.forEach((locale, chain) -> out.put(locale, new ArrayList<>(chain)));
+
+        return out;
+    }
+
+    /**
+     * Helper method for loading the fallback chains section.
+     *
+     * @param chainsSection ConfigurationSection mapping Locales to Lists of fallback Locales, or null if absent.
+     * @return A Map of every Locale to its fallback Locales.
+     * @throws LocaleFormatException if any Locale in the section has an invalid format.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static Map<String, List<String>> loadFallbackChains(@Nullable ConfigurationSection chainsSection)
+    {
+        final Map<String, List<String>> chains = new HashMap<>();
+        if (chainsSection == null) return chains;
+
+        for (String locale : chainsSection.getKeys(false)) {
+            final String error = String.format(ERR_FALLBACK_INVALID_FORMAT, locale) + " Yours: %s";
+            ValidationUtil.validateLocale(locale, error);
+
+            final List<String> chain = chainsSection.getStringList(locale);
+            for (String fallback : chain)
+                ValidationUtil.validateLocale(fallback, error);
+
+            chains.put(locale, chain);
+        }
+
+        return chains;
+    }
+
     /**
      * Helper method for loading a Locale.
      *
@@ -2,18 +2,22 @@ package com.hippout.hippoutlocalizationlib;
 
 import com.hippout.hippoutlocalizationlib.api.*;
 import com.hippout.hippoutlocalizationlib.commands.*;
+import com.hippout.hippoutlocalizationlib.exceptions.*;
 import com.hippout.hippoutlocalizationlib.language.*;
 import com.hippout.hippoutlocalizationlib.locale.EventListener;
 import com.hippout.hippoutlocalizationlib.locale.*;
+import com.hippout.hippoutlocalizationlib.metrics.*;
+import com.hippout.hippoutlocalizationlib.objects.*;
 import org.bukkit.*;
 import org.bukkit.command.*;
 import org.bukkit.configuration.*;
-import org.bukkit.configuration.file.*;
+import org.bukkit.plugin.*;
 import org.bukkit.plugin.java.*;
 
 import javax.annotation.*;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A Bukkit Plugin API to make localizing plugins easy.
@@ -31,10 +35,41 @@ public class HippOutLocalizationLib extends JavaPlugin {
 
     private Configuration configuration;
     private LanguageHandler languageHandler;
+    private LocaleTable localeTable;
     private LocaleCache localeCache;
+    private LocaleOverrideStore localeOverrideStore;
+    private LocaleAudienceIndex localeAudienceIndex;
+    private LocalizationMetrics localizationMetrics;
+    private BroadcastDispatcher broadcastDispatcher;
+    private LocalizedObjectRouter localizedObjectRouter;
 
     private EventListener eventListener;
 
+    /**
+     * Constructs HippOutLocalizationLib. Called by Bukkit's PluginClassLoader.
+     *
+     * @since 1.0.0
+     */
+    public HippOutLocalizationLib()
+    {
+        super();
+    }
+
+    /**
+     * Constructs HippOutLocalizationLib outside of a PluginClassLoader, for tests and benchmarks.
+     *
+     * @param loader      JavaPluginLoader to initialize with.
+     * @param description Description of the plugin.
+     * @param dataFolder  Data folder of the plugin.
+     * @param file        Plugin file.
+     * @since 1.0.0
+     */
+    protected HippOutLocalizationLib(@Nonnull JavaPluginLoader loader, @Nonnull PluginDescriptionFile description,
+                                     @Nonnull File dataFolder, @Nonnull File file)
+    {
+        super(loader, description, dataFolder, file);
+    }
+
     @Override
     public void onEnable()
     {
@@ -51,30 +86,39 @@ public class HippOutLocalizationLib extends JavaPlugin {
                     "Contact the plugin vendor for assistance.");
         }
 
+        this.localizationMetrics = new LocalizationMetrics(configuration.METRICS_ENABLED,
+                configuration.METRICS_LATENCY_SAMPLE_RATE);
         this.languageHandler = new LanguageHandler(this, configuration.DEFAULT_LOCALE);
 
+        this.localeTable = new LocaleTable();
         this.localeCache = new LocaleCache(this, Bukkit.getOnlinePlayers());
-        if (configuration.SAVE_AND_LOAD_LOCALE_OVERRIDES)
-            loadLocaleCacheFromDisk(Configuration.LOCALE_CACHE_FILE_NAME);
+        if (configuration.SAVE_AND_LOAD_LOCALE_OVERRIDES) {
+            this.localeOverrideStore = new LocaleOverrideStore(this, localeCache, getDataFolder(),
+                    configuration.BINARY_LOCALE_OVERRIDES ? LocaleOverrideStore.Format.BINARY :
+                            LocaleOverrideStore.Format.YAML, configuration.JOURNAL_LOCALE_OVERRIDES);
+            loadLocaleOverrides();
+
+            if (configuration.LOCALE_OVERRIDE_AUTOSAVE_SECONDS > 0)
+                localeOverrideStore.startAutosave(configuration.LOCALE_OVERRIDE_AUTOSAVE_SECONDS * 20L);
+        }
+
+        this.localeAudienceIndex = new LocaleAudienceIndex(localeCache, Bukkit.getOnlinePlayers());
+        this.broadcastDispatcher = new BroadcastDispatcher(this,
+                TimeUnit.MILLISECONDS.toNanos(configuration.DISPATCHER_MAX_MILLIS_PER_TICK),
+                configuration.DISPATCHER_MAX_MESSAGES_PER_TICK);
 
         this.eventListener = new EventListener(this);
 
         getServer().getPluginManager().registerEvents(this.eventListener, this);
 
-        LanguageLoader languageLoader = new LanguageLoader(this, LANGUAGE_DIRECTORY,
-                configuration.SUPPRESS_SECTION_WARNINGS);
+        // Every LocalizedObject receives its events through this single Listener.
+        this.localizedObjectRouter = new LocalizedObjectRouter();
+        getServer().getPluginManager().registerEvents(this.localizedObjectRouter, this);
 
-        for (String fileName : configuration.getLanguageFileDefinitions()) {
-            try {
-                languageLoader.loadLanguageFile(fileName);
-            } catch (IOException e) {
-                getLogger().warning(fileName + " could not be found or loaded inside the languages directory.");
-                e.printStackTrace();
-            } catch (InvalidConfigurationException e) {
-                getLogger().warning(fileName + " was not a valid YAML configuration file.");
-                e.printStackTrace();
-            }
-        }
+        loadLanguageFiles();
+
+        getLogger().info(String.format("Loaded %d distinct messages. Sharing identical messages saved about %d KiB.",
+                languageHandler.getDistinctMessageCount(), languageHandler.getMessagePoolBytesSaved() / 1024));
 
         keyRegistry = new KeyRegistry();
 
@@ -102,6 +146,25 @@ public class HippOutLocalizationLib extends JavaPlugin {
         final CommandLocale commandLocale = new CommandLocale();
         pCommandLocale.setExecutor(commandLocale);
         pCommandLocale.setTabCompleter(commandLocale);
+
+        final PluginCommand pCommandLocalizationMetrics = getCommand("localizationmetrics");
+        final CommandLocalizationMetrics commandLocalizationMetrics = new CommandLocalizationMetrics();
+        pCommandLocalizationMetrics.setExecutor(commandLocalizationMetrics);
+        pCommandLocalizationMetrics.setTabCompleter(commandLocalizationMetrics);
+
+        final PluginCommand pCommandLocalizationReload = getCommand("localizationreload");
+        pCommandLocalizationReload.setExecutor(new CommandLocalizationReload());
+        pCommandLocalizationReload.setTabCompleter(TabCompleterEmpty.INSTANCE);
+
+        if (configuration.WATCH_LANGUAGE_FILES) {
+            try {
+                languageHandler.watchLanguageFiles();
+            } catch (IOException e) {
+                getLogger().warning("Could not watch language files for changes. Use /localizationreload " +
+                        "instead.");
+                e.printStackTrace();
+            }
+        }
     }
 
     @Override
@@ -109,8 +172,14 @@ public class HippOutLocalizationLib extends JavaPlugin {
     {
         getLogger().info("HippOutLocalizationLib has been disabled.");
 
-        if (configuration.SAVE_AND_LOAD_LOCALE_OVERRIDES)
-            saveLocaleCacheToDisk(Configuration.LOCALE_CACHE_FILE_NAME);
+        if (languageHandler != null) languageHandler.stopWatchingLanguageFiles();
+        if (broadcastDispatcher != null) broadcastDispatcher.close();
+
+        if (localeOverrideStore != null) {
+            // Closing first stops journaling, so that the final save leaves only the snapshot behind.
+            localeOverrideStore.close();
+            saveLocaleOverrides();
+        }
     }
 
     @Override
@@ -122,96 +191,100 @@ public class HippOutLocalizationLib extends JavaPlugin {
     // --------------- Helpers ---------------
 
     /**
-     * Saves the LocaleCache to disk.
+     * Saves the Locale Overrides on the calling thread. Used on shutdown, when async tasks can no longer run.
      *
-     * @param localeCacheFileName File Name to save to.
-     * @throws NullPointerException  if localeCacheFileName is null.
-     * @throws IllegalStateException if localeCacheFileName is empty.
      * @since 1.0.0
      */
-    private void saveLocaleCacheToDisk(@Nonnull String localeCacheFileName)
+    private void saveLocaleOverrides()
     {
-        Objects.requireNonNull(localeCacheFileName, "Locale Cache File Name cannot be null.");
-        if (localeCacheFileName.isEmpty())
-            throw new IllegalArgumentException("Locale Cache File Name cannot be empty.");
+        getLogger().info(String.format("Attempting to save Locale Cache to file %s.",
+                localeOverrideStore.getFile().getName()));
 
-        getLogger().info(String.format("Attempting to save Locale Cache to file %s.", localeCacheFileName));
-
-        // Load File
-        final File cacheFile = new File(getDataFolder(), localeCacheFileName);
-
-        boolean exists = cacheFile.exists();
-        if (!exists) {
-            try {
-                cacheFile.createNewFile();
-                exists = true;
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
+        try {
+            localeOverrideStore.save();
+        } catch (IOException e) {
+            getLogger().warning(String.format("Could not save Player Locale Overrides to file %s",
+                    localeOverrideStore.getFile().getName()));
+            e.printStackTrace();
         }
+    }
 
-        if (exists) {
-            if (cacheFile.canRead() && cacheFile.canWrite()) {
-                final YamlConfiguration localeCacheConfig = YamlConfiguration.loadConfiguration(cacheFile);
-                localeCacheConfig.options().header(Configuration.LOCALE_CACHE_HEADER);
-                localeCache.writeOverrides(localeCacheConfig);
+    /**
+     * Loads every language file in config.yml.
+     *
+     * @throws LocaleFormatException if a language file has a Locale with an invalid format.
+     * @since 1.0.0
+     */
+    private void loadLanguageFiles()
+    {
+        final LanguageLoader languageLoader = new LanguageLoader(this, LANGUAGE_DIRECTORY,
+                configuration.SUPPRESS_SECTION_WARNINGS, configuration.CACHE_LANGUAGE_BUNDLES);
 
-                try {
-                    localeCacheConfig.save(cacheFile);
-                } catch (IOException e) {
-                    getLogger().warning(String.format("Could not save Player Locale Overrides to file %s", localeCacheFileName));
-                    e.printStackTrace();
-                }
-            }
-        } else {
-            getLogger().warning(String.format("Could not find or create config file %s. Saving Locale Cache " +
-                    "aborted.", localeCacheFileName));
-        }
+        loadLanguageFiles(languageLoader, configuration.getLanguageFileDefinitions());
     }
 
     /**
-     * Loads the LocaleCache from disk.
+     * Loads the given language files. Files are read and parsed on a worker pool, then added to the LanguageHandler
+     * on this thread in the order they are listed, so the result never depends on which file finished parsing
+     * first. Files which could not be read are logged and skipped.
      *
-     * @param localeCacheFileName File Name to load from.
-     * @throws NullPointerException  if localeCacheFileName is null.
-     * @throws IllegalStateException if localeCacheFileName is empty.
+     * @param languageLoader LanguageLoader to parse and add the files with.
+     * @param fileNames      Language files to load, in order.
+     * @throws LocaleFormatException if a language file has a Locale with an invalid format.
      * @since 1.0.0
      */
-    private void loadLocaleCacheFromDisk(@Nonnull String localeCacheFileName)
+    void loadLanguageFiles(@Nonnull LanguageLoader languageLoader, @Nonnull List<String> fileNames)
     {
-        Objects.requireNonNull(localeCacheFileName, "Locale Cache File Name cannot be null.");
-        if (localeCacheFileName.isEmpty())
-            throw new IllegalArgumentException("Locale Cache File Name cannot be empty.");
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1,
+                Math.min(fileNames.size(), Runtime.getRuntime().availableProcessors())));
 
-        getLogger().info(String.format("Attempting to load Locale Cache from file %s.", localeCacheFileName));
+        try {
+            final List<Future<LanguageLoader.ParsedLanguageFile>> parsedFiles = new ArrayList<>(fileNames.size());
+            for (String fileName : fileNames)
+                parsedFiles.add(executor.submit(() -> languageLoader.parseLanguageFile(fileName)));
 
-        // Load file
-        final File configFile = new File(getDataFolder(), localeCacheFileName);
+            for (int i = 0; i < fileNames.size(); ++i) {
+                final String fileName = fileNames.get(i);
 
-        boolean exists = configFile.exists();
-        if (!exists) {
-            try {
-                configFile.createNewFile();
-                exists = true;
-            } catch (IOException e) {
-                e.printStackTrace();
+                try {
+                    languageLoader.addLanguageFile(parsedFiles.get(i).get());
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                    if (cause instanceof Error) throw (Error) cause;
+
+                    if (cause instanceof InvalidConfigurationException)
+                        getLogger().warning(fileName + " was not a valid YAML configuration file.");
+                    else
+                        getLogger().warning(fileName + " could not be found or loaded inside the languages " +
+                                "directory.");
+                    cause.printStackTrace();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while loading language files.", e);
+                }
             }
+        } finally {
+            executor.shutdownNow();
         }
+    }
 
-        if (exists) {
-            try {
-                final YamlConfiguration localeCacheConfig = new YamlConfiguration();
-                localeCacheConfig.load(configFile); // Load explicitly for exceptions.
+    /**
+     * Loads the Locale Overrides from disk.
+     *
+     * @since 1.0.0
+     */
+    private void loadLocaleOverrides()
+    {
+        getLogger().info(String.format("Attempting to load Locale Cache from file %s.",
+                localeOverrideStore.getFile().getName()));
 
-                this.localeCache.loadOverrides(localeCacheConfig);
-            } catch (IOException | InvalidConfigurationException e) {
-                getLogger().warning(String.format("Could not load Player Locale Overrides from file %s",
-                        localeCacheFileName));
-                e.printStackTrace();
-            }
-        } else {
-            getLogger().warning(String.format("Could not find or create config file %s. Loading Locale Cache " +
-                    "aborted.", localeCacheFileName));
+        try {
+            localeOverrideStore.load();
+        } catch (IOException | InvalidConfigurationException e) {
+            getLogger().warning(String.format("Could not load Player Locale Overrides from file %s",
+                    localeOverrideStore.getFile().getName()));
+            e.printStackTrace();
         }
     }
 
@@ -266,6 +339,18 @@ public class HippOutLocalizationLib extends JavaPlugin {
         return languageHandler;
     }
 
+    /**
+     * Returns the current LocaleTable, which assigns the Locale ordinals used by the LocaleCache.
+     *
+     * @return the current LocaleTable.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LocaleTable getLocaleTable()
+    {
+        return localeTable;
+    }
+
     /**
      * Returns the current LocaleCache.
      *
@@ -277,4 +362,66 @@ public class HippOutLocalizationLib extends JavaPlugin {
     {
         return localeCache;
     }
+
+    /**
+     * Returns the current LocaleOverrideStore, which can save the Locale Overrides on demand with saveAsync.
+     *
+     * @return the current LocaleOverrideStore, or null if config.yml/save_and_load_locale_overrides_to_file is
+     * disabled.
+     * @since 1.0.0
+     */
+    @Nullable
+    public LocaleOverrideStore getLocaleOverrideStore()
+    {
+        return localeOverrideStore;
+    }
+
+    /**
+     * Returns the current LocaleAudienceIndex.
+     *
+     * @return the current LocaleAudienceIndex.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LocaleAudienceIndex getLocaleAudienceIndex()
+    {
+        return localeAudienceIndex;
+    }
+
+    /**
+     * Returns the current BroadcastDispatcher.
+     *
+     * @return the current BroadcastDispatcher.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public BroadcastDispatcher getBroadcastDispatcher()
+    {
+        return broadcastDispatcher;
+    }
+
+    /**
+     * Returns the current LocalizedObjectRouter, which forwards Locale changes to the LocalizedObjects each Player
+     * is attached to.
+     *
+     * @return the current LocalizedObjectRouter.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LocalizedObjectRouter getLocalizedObjectRouter()
+    {
+        return localizedObjectRouter;
+    }
+
+    /**
+     * Returns the current LocalizationMetrics.
+     *
+     * @return the current LocalizationMetrics.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LocalizationMetrics getLocalizationMetrics()
+    {
+        return localizationMetrics;
+    }
 }
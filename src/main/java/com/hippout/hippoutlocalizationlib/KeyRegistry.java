@@ -29,6 +29,12 @@ public class KeyRegistry {
     public final NamespacedKey COM_REMLOCALEOVERRIDE_USAGE, COM_REMLOCALEOVERRIDE_SUCCESS,
             COM_REMLOCALEOVERRIDE_NO_OVERRIDE;
 
+    public final NamespacedKey COM_METRICS_USAGE, COM_METRICS_DISABLED, COM_METRICS_RESET, COM_METRICS_SUMMARY,
+            COM_METRICS_LOCALES_HEADER, COM_METRICS_NAMESPACES_HEADER, COM_METRICS_OUTCOMES,
+            COM_METRICS_LOOKUP_LATENCY, COM_METRICS_BROADCAST_LATENCY, COM_METRICS_RENDER_CACHE;
+
+    public final NamespacedKey COM_RELOAD_USAGE, COM_RELOAD_STARTED, COM_RELOAD_SUCCESS, COM_RELOAD_FAILURE;
+
     private final HippOutLocalizationLib plugin;
 
     /**
@@ -65,6 +71,22 @@ public class KeyRegistry {
         COM_REMLOCALEOVERRIDE_USAGE = getKey("command.removelocaleoverride.usage");
         COM_REMLOCALEOVERRIDE_SUCCESS = getKey("command.removelocaleoverride.success");
         COM_REMLOCALEOVERRIDE_NO_OVERRIDE = getKey("command.removelocaleoverride.no_override");
+
+        COM_METRICS_USAGE = getKey("command.localizationmetrics.usage");
+        COM_METRICS_DISABLED = getKey("command.localizationmetrics.disabled");
+        COM_METRICS_RESET = getKey("command.localizationmetrics.reset");
+        COM_METRICS_SUMMARY = getKey("command.localizationmetrics.summary");
+        COM_METRICS_LOCALES_HEADER = getKey("command.localizationmetrics.locales_header");
+        COM_METRICS_NAMESPACES_HEADER = getKey("command.localizationmetrics.namespaces_header");
+        COM_METRICS_OUTCOMES = getKey("command.localizationmetrics.outcomes");
+        COM_METRICS_LOOKUP_LATENCY = getKey("command.localizationmetrics.lookup_latency");
+        COM_METRICS_BROADCAST_LATENCY = getKey("command.localizationmetrics.broadcast_latency");
+        COM_METRICS_RENDER_CACHE = getKey("command.localizationmetrics.render_cache");
+
+        COM_RELOAD_USAGE = getKey("command.localizationreload.usage");
+        COM_RELOAD_STARTED = getKey("command.localizationreload.started");
+        COM_RELOAD_SUCCESS = getKey("command.localizationreload.success");
+        COM_RELOAD_FAILURE = getKey("command.localizationreload.failure");
     }
 
     /**
@@ -0,0 +1,244 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import com.hippout.hippoutlocalizationlib.*;
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.entity.*;
+import org.bukkit.scheduler.*;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+/**
+ * Queues broadcasts and sends them over as many ticks as needed to stay within a per-tick budget of time and
+ * messages, so that a broadcast to many Players does not stall a single tick.
+ * <p>
+ * Broadcasts are sent in the order they were dispatched, and the messages of each broadcast in the order of its
+ * recipients, so every recipient receives dispatched messages in order. Messages sent directly, such as by
+ * Macros.sendLocalized, are not queued and may overtake queued ones. Safe to dispatch from any thread. Messages
+ * are always sent on the main thread.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class BroadcastDispatcher {
+    private final HippOutLocalizationLib plugin;
+    private final long maxNanosPerTick;
+    private final int maxMessagesPerTick;
+
+    // Guarded by this
+    private final Deque<Broadcast> queue;
+    private BukkitTask drainTask;
+    private int queuedMessages;
+
+    /**
+     * Constructs a BroadcastDispatcher. At least one message is sent every tick, whatever the budget.
+     *
+     * @param plugin             HippOutLocalizationLib instance.
+     * @param maxNanosPerTick    Maximum nanoseconds spent sending messages each tick. 0 for no limit.
+     * @param maxMessagesPerTick Maximum messages sent each tick. 0 for no limit.
+     * @throws NullPointerException     if plugin is null.
+     * @throws IllegalArgumentException if maxNanosPerTick or maxMessagesPerTick is negative.
+     * @since 1.0.0
+     */
+    public BroadcastDispatcher(@Nonnull HippOutLocalizationLib plugin, long maxNanosPerTick,
+                               int maxMessagesPerTick)
+    {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
+        if (maxNanosPerTick < 0) throw new IllegalArgumentException("Time budget cannot be negative.");
+        if (maxMessagesPerTick < 0) throw new IllegalArgumentException("Message budget cannot be negative.");
+
+        this.maxNanosPerTick = maxNanosPerTick;
+        this.maxMessagesPerTick = maxMessagesPerTick;
+        queue = new ArrayDeque<>();
+        queuedMessages = 0;
+    }
+
+    /**
+     * Queues a broadcast. Sending starts on the next tick.
+     *
+     * @param recipients Recipients of the broadcast.
+     * @param messages   Message of each recipient, by index.
+     * @return A CompletableFuture completed on the main thread once every message was sent. If sending any message
+     * failed, it is completed exceptionally with the first failure once the rest were sent, and later failures are
+     * suppressed by it.
+     * @throws NullPointerException     if recipients, messages, or any of their elements is null.
+     * @throws IllegalArgumentException if recipients and messages differ in length.
+     * @api.Note Players which are offline by the time their message is sent are skipped.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public CompletableFuture<Void> dispatch(@Nonnull CommandSender[] recipients, @Nonnull String[] messages)
+    {
+        Objects.requireNonNull(recipients, "Recipients cannot be null.");
+        Objects.requireNonNull(messages, "Messages cannot be null.");
+        if (recipients.length != messages.length)
+            throw new IllegalArgumentException("Every recipient must have exactly one message.");
+
+        final Broadcast broadcast = new Broadcast(recipients.clone(), messages.clone());
+        for (int i = 0; i < broadcast.recipients.length; ++i) {
+            Objects.requireNonNull(broadcast.recipients[i], "Recipient cannot be null.");
+            Objects.requireNonNull(broadcast.messages[i], "Message cannot be null.");
+        }
+
+        if (broadcast.recipients.length == 0) {
+            broadcast.future.complete(null);
+            return broadcast.future;
+        }
+
+        synchronized (this) {
+            queue.addLast(broadcast);
+            queuedMessages += broadcast.recipients.length;
+
+            if (drainTask == null)
+                drainTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+        }
+
+        return broadcast.future;
+    }
+
+    /**
+     * Sends queued messages until the budget of this tick is spent. Stops the drain task once the queue is empty.
+     * Called on the main thread.
+     *
+     * @since 1.0.0
+     */
+    private void drain()
+    {
+        final long start = System.nanoTime();
+        int sent = 0;
+
+        while (true) {
+            final Broadcast broadcast;
+            synchronized (this) {
+                broadcast = queue.peekFirst();
+                if (broadcast == null) {
+                    drainTask.cancel();
+                    drainTask = null;
+                    return;
+                }
+            }
+
+            if (sent > 0 && ((maxMessagesPerTick > 0 && sent >= maxMessagesPerTick) ||
+                    (maxNanosPerTick > 0 && System.nanoTime() - start >= maxNanosPerTick)))
+                return;
+
+            final boolean finished = sendNext(broadcast);
+            ++sent;
+
+            synchronized (this) {
+                --queuedMessages;
+                if (finished) {
+                    queue.pollFirst();
+                    queuedMessages -= broadcast.recipients.length - broadcast.next;
+                }
+            }
+
+            if (finished) complete(broadcast);
+        }
+    }
+
+    /**
+     * Sends the next message of a broadcast. A recipient which fails to receive its message is logged and skipped,
+     * and the failure is kept to complete the broadcast with.
+     *
+     * @param broadcast Broadcast to send from.
+     * @return True if the broadcast has no more messages to send, else false.
+     * @since 1.0.0
+     */
+    private boolean sendNext(@Nonnull Broadcast broadcast)
+    {
+        final int index = broadcast.next++;
+        final CommandSender recipient = broadcast.recipients[index];
+
+        try {
+            if (!(recipient instanceof Player) || ((Player) recipient).isOnline())
+                recipient.sendMessage(broadcast.messages[index]);
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not send a broadcast message to " + recipient.getName() +
+                    ".", e);
+
+            if (broadcast.failure == null) broadcast.failure = e;
+            else broadcast.failure.addSuppressed(e);
+        }
+
+        return broadcast.next == broadcast.recipients.length;
+    }
+
+    /**
+     * Completes the future of a broadcast which has no more messages to send, exceptionally if any of them failed.
+     *
+     * @param broadcast Broadcast to complete.
+     * @since 1.0.0
+     */
+    private static void complete(@Nonnull Broadcast broadcast)
+    {
+        if (broadcast.failure != null) broadcast.future.completeExceptionally(broadcast.failure);
+        else broadcast.future.complete(null);
+    }
+
+    /**
+     * Sends every queued message at once and stops draining. Called on the main thread when the plugin is
+     * disabled.
+     *
+     * @since 1.0.0
+     */
+    public void close()
+    {
+        final List<Broadcast> remaining;
+        synchronized (this) {
+            if (drainTask != null) {
+                drainTask.cancel();
+                drainTask = null;
+            }
+
+            remaining = new ArrayList<>(queue);
+            queue.clear();
+            queuedMessages = 0;
+        }
+
+        for (Broadcast broadcast : remaining) {
+            boolean finished = false;
+            while (!finished)
+                finished = sendNext(broadcast);
+
+            complete(broadcast);
+        }
+    }
+
+    /**
+     * Returns the number of messages waiting to be sent.
+     *
+     * @return The number of queued messages.
+     * @since 1.0.0
+     */
+    public synchronized int getQueuedMessages()
+    {
+        return queuedMessages;
+    }
+
+    /**
+     * A queued broadcast, the index of its next message and its first failure. The index and failure are only used
+     * on the main thread.
+     *
+     * @since 1.0.0
+     */
+    private static final class Broadcast {
+        private final CommandSender[] recipients;
+        private final String[] messages;
+        private final CompletableFuture<Void> future;
+        private int next;
+        private RuntimeException failure;
+
+        private Broadcast(@Nonnull CommandSender[] recipients, @Nonnull String[] messages)
+        {
+            this.recipients = recipients;
+            this.messages = messages;
+            this.future = new CompletableFuture<>();
+            this.next = 0;
+        }
+    }
+}
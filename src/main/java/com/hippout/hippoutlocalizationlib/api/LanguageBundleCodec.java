@@ -0,0 +1,219 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**
+ * Reads and writes parsed language files as binary bundles, so that unchanged language files can be loaded without
+ * parsing their YAML again.
+ * <p>
+ * A bundle stores the SHA-256 of the source file it was built from. It is only used while the source file still
+ * has that hash, so editing a language file always rebuilds its bundle. All numbers are big-endian.
+ * </p>
+ * <pre>
+ * int    magic "HOLB"
+ * short  format version
+ * byte[32] SHA-256 of the source file
+ * ushort Locale count, then per Locale: ushort length, UTF-8 bytes
+ * int    message count, then per message: ushort key length, UTF-8 key, int message length, UTF-8 message
+ * int    CRC32
+ * </pre>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class LanguageBundleCodec {
+    private static final int MAGIC = 0x484F4C42;
+    private static final short VERSION = 1;
+    private static final int HASH_BYTES = 32;
+
+    /**
+     * Prevents instantiation.
+     */
+    private LanguageBundleCodec()
+    {
+    }
+
+    /**
+     * Returns the SHA-256 of the given source file contents.
+     *
+     * @param source Contents of a language file.
+     * @return The SHA-256 of source.
+     * @since 1.0.0
+     */
+    @Nonnull
+    static byte[] hash(@Nonnull byte[] source)
+    {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(source);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    /**
+     * Encodes a parsed language file.
+     *
+     * @param languageFile Parsed language file to encode.
+     * @param sourceHash   SHA-256 of the source file languageFile was parsed from.
+     * @return The encoded bundle.
+     * @throws IllegalArgumentException if a Locale, key or message is too long, or there are too many Locales.
+     * @since 1.0.0
+     */
+    @Nonnull
+    static byte[] encode(@Nonnull LanguageLoader.ParsedLanguageFile languageFile, @Nonnull byte[] sourceHash)
+    {
+        if (sourceHash.length != HASH_BYTES) throw new IllegalArgumentException("Source hash must be SHA-256.");
+        if (languageFile.locales.length > 0xFFFF)
+            throw new IllegalArgumentException("Too many Locales to encode.");
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + languageFile.messages.size() * 64);
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        try {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.write(sourceHash);
+
+            out.writeShort(languageFile.locales.length);
+            for (String locale : languageFile.locales)
+                writeString(out, locale, false);
+
+            out.writeInt(languageFile.messages.size());
+            for (Map.Entry<String, String> entry : languageFile.messages.entrySet()) {
+                writeString(out, entry.getKey(), false);
+                writeString(out, entry.getValue(), true);
+            }
+
+            final CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // ByteArrayOutputStream does not throw.
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a bundle, if it was built from a source file with the given hash. The bundle is read into memory rather
+     * than mapped, so that a stale bundle can be rewritten as soon as this returns.
+     *
+     * @param file       Bundle to read.
+     * @param fileName   Name of the source file, given to the returned ParsedLanguageFile.
+     * @param sourceHash SHA-256 of the current source file.
+     * @return The parsed language file, or null if the bundle was built from a different source file.
+     * @throws IOException if the bundle could not be read, or is not a valid bundle.
+     * @since 1.0.0
+     */
+    @Nullable
+    static LanguageLoader.ParsedLanguageFile read(@Nonnull Path file, @Nonnull String fileName,
+                                                  @Nonnull byte[] sourceHash) throws IOException
+    {
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(file)), file, fileName, sourceHash);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException(file.getFileName() + " is truncated.", e);
+        }
+    }
+
+    /**
+     * Decodes a bundle.
+     *
+     * @param buffer     Buffer holding the whole bundle.
+     * @param file       Bundle being decoded, for error messages.
+     * @param fileName   Name of the source file.
+     * @param sourceHash SHA-256 of the current source file.
+     * @return The parsed language file, or null if the bundle was built from a different source file.
+     * @throws IOException if the buffer is not a valid bundle.
+     * @since 1.0.0
+     */
+    @Nullable
+    private static LanguageLoader.ParsedLanguageFile decode(@Nonnull ByteBuffer buffer, @Nonnull Path file,
+                                                            @Nonnull String fileName, @Nonnull byte[] sourceHash)
+            throws IOException
+    {
+        if (buffer.getInt() != MAGIC)
+            throw new IOException(file.getFileName() + " is not a language bundle.");
+
+        // Bundles of other versions are rebuilt rather than rejected, like bundles of other source files.
+        if (buffer.getShort() != VERSION) return null;
+
+        final byte[] hash = new byte[HASH_BYTES];
+        buffer.get(hash);
+        if (!Arrays.equals(hash, sourceHash)) return null;
+
+        final int end = buffer.limit() - 4;
+        final CRC32 crc = new CRC32();
+        crc.update((ByteBuffer) ((Buffer) buffer.duplicate()).position(0).limit(end));
+        if ((int) crc.getValue() != buffer.getInt(end))
+            throw new IOException(file.getFileName() + " is corrupt. Its checksum does not match.");
+
+        final String[] locales = new String[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < locales.length; ++i)
+            locales[i] = readString(buffer, buffer.getShort() & 0xFFFF);
+
+        final int count = buffer.getInt();
+        if (count < 0)
+            throw new IOException(String.format("%s has an invalid message count %d.", file.getFileName(), count));
+
+        final Map<String, String> messages = new LinkedHashMap<>((int) (count / 0.75f) + 1);
+        for (int i = 0; i < count; ++i) {
+            final String key = readString(buffer, buffer.getShort() & 0xFFFF);
+            messages.put(key, readString(buffer, buffer.getInt()));
+        }
+
+        if (buffer.position() != end)
+            throw new IOException(file.getFileName() + " has trailing bytes.");
+
+        return new LanguageLoader.ParsedLanguageFile(fileName, locales, messages);
+    }
+
+    /**
+     * Writes a length-prefixed UTF-8 String.
+     *
+     * @param out       Stream to write to.
+     * @param string    String to write.
+     * @param intLength Whether the length is an int rather than an unsigned short.
+     * @throws IOException              if out throws.
+     * @throws IllegalArgumentException if string is too long for an unsigned short length.
+     * @since 1.0.0
+     */
+    private static void writeString(@Nonnull DataOutputStream out, @Nonnull String string, boolean intLength)
+            throws IOException
+    {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        if (intLength) {
+            out.writeInt(bytes.length);
+        } else {
+            if (bytes.length > 0xFFFF)
+                throw new IllegalArgumentException("String is too long to encode: " + string);
+            out.writeShort(bytes.length);
+        }
+
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a UTF-8 String.
+     *
+     * @param buffer Buffer to read from.
+     * @param length Length of the String in bytes.
+     * @return The String read.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static String readString(@Nonnull ByteBuffer buffer, int length)
+    {
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -2,7 +2,7 @@ package com.hippout.hippoutlocalizationlib.api;
 
 import com.hippout.hippoutlocalizationlib.Configuration;
 import com.hippout.hippoutlocalizationlib.*;
-import com.hippout.hippoutlocalizationlib.language.*;
+import com.hippout.hippoutlocalizationlib.exceptions.*;
 import com.hippout.hippoutlocalizationlib.util.*;
 import org.bukkit.*;
 import org.bukkit.configuration.*;
@@ -11,6 +11,8 @@ import org.bukkit.plugin.java.*;
 
 import javax.annotation.*;
 import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
 
 /**
@@ -20,10 +22,16 @@ import java.util.*;
  * @since 1.0.0
  */
 public class LanguageLoader {
+    public static final String BUNDLE_CACHE_DIRECTORY = "language_bundles";
+    private static final String BUNDLE_SUFFIX = ".bundle";
+
     private final JavaPlugin plugin;
     private final boolean suppressSectionWarnings;
     private final String languageDirectory;
 
+    // Null unless bundles are cached.
+    private final Path bundleDirectory;
+
     /**
      * Constructs a LanguageLoader with the given JavaPlugin as its parent.
      *
@@ -38,10 +46,34 @@ public class LanguageLoader {
      * @since 1.0.0
      */
     public LanguageLoader(@Nonnull JavaPlugin plugin, @Nonnull String languageDirectoryName, boolean suppressSectionWarnings)
+    {
+        this(plugin, languageDirectoryName, suppressSectionWarnings, false);
+    }
+
+    /**
+     * Constructs a LanguageLoader with the given JavaPlugin as its parent, optionally caching parsed language
+     * files as binary bundles in the BUNDLE_CACHE_DIRECTORY of the plugin's data folder.
+     *
+     * @param plugin                  Parent JavaPlugin of this LanguageLoader. See API Note.
+     * @param languageDirectoryName   Directory to load language resources from.
+     * @param suppressSectionWarnings Whether or not to suppress warnings usually sent when the LanguageLoader
+     *                                encounters a non-String value.
+     * @param cacheBundles            Whether or not to load unchanged language files from their cached bundles
+     *                                instead of parsing them.
+     * @throws NullPointerException if plugin or languageDirectoryName is null.
+     * @api.Note Warnings for empty messages and non-String values are only sent when a bundle is built.
+     * @api.Note Do NOT use HippOutLocalizationLib when using this as an API. For internal use only.
+     * @since 1.0.0
+     */
+    public LanguageLoader(@Nonnull JavaPlugin plugin, @Nonnull String languageDirectoryName,
+                          boolean suppressSectionWarnings, boolean cacheBundles)
     {
         this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
+        Objects.requireNonNull(languageDirectoryName, "Language Directory Name cannot be null.");
         this.languageDirectory = plugin.getDataFolder() + File.separator + languageDirectoryName;
         this.suppressSectionWarnings = suppressSectionWarnings;
+        this.bundleDirectory = cacheBundles ? Paths.get(plugin.getDataFolder().getPath(), BUNDLE_CACHE_DIRECTORY,
+                languageDirectoryName) : null;
     }
 
     /**
@@ -57,49 +89,179 @@ public class LanguageLoader {
      * @since 1.0.0
      */
     public List<NamespacedKey> loadLanguageFile(@Nonnull String fileName) throws IOException, InvalidConfigurationException
+    {
+        return addLanguageFile(parseLanguageFile(fileName));
+    }
+
+    /**
+     * Reads and parses the requested file from the plugin's specified language directory without adding its
+     * messages to HippOutLocalizationLib. Safe to call from any thread, so that many files can be parsed at once.
+     * If bundles are cached and the file is unchanged since its bundle was built, the bundle is read instead.
+     *
+     * @param fileName Language file to parse.
+     * @return The parsed language file, to be passed to addLanguageFile.
+     * @throws NullPointerException          if fileName is null.
+     * @throws IllegalArgumentException      if fileName is empty.
+     * @throws IOException                   if config.load fails to load the requested file.
+     * @throws InvalidConfigurationException if config.load can load the requested file but it is not a valid YAML file.
+     * @throws LocaleFormatException         if API_REGEX_LOCALE_TESTS are enabled and a Locale of the file is not
+     *                                       a valid format.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public ParsedLanguageFile parseLanguageFile(@Nonnull String fileName) throws IOException,
+            InvalidConfigurationException
     {
         Objects.requireNonNull(fileName, "File Name cannot be null.");
         if (fileName.isEmpty()) throw new IllegalArgumentException("File Name cannot be empty.");
 
-        final YamlConfiguration fc = loadLanguageConfig(fileName);
+        if (bundleDirectory != null) return parseLanguageFileCached(fileName);
+
+        return parseLanguageConfig(fileName, loadLanguageConfig(fileName));
+    }
+
+    /**
+     * Reads the bundle of the requested file if the file is unchanged since it was built. Otherwise, parses the
+     * file and builds its bundle.
+     *
+     * @param fileName Language file to parse.
+     * @return The parsed language file.
+     * @throws IOException                   if the requested file could not be read.
+     * @throws InvalidConfigurationException if the requested file is not a valid YAML file.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private ParsedLanguageFile parseLanguageFileCached(@Nonnull String fileName) throws IOException,
+            InvalidConfigurationException
+    {
+        final File configFile = new File(languageDirectory, fileName);
+
+        if (!configFile.exists())
+            throw new FileNotFoundException("Could not find requested file: " + configFile.getPath());
+
+        final byte[] source = Files.readAllBytes(configFile.toPath());
+        final byte[] sourceHash = LanguageBundleCodec.hash(source);
+        final Path bundle = bundleDirectory.resolve(fileName + BUNDLE_SUFFIX);
+
+        if (Files.exists(bundle)) {
+            try {
+                final ParsedLanguageFile cached = LanguageBundleCodec.read(bundle, fileName, sourceHash);
+                if (cached != null) {
+                    validateLocales(cached.locales);
+                    return cached;
+                }
+            } catch (IOException e) {
+                plugin.getLogger().warning(String.format("Could not read language bundle %s. Rebuilding it. %s",
+                        bundle.getFileName(), e.getMessage()));
+            }
+        }
+
+        final YamlConfiguration languageConfig = new YamlConfiguration();
+        languageConfig.loadFromString(new String(source, StandardCharsets.UTF_8));
+
+        final ParsedLanguageFile parsed = parseLanguageConfig(fileName, languageConfig);
+
+        try {
+            writeBundle(bundle, LanguageBundleCodec.encode(parsed, sourceHash));
+        } catch (IOException | IllegalArgumentException e) {
+            plugin.getLogger().warning(String.format("Could not write language bundle %s. %s",
+                    bundle.getFileName(), e.getMessage()));
+        }
 
+        return parsed;
+    }
+
+    /**
+     * Writes a bundle through a temporary file, so that a bundle is never seen half-written.
+     *
+     * @param bundle   Bundle to write.
+     * @param contents Encoded bundle.
+     * @throws IOException if the bundle could not be written.
+     * @since 1.0.0
+     */
+    private static void writeBundle(@Nonnull Path bundle, @Nonnull byte[] contents) throws IOException
+    {
+        final Path directory = bundle.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        final Path tempFile = Files.createTempFile(directory, bundle.getFileName().toString(), ".tmp");
+        try {
+            Files.write(tempFile, contents);
+
+            try {
+                Files.move(tempFile, bundle, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, bundle, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Parses a loaded language file.
+     *
+     * @param fileName Name of the language file.
+     * @param fc       The loaded language file.
+     * @return The parsed language file.
+     * @throws NullPointerException if the language file has no messages section.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private ParsedLanguageFile parseLanguageConfig(@Nonnull String fileName, @Nonnull YamlConfiguration fc)
+    {
         final String[] locales = fc.getStringList("config.locales").toArray(new String[0]);
 
         final ConfigurationSection messageSection = Objects.requireNonNull(fc.getConfigurationSection("messages"),
                 "ConfigurationSection messageSection could not be found in language file " + fileName);
 
-        return loadLanguage(messageSection, locales);
+        return parseLanguage(fileName, messageSection, locales);
+    }
+
+    /**
+     * Adds the messages of a parsed language file to HippOutLocalizationLib with the file's defined Locales. Must
+     * be called on the main thread. Adding parsed files in the same order always gives the same result, regardless
+     * of the order they were parsed in. Reloads of the LanguageHandler parse the file again through this
+     * LanguageLoader.
+     *
+     * @param languageFile Parsed language file to add.
+     * @return A List of all generated NamespacedKeys which were successfully added to the LanguageHandler.
+     * @throws NullPointerException if languageFile is null.
+     * @since 1.0.0
+     */
+    public List<NamespacedKey> addLanguageFile(@Nonnull ParsedLanguageFile languageFile)
+    {
+        Objects.requireNonNull(languageFile, "Language File cannot be null.");
+
+        // Messages already in a Language are kept, with a warning, so the first file added wins.
+        return HippOutLocalizationLib.getPlugin().getLanguageHandler().addLanguageFile(this, languageFile);
     }
 
     /**
-     * Loads a ConfigurationSection as a Language. All String keys (including in sub-sections) are added.
+     * Parses a ConfigurationSection as a Language. All String keys (including in sub-sections) are kept.
      *
+     * @param fileName        Name of the file the section was loaded from.
      * @param languageSection A ConfigurationSection containing all language keys to parse.
-     * @param locales         An Array of Locale aliases for this LanguageLoader to add its messages to.
-     * @return A List of the NamespacedKeys created or found by this method which were added with Messages.
+     * @param locales         An Array of Locale aliases for the messages of this Language.
+     * @return The parsed language file.
      * @throws NullPointerException     if languageSection or locales are null.
      * @throws IllegalArgumentException if locales is empty.
      * @since 1.0.0
      */
-    private List<NamespacedKey> loadLanguage(@Nonnull ConfigurationSection languageSection, @Nonnull String... locales)
+    private ParsedLanguageFile parseLanguage(@Nonnull String fileName,
+                                             @Nonnull ConfigurationSection languageSection,
+                                             @Nonnull String... locales)
     {
         Objects.requireNonNull(languageSection, "LanguageSection cannot be null.");
         Objects.requireNonNull(locales, "Locales cannot be null.");
         if (locales.length < 1) throw new IllegalArgumentException("Locales cannot be empty.");
 
-        final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
-        final Configuration config = HippOutLocalizationLib.getPlugin().getConfiguration();
-
-        if (config.API_REGEX_LOCALE_TESTS)
-            for (String locale : locales)
-                ValidationUtil.validateLocale(locale);
+        validateLocales(locales);
 
-        final Set<String> keys = languageSection.getKeys(true);
-        final List<NamespacedKey> messageKeys = new ArrayList<>(keys.size());
+        final Map<String, String> messages = new LinkedHashMap<>();
 
         for (Map.Entry<String, Object> entry : languageSection.getValues(true).entrySet()) {
             if (entry.getValue() instanceof String) {
-                final String key = entry.getKey();
                 final String message = (String) entry.getValue();
 
                 if (message.isEmpty()) {
@@ -108,12 +270,7 @@ public class LanguageLoader {
                     continue;
                 }
 
-                // This avoids duplicate NamespacedKeys
-                final NamespacedKey messageKey = languageHandler.getKey(plugin, key);
-
-                // This will throw an exception if the message already exists. Fail-fast in this situation.
-                languageHandler.addLocalizedMessage(messageKey, message, locales);
-                messageKeys.add(messageKey);
+                messages.put(entry.getKey(), message);
             } else {
                 if (!suppressSectionWarnings)
                     plugin.getLogger().warning(String.format("Non-message tag in language section %s: %s. Ignoring.",
@@ -121,7 +278,23 @@ public class LanguageLoader {
             }
         }
 
-        return messageKeys;
+        return new ParsedLanguageFile(fileName, locales, messages);
+    }
+
+    /**
+     * Validates the given Locales if API_REGEX_LOCALE_TESTS are enabled.
+     *
+     * @param locales Locales to validate.
+     * @throws LocaleFormatException if API_REGEX_LOCALE_TESTS are enabled and a Locale is not a valid format.
+     * @since 1.0.0
+     */
+    private static void validateLocales(@Nonnull String[] locales)
+    {
+        final Configuration config = HippOutLocalizationLib.getPlugin().getConfiguration();
+
+        if (config.API_REGEX_LOCALE_TESTS)
+            for (String locale : locales)
+                ValidationUtil.validateLocale(locale);
     }
 
     /**
@@ -163,4 +336,96 @@ public class LanguageLoader {
     {
         return plugin;
     }
+
+    /**
+     * Returns the requested file in the plugin's specified language directory.
+     *
+     * @param fileName Name of the language file.
+     * @return The requested language file.
+     * @throws NullPointerException if fileName is null.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public File getLanguageFile(@Nonnull String fileName)
+    {
+        Objects.requireNonNull(fileName, "File Name cannot be null.");
+
+        return new File(languageDirectory, fileName);
+    }
+
+    /**
+     * A language file which has been read and parsed, but whose messages have not yet been added to
+     * HippOutLocalizationLib. Immutable.
+     *
+     * @author Wyatt Kalmer
+     * @since 1.0.0
+     */
+    public static final class ParsedLanguageFile {
+        private final String fileName;
+        final String[] locales;
+        final Map<String, String> messages;
+
+        /**
+         * Constructs a ParsedLanguageFile.
+         *
+         * @param fileName Name of the parsed file.
+         * @param locales  Locales of the parsed file.
+         * @param messages Map of message keys to messages, in file order.
+         * @since 1.0.0
+         */
+        ParsedLanguageFile(@Nonnull String fileName, @Nonnull String[] locales,
+                                   @Nonnull Map<String, String> messages)
+        {
+            this.fileName = fileName;
+            this.locales = locales.clone();
+            this.messages = Collections.unmodifiableMap(messages);
+        }
+
+        /**
+         * Returns the name of the parsed file.
+         *
+         * @return The name of the parsed file.
+         * @since 1.0.0
+         */
+        @Nonnull
+        public String getFileName()
+        {
+            return fileName;
+        }
+
+        /**
+         * Returns the Locales of the parsed file.
+         *
+         * @return A copy of the Locales of the parsed file.
+         * @since 1.0.0
+         */
+        @Nonnull
+        public String[] getLocales()
+        {
+            return locales.clone();
+        }
+
+        /**
+         * Returns the messages of the parsed file.
+         *
+         * @return An unmodifiable Map of message keys to messages, in file order.
+         * @since 1.0.0
+         */
+        @Nonnull
+        public Map<String, String> getMessages()
+        {
+            return messages;
+        }
+
+        /**
+         * Returns the number of messages in the parsed file.
+         *
+         * @return The number of messages in the parsed file.
+         * @since 1.0.0
+         */
+        public int getMessageCount()
+        {
+            return messages.size();
+        }
+    }
 }
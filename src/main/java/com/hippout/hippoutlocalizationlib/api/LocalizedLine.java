@@ -0,0 +1,83 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import org.bukkit.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * One line of a batch sent by Macros.sendLocalizedLines: a message key and the arguments to format it with.
+ * LocalizedLines are immutable, so frequently sent pages can be built once and reused.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class LocalizedLine {
+    private final NamespacedKey messageKey;
+    private final Object[] formatArgs;
+
+    /**
+     * Constructs a LocalizedLine.
+     *
+     * @param messageKey Message Key of the line.
+     * @param formatArgs String formatting arguments. Copied.
+     * @throws NullPointerException if messageKey or formatArgs is null.
+     * @since 1.0.0
+     */
+    private LocalizedLine(@Nonnull NamespacedKey messageKey, @Nonnull Object[] formatArgs)
+    {
+        this.messageKey = Objects.requireNonNull(messageKey, "Message Key cannot be null.");
+        this.formatArgs = Objects.requireNonNull(formatArgs, "Format Args cannot be null.").clone();
+    }
+
+    /**
+     * Creates a LocalizedLine.
+     *
+     * @param messageKey Message Key of the line.
+     * @param formatArgs String formatting arguments.
+     * @return A new LocalizedLine.
+     * @throws NullPointerException if messageKey or formatArgs is null.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public static LocalizedLine of(@Nonnull NamespacedKey messageKey, @Nonnull Object... formatArgs)
+    {
+        return new LocalizedLine(messageKey, formatArgs);
+    }
+
+    /**
+     * Returns the Message Key of this LocalizedLine.
+     *
+     * @return The Message Key of this LocalizedLine.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public NamespacedKey getMessageKey()
+    {
+        return messageKey;
+    }
+
+    /**
+     * Returns the String formatting arguments of this LocalizedLine.
+     *
+     * @return A copy of the String formatting arguments.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Object[] getFormatArgs()
+    {
+        return formatArgs.clone();
+    }
+
+    /**
+     * Returns the String formatting arguments of this LocalizedLine without copying them.
+     *
+     * @return The String formatting arguments. Must not be modified.
+     * @since 1.0.0
+     */
+    @Nonnull
+    Object[] formatArgs()
+    {
+        return formatArgs;
+    }
+}
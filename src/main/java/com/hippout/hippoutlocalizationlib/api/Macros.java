@@ -10,6 +10,7 @@ import org.bukkit.entity.*;
 
 import javax.annotation.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A utility class for external-facing API macro functionality. While none of this is technically required, it makes
@@ -31,6 +32,7 @@ public class Macros {
      * @throws NullPointerException     if MessageKey, Players, or formatArgs is null.
      * @throws IllegalArgumentException if Recipients is empty.
      * @api.Note The String formatting arguments are only formatted once per Locale to save on processing time.
+     * Messages are grouped by Locale ordinal, so no Locale String is hashed per recipient.
      * @since 1.0.0
      */
     public static void broadcastLocalized(@Nonnull NamespacedKey messageKey,
@@ -42,31 +44,56 @@ public class Macros {
         Objects.requireNonNull(recipients, "Recipients cannot be null.");
         if (recipients.isEmpty()) throw new IllegalArgumentException("Recipients cannot be empty.");
 
-        final Map<String, String> messageMap = new HashMap<>();
+        final long start = System.nanoTime();
         final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
-        final LocaleCache localeCache = HippOutLocalizationLib.getPlugin().getLocaleCache();
+        final LocaleTable localeTable = HippOutLocalizationLib.getPlugin().getLocaleTable();
+        final int messageId = languageHandler.getMessageId(messageKey);
 
         // Cache console language here because it's faster than finding the same message twice later.
-        MessageReturnWrapper consoleMessageWrapper = languageHandler.getConsoleMessage(messageKey);
-        String consoleMessage = String.format(consoleMessageWrapper.getMessage(), formatArgs);
-        messageMap.put(consoleMessageWrapper.getLocale(), consoleMessage);
+        final String consoleLocale = HippOutLocalizationLib.getPlugin().getConfiguration().CONSOLE_LOCALE;
+        final String consoleMessage = broadcastToConsole(languageHandler, consoleLocale, messageId, formatArgs);
+        final int consoleOrdinal = localeTable.register(consoleLocale);
 
-        if (HippOutLocalizationLib.getPlugin().getConfiguration().SEND_BROADCASTS_TO_CONSOLE)
-            HippOutLocalizationLib.getPlugin().getLogger().info(BROADCAST_HEADER + consoleMessage);
+        String[] messages = new String[localeTable.size()]; // Indexed by Locale ordinal
+        messages[consoleOrdinal] = consoleMessage;
 
         for (CommandSender sender : recipients) {
-            final String locale = getLocale(sender);
-
-            String message;
-            if (messageMap.containsKey(locale))
-                message = messageMap.get(locale);
-            else {
-                message = StringUtils.format(languageHandler.getLocalizedMessage(locale, messageKey).getMessage(), formatArgs);
-                messageMap.put(locale, message);
+            final int ordinal = getLocaleOrdinal(sender);
+            if (ordinal >= messages.length) messages = Arrays.copyOf(messages, localeTable.size());
+
+            String message = messages[ordinal];
+            if (message == null) {
+                message = languageHandler.getFormattedMessage(localeTable.getLocale(ordinal), messageId,
+                        formatArgs);
+                messages[ordinal] = message;
             }
 
             sender.sendMessage(message);
         }
+
+        HippOutLocalizationLib.getPlugin().getLocalizationMetrics().recordBroadcast(System.nanoTime() - start);
+    }
+
+    /**
+     * Formats a broadcast in the console Locale and logs it if config.yml/send_broadcasts_to_console is enabled.
+     *
+     * @param languageHandler LanguageHandler to fetch the message from.
+     * @param consoleLocale   Locale of the console.
+     * @param messageId       Message ID of the broadcast.
+     * @param formatArgs      String Formatting arguments.
+     * @return The formatted console message.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static String broadcastToConsole(@Nonnull LanguageHandler languageHandler, @Nonnull String consoleLocale,
+                                             int messageId, @Nonnull Object... formatArgs)
+    {
+        final String consoleMessage = languageHandler.getFormattedMessage(consoleLocale, messageId, formatArgs);
+
+        if (HippOutLocalizationLib.getPlugin().getConfiguration().SEND_BROADCASTS_TO_CONSOLE)
+            HippOutLocalizationLib.getPlugin().getLogger().info(BROADCAST_HEADER + consoleMessage);
+
+        return consoleMessage;
     }
 
     /**
@@ -102,6 +129,7 @@ public class Macros {
      * @param formatArgs String Formatting arguments.
      * @throws NullPointerException if MessageKey or formatArgs is null.
      * @api.Note The String formatting arguments are only formatted once per Locale to save on processing time.
+     * Players are already grouped by Locale in the LocaleAudienceIndex, so no Player's Locale is looked up.
      * @api.Note Ends silently if no Players are online.
      * @since 1.0.0
      */
@@ -110,9 +138,121 @@ public class Macros {
         Objects.requireNonNull(messageKey, "Message Key cannot be null.");
         Objects.requireNonNull(formatArgs, "Format Args cannot be null.");
 
-        Collection<? extends Player> onlinePlayers = Bukkit.getOnlinePlayers();
-        if (onlinePlayers.size() > 0)
-            broadcastLocalized(messageKey, onlinePlayers, formatArgs);
+        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
+        final LocaleAudienceIndex audienceIndex = plugin.getLocaleAudienceIndex();
+        if (audienceIndex.isEmpty()) return;
+
+        final long start = System.nanoTime();
+        final LanguageHandler languageHandler = plugin.getLanguageHandler();
+        final int messageId = languageHandler.getMessageId(messageKey);
+
+        broadcastToConsole(languageHandler, plugin.getConfiguration().CONSOLE_LOCALE, messageId, formatArgs);
+
+        audienceIndex.forEachAudience((locale, audience) -> {
+            final String message = languageHandler.getFormattedMessage(locale, messageId, formatArgs);
+
+            for (Player player : audience)
+                player.sendMessage(message);
+        });
+
+        plugin.getLocalizationMetrics().recordBroadcast(System.nanoTime() - start);
+    }
+
+    /**
+     * Queues a Localized Message for the given Collection of CommandSenders in the BroadcastDispatcher, which
+     * sends it over as many ticks as its budget in config.yml/broadcast_dispatcher requires. Logs it to the
+     * Console at once.
+     *
+     * @param messageKey Message Key to send.
+     * @param recipients CommandSenders to broadcast to, in the order to send to them.
+     * @param formatArgs String Formatting arguments.
+     * @return A CompletableFuture completed on the main thread once every recipient was sent the message.
+     * @throws NullPointerException     if MessageKey, recipients, or formatArgs is null.
+     * @throws IllegalArgumentException if recipients is empty.
+     * @api.Note Messages are formatted once per Locale when this is called, not when they are sent.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public static CompletableFuture<Void> dispatchLocalized(
+            @Nonnull NamespacedKey messageKey, @Nonnull Collection<? extends CommandSender> recipients,
+            @Nonnull Object... formatArgs)
+    {
+        Objects.requireNonNull(messageKey, "Message Key cannot be null.");
+        Objects.requireNonNull(formatArgs, "Format Args cannot be null.");
+        Objects.requireNonNull(recipients, "Recipients cannot be null.");
+        if (recipients.isEmpty()) throw new IllegalArgumentException("Recipients cannot be empty.");
+
+        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
+        final LanguageHandler languageHandler = plugin.getLanguageHandler();
+        final LocaleTable localeTable = plugin.getLocaleTable();
+        final int messageId = languageHandler.getMessageId(messageKey);
+
+        broadcastToConsole(languageHandler, plugin.getConfiguration().CONSOLE_LOCALE, messageId, formatArgs);
+
+        final CommandSender[] senders = recipients.toArray(new CommandSender[0]);
+        final String[] messages = new String[senders.length];
+        String[] localeMessages = new String[localeTable.size()]; // Indexed by Locale ordinal
+
+        for (int i = 0; i < senders.length; ++i) {
+            final int ordinal = getLocaleOrdinal(senders[i]);
+            if (ordinal >= localeMessages.length)
+                localeMessages = Arrays.copyOf(localeMessages, localeTable.size());
+
+            String message = localeMessages[ordinal];
+            if (message == null) {
+                message = languageHandler.getFormattedMessage(localeTable.getLocale(ordinal), messageId,
+                        formatArgs);
+                localeMessages[ordinal] = message;
+            }
+
+            messages[i] = message;
+        }
+
+        return plugin.getBroadcastDispatcher().dispatch(senders, messages);
+    }
+
+    /**
+     * Queues a Localized Message for all currently online Players in the BroadcastDispatcher, which sends it over
+     * as many ticks as its budget in config.yml/broadcast_dispatcher requires. Logs it to the Console at once.
+     *
+     * @param messageKey Message Key to send.
+     * @param formatArgs String Formatting arguments.
+     * @return A CompletableFuture completed on the main thread once every Player was sent the message. Already
+     * completed if no Players are online.
+     * @throws NullPointerException if MessageKey or formatArgs is null.
+     * @api.Note Messages are formatted once per Locale of the LocaleAudienceIndex when this is called.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public static CompletableFuture<Void> dispatchLocalized(@Nonnull NamespacedKey messageKey,
+                                                            @Nonnull Object... formatArgs)
+    {
+        Objects.requireNonNull(messageKey, "Message Key cannot be null.");
+        Objects.requireNonNull(formatArgs, "Format Args cannot be null.");
+
+        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
+        final LocaleAudienceIndex audienceIndex = plugin.getLocaleAudienceIndex();
+        if (audienceIndex.isEmpty()) return CompletableFuture.completedFuture(null);
+
+        final LanguageHandler languageHandler = plugin.getLanguageHandler();
+        final int messageId = languageHandler.getMessageId(messageKey);
+
+        broadcastToConsole(languageHandler, plugin.getConfiguration().CONSOLE_LOCALE, messageId, formatArgs);
+
+        final List<CommandSender> senders = new ArrayList<>();
+        final List<String> messages = new ArrayList<>();
+
+        audienceIndex.forEachAudience((locale, audience) -> {
+            final String message = languageHandler.getFormattedMessage(locale, messageId, formatArgs);
+
+            for (Player player : audience) {
+                senders.add(player);
+                messages.add(message);
+            }
+        });
+
+        return plugin.getBroadcastDispatcher().dispatch(senders.toArray(new CommandSender[0]),
+                messages.toArray(new String[0]));
     }
 
     /**
@@ -134,8 +274,7 @@ public class Macros {
         final String locale = getLocale(commandSender);
         final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
 
-        final String message = StringUtils.format(languageHandler.getLocalizedMessage(locale, messageKey).getMessage(),
-                formatArgs);
+        final String message = languageHandler.getFormattedMessage(locale, messageKey, formatArgs);
 
         commandSender.sendMessage(message);
     }
@@ -162,12 +301,77 @@ public class Macros {
         final String locale = getLocale(id);
         final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
 
-        final String message = StringUtils.format(languageHandler.getLocalizedMessage(locale, messageKey).getMessage(),
-                formatArgs);
+        final String message = languageHandler.getFormattedMessage(locale, messageKey, formatArgs);
 
         p.sendMessage(message);
     }
 
+    /**
+     * Sends several localized Messages to a given CommandSender at once, in order.
+     *
+     * @param commandSender CommandSender to send the Messages to.
+     * @param lines         Messages to send, with their formatting arguments.
+     * @throws NullPointerException     if commandSender, lines, or any line is null.
+     * @throws IllegalArgumentException if lines is empty.
+     * @api.Note The Locale of the CommandSender is resolved once, and every line is sent in a single sendMessage
+     * call. Prefer this over calling sendLocalized once per line.
+     * @since 1.0.0
+     */
+    public static void sendLocalizedLines(@Nonnull CommandSender commandSender, @Nonnull List<LocalizedLine> lines)
+    {
+        Objects.requireNonNull(commandSender, "Command Sender cannot be null.");
+
+        commandSender.sendMessage(formatLines(getLocale(commandSender), lines));
+    }
+
+    /**
+     * Sends several localized Messages to a given Player UUID at once, in order. Ignores Offline Players.
+     *
+     * @param id    Player UUID to send the Messages to.
+     * @param lines Messages to send, with their formatting arguments.
+     * @throws NullPointerException     if id, lines, or any line is null.
+     * @throws IllegalArgumentException if lines is empty.
+     * @api.Note The Locale of the Player is resolved once, and every line is sent in a single sendMessage call.
+     * @since 1.0.0
+     */
+    public static void sendLocalizedLines(@Nonnull UUID id, @Nonnull List<LocalizedLine> lines)
+    {
+        Objects.requireNonNull(id, "UUID cannot be null.");
+
+        final Player p = Bukkit.getPlayer(id);
+        if (p == null) return;
+
+        p.sendMessage(formatLines(getLocale(id), lines));
+    }
+
+    /**
+     * Formats every line in the given Locale.
+     *
+     * @param locale Locale to format in.
+     * @param lines  Messages to format, with their formatting arguments.
+     * @return The formatted lines, in order.
+     * @throws NullPointerException     if lines or any line is null.
+     * @throws IllegalArgumentException if lines is empty.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static String[] formatLines(@Nonnull String locale, @Nonnull List<LocalizedLine> lines)
+    {
+        Objects.requireNonNull(lines, "Lines cannot be null.");
+        if (lines.isEmpty()) throw new IllegalArgumentException("Lines cannot be empty.");
+
+        final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
+        final String[] messages = new String[lines.size()];
+
+        int i = 0;
+        for (LocalizedLine line : lines) {
+            Objects.requireNonNull(line, "Line cannot be null.");
+            messages[i++] = languageHandler.getFormattedMessage(locale, line.getMessageKey(), line.formatArgs());
+        }
+
+        return messages;
+    }
+
     /**
      * Broadcasts a localized formatted title to the given Collection of Players.
      *
@@ -196,36 +400,46 @@ public class Macros {
         if (titleKey == null && subtitleKey == null)
             throw new IllegalArgumentException("At least one key cannot be null.");
 
+        final long start = System.nanoTime();
         final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
+        final LocaleCache localeCache = HippOutLocalizationLib.getPlugin().getLocaleCache();
+        final LocaleTable localeTable = HippOutLocalizationLib.getPlugin().getLocaleTable();
 
-        final Map<String, String> titleMap = new HashMap<>();
-        final Map<String, String> subtitleMap = new HashMap<>();
+        // Indexed by Locale ordinal
+        String[] titles = new String[localeTable.size()];
+        String[] subtitles = new String[localeTable.size()];
 
         for (Player player : recipients) {
-            final String locale = getLocale(player);
-
-            final String title;
-            if (titleKey == null)
-                title = null;
-            else if (titleMap.containsKey(locale))
-                title = titleMap.get(locale);
-            else {
-                title = StringUtils.format(languageHandler.getLocalizedMessage(locale, titleKey).getMessage(), formatArgs);
-                titleMap.put(locale, title);
+            final int ordinal = localeCache.getLocaleOrdinal(player.getUniqueId());
+            if (ordinal >= titles.length) {
+                titles = Arrays.copyOf(titles, localeTable.size());
+                subtitles = Arrays.copyOf(subtitles, localeTable.size());
             }
 
-            final String subtitle;
-            if (subtitleKey == null)
-                subtitle = null;
-            else if (subtitleMap.containsKey(locale))
-                subtitle = subtitleMap.get(locale);
-            else {
-                subtitle = StringUtils.format(languageHandler.getLocalizedMessage(locale, subtitleKey).getMessage(), formatArgs);
-                subtitleMap.put(locale, subtitle);
+            String title = null;
+            if (titleKey != null) {
+                title = titles[ordinal];
+                if (title == null) {
+                    title = languageHandler.getFormattedMessage(localeTable.getLocale(ordinal), titleKey,
+                            formatArgs);
+                    titles[ordinal] = title;
+                }
+            }
+
+            String subtitle = null;
+            if (subtitleKey != null) {
+                subtitle = subtitles[ordinal];
+                if (subtitle == null) {
+                    subtitle = languageHandler.getFormattedMessage(localeTable.getLocale(ordinal), subtitleKey,
+                            formatArgs);
+                    subtitles[ordinal] = subtitle;
+                }
             }
 
             player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
         }
+
+        HippOutLocalizationLib.getPlugin().getLocalizationMetrics().recordBroadcast(System.nanoTime() - start);
     }
 
     /**
@@ -239,6 +453,7 @@ public class Macros {
      * @param formatArgs  String formatting arguments.
      * @throws NullPointerException if both titleKey and subtitleKey are null.
      * @throws NullPointerException if formatArgs is null.
+     * @api.Note Titles are formatted once per Locale of the LocaleAudienceIndex.
      * @since 1.0.0
      */
     public static void broadcastLocalizedTitle(@Nullable NamespacedKey titleKey, @Nullable NamespacedKey subtitleKey,
@@ -247,10 +462,23 @@ public class Macros {
         if (titleKey == null && subtitleKey == null)
             throw new IllegalArgumentException("At least one key cannot be null.");
 
-        Collection<? extends Player> onlinePlayers = Bukkit.getOnlinePlayers();
+        Objects.requireNonNull(formatArgs, "Format Args cannot be null.");
+
+        final long start = System.nanoTime();
+        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
+        final LanguageHandler languageHandler = plugin.getLanguageHandler();
 
-        if (!onlinePlayers.isEmpty())
-            broadcastLocalizedTitle(titleKey, subtitleKey, fadeIn, stay, fadeOut, onlinePlayers, formatArgs);
+        plugin.getLocaleAudienceIndex().forEachAudience((locale, audience) -> {
+            final String title = titleKey == null ? null :
+                    languageHandler.getFormattedMessage(locale, titleKey, formatArgs);
+            final String subtitle = subtitleKey == null ? null :
+                    languageHandler.getFormattedMessage(locale, subtitleKey, formatArgs);
+
+            for (Player player : audience)
+                player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
+        });
+
+        plugin.getLocalizationMetrics().recordBroadcast(System.nanoTime() - start);
     }
 
     /**
@@ -318,13 +546,13 @@ public class Macros {
         if (titleKey == null)
             title = null;
         else
-            title = StringUtils.format(languageHandler.getLocalizedMessage(locale, titleKey).getMessage(), formatArgs);
+            title = languageHandler.getFormattedMessage(locale, titleKey, formatArgs);
 
         final String subtitle;
         if (subtitleKey == null)
             subtitle = null;
         else
-            subtitle = StringUtils.format(languageHandler.getLocalizedMessage(locale, subtitleKey).getMessage(), formatArgs);
+            subtitle = languageHandler.getFormattedMessage(locale, subtitleKey, formatArgs);
 
         player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
     }
@@ -450,6 +678,30 @@ public class Macros {
         return locale;
     }
 
+    /**
+     * Fetches the Locale ordinal of the given CommandSender, as assigned by the plugin's LocaleTable. For
+     * ProxiedCommandSenders, recursively fetches caller.
+     *
+     * @param commandSender CommandSender to get the Locale ordinal of.
+     * @return The Locale ordinal. May be that of a default.
+     * @throws NullPointerException if commandSender is null.
+     * @since 1.0.0
+     */
+    public static int getLocaleOrdinal(@Nonnull CommandSender commandSender)
+    {
+        Objects.requireNonNull(commandSender, "Command Sender cannot be null.");
+
+        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
+
+        if (commandSender instanceof Player)
+            return plugin.getLocaleCache().getLocaleOrdinal(((Player) commandSender).getUniqueId());
+
+        if (commandSender instanceof ProxiedCommandSender)
+            return getLocaleOrdinal(((ProxiedCommandSender) commandSender).getCaller());
+
+        return plugin.getLocaleTable().register(getLocale(commandSender));
+    }
+
     /**
      * Fetches the Locale of the given UUID.
      *
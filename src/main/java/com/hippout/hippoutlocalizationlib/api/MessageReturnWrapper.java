@@ -2,19 +2,21 @@ package com.hippout.hippoutlocalizationlib.api;
 
 import com.hippout.hippoutlocalizationlib.*;
 import com.hippout.hippoutlocalizationlib.exceptions.*;
+import com.hippout.hippoutlocalizationlib.language.*;
 import com.hippout.hippoutlocalizationlib.util.*;
 
 import javax.annotation.*;
 import java.util.*;
 
 /**
- * Wraps a Message with some additional details of how it was found.
+ * Wraps a Message with some additional details of how it was found. MessageReturnWrappers are immutable, and those
+ * returned by the LanguageHandler are preallocated and shared between lookups.
  *
  * @author Wyatt Kalmer
  * @since 1.0.0
  */
 public class MessageReturnWrapper {
-    private final String message;
+    private final MessageTemplate message;
     private final String locale;
     private final MessageType messageType;
 
@@ -32,6 +34,26 @@ public class MessageReturnWrapper {
      * @since 1.0.0
      */
     public MessageReturnWrapper(@Nonnull String message, @Nonnull String locale, @Nonnull MessageType messageType)
+    {
+        this(MessageTemplate.compile(Objects.requireNonNull(message, "Message cannot be null.")), locale,
+                messageType);
+    }
+
+    /**
+     * Constructs a MessageReturnWrapper with the given parameters.
+     *
+     * @param message     Compiled Message to return.
+     * @param locale      Locale of the found message.
+     * @param messageType How the message was found, whether it was present, a fallback Locale or the default Language
+     *                    was used, or if no Language contained it and the failsafe message was used.
+     * @throws NullPointerException     if message, locale, or messageType are null.
+     * @throws IllegalArgumentException if locale is empty.
+     * @throws LocaleFormatException    if locale is not a valid format and config.yml/debug.api_regex_locale_tests is
+     *                                  true.
+     * @since 1.0.0
+     */
+    public MessageReturnWrapper(@Nonnull MessageTemplate message, @Nonnull String locale,
+                                @Nonnull MessageType messageType)
     {
         this.message = Objects.requireNonNull(message, "Message cannot be null.");
         this.locale = Objects.requireNonNull(locale, "Locale cannot be null.");
@@ -53,6 +75,19 @@ public class MessageReturnWrapper {
     @Nonnull
     @SuppressWarnings("unused")
     public String getMessage()
+    {
+        return message.getSource();
+    }
+
+    /**
+     * Returns the found Message as a compiled MessageTemplate. It is not guaranteed to be of the requested locale.
+     *
+     * @return the found message's MessageTemplate.
+     * @since 1.0.0
+     */
+    @Nonnull
+    @SuppressWarnings("unused")
+    public MessageTemplate getTemplate()
     {
         return message;
     }
@@ -93,7 +128,7 @@ public class MessageReturnWrapper {
     @SuppressWarnings("unused")
     public String toString()
     {
-        return message;
+        return message.getSource();
     }
 
     /**
@@ -101,13 +136,15 @@ public class MessageReturnWrapper {
      *
      * @author Wyatt Kalmer
      * @enum.Value FOUND is used when the Message was found in the requested Language.
-     * @enum.Value DEFAULT_LANGUAGE_FALLBACK is used when the Message could not be found in the given language but
-     * was found in the Default Language.
-     * @enum.Value FAILSAFE_MESSAGE is used when the Message could not be found in either the requested Language or the
-     * Default Language.
+     * @enum.Value LOCALE_FALLBACK is used when the Message could not be found in the given language but was found in
+     * a Locale of its fallback chain, such as its base language.
+     * @enum.Value DEFAULT_LANGUAGE_FALLBACK is used when the Message could not be found in the given language or its
+     * fallback chain but was found in the Default Language.
+     * @enum.Value FAILSAFE_MESSAGE is used when the Message could not be found in the requested Language, its fallback
+     * chain, or the Default Language.
      * @since 1.0.0
      */
     public enum MessageType {
-        FOUND, DEFAULT_LANGUAGE_FALLBACK, FAILSAFE_MESSAGE
+        FOUND, LOCALE_FALLBACK, DEFAULT_LANGUAGE_FALLBACK, FAILSAFE_MESSAGE
     }
 }
@@ -0,0 +1,171 @@
+package com.hippout.hippoutlocalizationlib.commands;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import com.hippout.hippoutlocalizationlib.language.*;
+import com.hippout.hippoutlocalizationlib.metrics.*;
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.permissions.*;
+import org.bukkit.util.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * Command to show or reset the LocalizationMetrics.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class CommandLocalizationMetrics implements CommandExecutor, TabCompleter {
+    private static final int MAX_ROWS = 10;
+    private static final String RESET_ARG = "reset";
+
+    private final NamespacedKey PERMISSION_ERROR, USAGE, DISABLED, RESET, SUMMARY, LOCALES_HEADER,
+            NAMESPACES_HEADER, OUTCOMES, LOOKUP_LATENCY, BROADCAST_LATENCY, RENDER_CACHE;
+
+    private final Permission viewMetrics;
+
+    /**
+     * Constructs a CommandLocalizationMetrics.
+     *
+     * @since 1.0.0
+     */
+    public CommandLocalizationMetrics()
+    {
+        final KeyRegistry keyRegistry = HippOutLocalizationLib.getKeyRegistry();
+
+        PERMISSION_ERROR = keyRegistry.COM_GENERIC_PERMISSION_ERROR;
+        USAGE = keyRegistry.COM_METRICS_USAGE;
+        DISABLED = keyRegistry.COM_METRICS_DISABLED;
+        RESET = keyRegistry.COM_METRICS_RESET;
+        SUMMARY = keyRegistry.COM_METRICS_SUMMARY;
+        LOCALES_HEADER = keyRegistry.COM_METRICS_LOCALES_HEADER;
+        NAMESPACES_HEADER = keyRegistry.COM_METRICS_NAMESPACES_HEADER;
+        OUTCOMES = keyRegistry.COM_METRICS_OUTCOMES;
+        LOOKUP_LATENCY = keyRegistry.COM_METRICS_LOOKUP_LATENCY;
+        BROADCAST_LATENCY = keyRegistry.COM_METRICS_BROADCAST_LATENCY;
+        RENDER_CACHE = keyRegistry.COM_METRICS_RENDER_CACHE;
+
+        viewMetrics = Bukkit.getPluginManager().getPermission("hippoutlocalizationlib.metrics");
+    }
+
+    /**
+     * Called when the Command is executed.
+     *
+     * @param sender  CommandSender.
+     * @param command Command.
+     * @param args    Arguments.
+     * @return True. False would print plugin.yml/usage
+     * @since 1.0.0
+     */
+    @Override
+    public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label,
+                             @Nonnull String[] args)
+    {
+        if (!sender.hasPermission(viewMetrics)) {
+            Macros.sendLocalized(PERMISSION_ERROR, sender);
+            return true;
+        }
+
+        if (args.length > 1 || (args.length == 1 && !args[0].equalsIgnoreCase(RESET_ARG))) {
+            Macros.sendLocalized(USAGE, sender);
+            return true;
+        }
+
+        final LocalizationMetrics metrics = HippOutLocalizationLib.getPlugin().getLocalizationMetrics();
+
+        if (!metrics.isEnabled()) {
+            Macros.sendLocalized(DISABLED, sender);
+            return true;
+        }
+
+        if (args.length == 1) {
+            metrics.reset();
+            Macros.sendLocalized(RESET, sender);
+            return true;
+        }
+
+        Macros.sendLocalized(SUMMARY, sender, metrics.getOutcomeCount(MessageType.FOUND),
+                metrics.getOutcomeCount(MessageType.LOCALE_FALLBACK),
+                metrics.getOutcomeCount(MessageType.DEFAULT_LANGUAGE_FALLBACK),
+                metrics.getOutcomeCount(MessageType.FAILSAFE_MESSAGE));
+
+        sendLatency(sender, LOOKUP_LATENCY, metrics.getLookupLatency());
+        sendLatency(sender, BROADCAST_LATENCY, metrics.getBroadcastLatency());
+
+        final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
+        if (languageHandler.getRenderCacheCapacity() > 0)
+            Macros.sendLocalized(RENDER_CACHE, sender, languageHandler.getRenderCacheSize(),
+                    languageHandler.getRenderCacheCapacity(), metrics.getRenderCacheHits(),
+                    metrics.getRenderCacheMisses(), metrics.getRenderCacheHitRate() * 100,
+                    metrics.getRenderCacheEvictions());
+
+        Macros.sendLocalized(LOCALES_HEADER, sender);
+        sendOutcomes(sender, metrics.getLocaleOutcomes());
+
+        Macros.sendLocalized(NAMESPACES_HEADER, sender);
+        sendOutcomes(sender, metrics.getNamespaceOutcomes());
+
+        return true;
+    }
+
+    /**
+     * Sends a summary of a LatencyHistogram.
+     *
+     * @param sender     CommandSender to send to.
+     * @param messageKey Message to send.
+     * @param histogram  LatencyHistogram to summarize.
+     * @since 1.0.0
+     */
+    private static void sendLatency(@Nonnull CommandSender sender, @Nonnull NamespacedKey messageKey,
+                                    @Nonnull LatencyHistogram histogram)
+    {
+        Macros.sendLocalized(messageKey, sender, histogram.getCount(), histogram.getMeanNanos(),
+                histogram.getPercentileNanos(50), histogram.getPercentileNanos(99), histogram.getMaxNanos());
+    }
+
+    /**
+     * Sends the outcomes of the Locales or namespaces with the most lookups.
+     *
+     * @param sender   CommandSender to send to.
+     * @param outcomes Map of Locales or namespaces to their outcome counts.
+     * @since 1.0.0
+     */
+    private void sendOutcomes(@Nonnull CommandSender sender, @Nonnull Map<String, Map<MessageType, Long>> outcomes)
+    {
+        final List<Map.Entry<String, Map<MessageType, Long>>> rows = new ArrayList<>(outcomes.entrySet());
+        rows.sort(Comparator.comparingLong((Map.Entry<String, Map<MessageType, Long>> e) ->
+                e.getValue().values().stream().mapToLong(Long::longValue).sum()).reversed());
+
+        for (Map.Entry<String, Map<MessageType, Long>> row : rows.subList(0, Math.min(MAX_ROWS, rows.size()))) {
+            final Map<MessageType, Long> counts = row.getValue();
+            Macros.sendLocalized(OUTCOMES, sender, row.getKey(), counts.get(MessageType.FOUND),
+                    counts.get(MessageType.LOCALE_FALLBACK), counts.get(MessageType.DEFAULT_LANGUAGE_FALLBACK),
+                    counts.get(MessageType.FAILSAFE_MESSAGE));
+        }
+    }
+
+    /**
+     * Handles Tab-completion.
+     *
+     * @param sender  CommandSender.
+     * @param command Command.
+     * @param alias   Alias String.
+     * @param args    Arguments.
+     * @return A List of Tab Completions.
+     * @since 1.0.0
+     */
+    @Override
+    public List<String> onTabComplete(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String alias,
+                                      @Nonnull String[] args)
+    {
+        final List<String> outList = new LinkedList<>();
+        if (args.length != 1) return outList;
+
+        StringUtil.copyPartialMatches(args[0], Collections.singletonList(RESET_ARG), outList);
+        return outList;
+    }
+}
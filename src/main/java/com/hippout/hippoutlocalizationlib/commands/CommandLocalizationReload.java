@@ -0,0 +1,80 @@
+package com.hippout.hippoutlocalizationlib.commands;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.language.*;
+import org.bukkit.*;
+import org.bukkit.command.*;
+import org.bukkit.permissions.*;
+
+import javax.annotation.*;
+import java.util.concurrent.*;
+
+/**
+ * Command to reload every language file without restarting. The reload runs off the main thread.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class CommandLocalizationReload implements CommandExecutor {
+    private final NamespacedKey PERMISSION_ERROR, USAGE, STARTED, SUCCESS, FAILURE;
+
+    private final Permission reload;
+
+    /**
+     * Constructs a CommandLocalizationReload.
+     *
+     * @since 1.0.0
+     */
+    public CommandLocalizationReload()
+    {
+        final KeyRegistry keyRegistry = HippOutLocalizationLib.getKeyRegistry();
+
+        PERMISSION_ERROR = keyRegistry.COM_GENERIC_PERMISSION_ERROR;
+        USAGE = keyRegistry.COM_RELOAD_USAGE;
+        STARTED = keyRegistry.COM_RELOAD_STARTED;
+        SUCCESS = keyRegistry.COM_RELOAD_SUCCESS;
+        FAILURE = keyRegistry.COM_RELOAD_FAILURE;
+
+        reload = Bukkit.getPluginManager().getPermission("hippoutlocalizationlib.reload");
+    }
+
+    /**
+     * Called when the Command is executed.
+     *
+     * @param sender  CommandSender.
+     * @param command Command.
+     * @param args    Arguments.
+     * @return True. False would print plugin.yml/usage
+     * @since 1.0.0
+     */
+    @Override
+    public boolean onCommand(@Nonnull CommandSender sender, @Nonnull Command command, @Nonnull String label,
+                             @Nonnull String[] args)
+    {
+        if (!sender.hasPermission(reload)) {
+            Macros.sendLocalized(PERMISSION_ERROR, sender);
+            return true;
+        }
+
+        if (args.length != 0) {
+            Macros.sendLocalized(USAGE, sender);
+            return true;
+        }
+
+        final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
+        final long start = System.nanoTime();
+
+        Macros.sendLocalized(STARTED, sender);
+        languageHandler.reload().whenComplete((result, error) -> {
+            if (error == null) {
+                Macros.sendLocalized(SUCCESS, sender, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                        languageHandler.getDistinctMessageCount());
+            } else {
+                Macros.sendLocalized(FAILURE, sender, error.toString());
+            }
+        });
+
+        return true;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hippout.hippoutlocalizationlib.events;
+
+import org.bukkit.event.*;
+
+import javax.annotation.*;
+
+/**
+ * An Event called on the main thread after the LanguageHandler has reloaded its language files and replaced its
+ * Languages. Anything showing localized messages for a long time, such as a LocalizedBossBar, should fetch them
+ * again.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class LanguageReloadEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+
+    @SuppressWarnings("unused")
+    public static HandlerList getHandlerList()
+    {
+        return handlers;
+    }
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unused")
+    public HandlerList getHandlers()
+    {
+        return handlers;
+    }
+}
@@ -0,0 +1,91 @@
+package com.hippout.hippoutlocalizationlib.events;
+
+import org.bukkit.event.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * An Event called once when a bulk change to the LocaleCache, such as loading Locale Overrides, changes what
+ * getLocale(UUID) will return for online Players. Only online Players whose Locale actually changed are included. No
+ * LocaleCacheChangeEvent is called for the changes of a bulk change.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class LocaleCacheBulkChangeEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+
+    private final Map<UUID, String> oldLocales, newLocales;
+
+    /**
+     * Constructs a LocaleCacheBulkChangeEvent with the given Locales.
+     *
+     * @param oldLocales Map of every changed UUID to its old Locale.
+     * @param newLocales Map of every changed UUID to its new Locale.
+     * @throws NullPointerException     if oldLocales or newLocales is null.
+     * @throws IllegalArgumentException if oldLocales and newLocales do not have the same UUIDs.
+     * @since 1.0.0
+     */
+    public LocaleCacheBulkChangeEvent(@Nonnull Map<UUID, String> oldLocales, @Nonnull Map<UUID, String> newLocales)
+    {
+        Objects.requireNonNull(oldLocales, "Old Locales cannot be null.");
+        Objects.requireNonNull(newLocales, "New Locales cannot be null.");
+
+        if (!oldLocales.keySet().equals(newLocales.keySet()))
+            throw new IllegalArgumentException("Old and New Locales must have the same UUIDs.");
+
+        this.oldLocales = Collections.unmodifiableMap(new HashMap<>(oldLocales));
+        this.newLocales = Collections.unmodifiableMap(new HashMap<>(newLocales));
+    }
+
+    /**
+     * Returns the UUIDs whose Locale changed.
+     *
+     * @return An unmodifiable Set of the UUIDs whose Locale changed.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Set<UUID> getIds()
+    {
+        return oldLocales.keySet();
+    }
+
+    /**
+     * Returns the Old Locales of this LocaleCacheBulkChangeEvent.
+     *
+     * @return An unmodifiable Map of every changed UUID to its old Locale.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<UUID, String> getOldLocales()
+    {
+        return oldLocales;
+    }
+
+    /**
+     * Returns the New Locales of this LocaleCacheBulkChangeEvent.
+     *
+     * @return An unmodifiable Map of every changed UUID to its new Locale.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<UUID, String> getNewLocales()
+    {
+        return newLocales;
+    }
+
+    @SuppressWarnings("unused")
+    public static HandlerList getHandlerList()
+    {
+        return handlers;
+    }
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unused")
+    public HandlerList getHandlers()
+    {
+        return handlers;
+    }
+}
@@ -0,0 +1,91 @@
+package com.hippout.hippoutlocalizationlib.events;
+
+import org.bukkit.event.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * An Event called at the end of each coalescing window when coalesce_locale_change_ticks is positive. It summarizes
+ * the LocaleCacheChangeEvents called just before it, holding the net change of every UUID whose Locale changed during
+ * the window. Listeners should handle either those LocaleCacheChangeEvents or this event, not both.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class LocaleCacheChangeBatchEvent extends Event {
+    private static final HandlerList handlers = new HandlerList();
+
+    private final Map<UUID, String> oldLocales, newLocales;
+
+    /**
+     * Constructs a LocaleCacheChangeBatchEvent with the given Locales.
+     *
+     * @param oldLocales Map of every changed UUID to its old Locale.
+     * @param newLocales Map of every changed UUID to its new Locale.
+     * @throws NullPointerException     if oldLocales or newLocales is null.
+     * @throws IllegalArgumentException if oldLocales and newLocales do not have the same UUIDs.
+     * @since 1.0.0
+     */
+    public LocaleCacheChangeBatchEvent(@Nonnull Map<UUID, String> oldLocales, @Nonnull Map<UUID, String> newLocales)
+    {
+        Objects.requireNonNull(oldLocales, "Old Locales cannot be null.");
+        Objects.requireNonNull(newLocales, "New Locales cannot be null.");
+
+        if (!oldLocales.keySet().equals(newLocales.keySet()))
+            throw new IllegalArgumentException("Old and New Locales must have the same UUIDs.");
+
+        this.oldLocales = Collections.unmodifiableMap(new HashMap<>(oldLocales));
+        this.newLocales = Collections.unmodifiableMap(new HashMap<>(newLocales));
+    }
+
+    /**
+     * Returns the UUIDs whose Locale changed.
+     *
+     * @return An unmodifiable Set of the UUIDs whose Locale changed.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Set<UUID> getIds()
+    {
+        return oldLocales.keySet();
+    }
+
+    /**
+     * Returns the Old Locales of this LocaleCacheChangeBatchEvent.
+     *
+     * @return An unmodifiable Map of every changed UUID to its old Locale.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<UUID, String> getOldLocales()
+    {
+        return oldLocales;
+    }
+
+    /**
+     * Returns the New Locales of this LocaleCacheChangeBatchEvent.
+     *
+     * @return An unmodifiable Map of every changed UUID to its new Locale.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<UUID, String> getNewLocales()
+    {
+        return newLocales;
+    }
+
+    @SuppressWarnings("unused")
+    public static HandlerList getHandlerList()
+    {
+        return handlers;
+    }
+
+    @Override
+    @Nonnull
+    @SuppressWarnings("unused")
+    public HandlerList getHandlers()
+    {
+        return handlers;
+    }
+}
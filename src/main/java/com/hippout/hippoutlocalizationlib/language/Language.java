@@ -1,28 +1,32 @@
 package com.hippout.hippoutlocalizationlib.language;
 
 import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
 import com.hippout.hippoutlocalizationlib.util.*;
-import org.bukkit.*;
 
 import javax.annotation.*;
 import java.util.*;
 
 /**
- * Represents a container for all messages associated with a given language.
+ * Represents a container for all messages associated with a given language. A Language is only changed while its
+ * LanguageSnapshot is being built. Published Languages are never changed, and are copied before adding to them.
  *
  * @author Wyatt Kalmer
  * @since 1.0.0
  */
 class Language {
-    private static final String ERROR_ADD_ALREADY_CONTAINS = "[%s] Message Map already contains given key %s.";
-    private static final String ERROR_REMOVE_NOT_FOUND = "[%s] Message Map did not contain given key %s.";
-    private static final String ERROR_GET_MESSAGE_NOT_FOUND = "[%s] The requested message %s could not be found.";
+    private static final String ERROR_ADD_ALREADY_CONTAINS = "[%s] Language already contains given message ID %d.";
+    private static final String ERROR_GET_MESSAGE_NOT_FOUND = "[%s] The requested message ID %d could not be found.";
 
     private final HippOutLocalizationLib plugin;
     private final String locale;
+    private final MessageType fallbackType;
 
-    private final Map<NamespacedKey, String> messageMap;
-    private final List<NamespacedKey> keys;
+    // Indexed by the message IDs assigned by the LanguageHandler.
+    private final MessageTable messages;
+    private final MessageTable fallbackMessages;
+    private int messageCount;
 
     /**
      * Creates a Language with the given Locale.
@@ -30,99 +34,145 @@ class Language {
      * @param locale ISO-639 Locale as described in
      *               <a href=https://docs.oracle.com/javase/8/docs/api/java/util/Locale.html>Oracle's Documentation</a>.
      *               Must abide by the regex stored in util.ValidationUtil.
+     * @param isDefault Whether this is the Default Language, which decides the MessageType of its fallback results.
      * @throws NullPointerException if locale is null.
      * @api.Note The LanguageHandler should either convert incoming codes to lowercase-only or throw an exception,
      * meaning that the Pattern test should never fail for case sensitivity.
      * @since 1.0.0
      */
-    Language(@Nonnull HippOutLocalizationLib plugin, @Nonnull String locale)
+    Language(@Nonnull HippOutLocalizationLib plugin, @Nonnull String locale, boolean isDefault)
     {
         this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
         this.locale = ValidationUtil.validateLocale(locale);
-        this.messageMap = new HashMap<>();
-        this.keys = new LinkedList<>();
+        this.fallbackType = isDefault ? MessageType.DEFAULT_LANGUAGE_FALLBACK : MessageType.LOCALE_FALLBACK;
+        this.messages = new MessageTable();
+        this.fallbackMessages = new MessageTable();
+        this.messageCount = 0;
     }
 
     /**
-     * Adds a String message to this Language.
+     * Creates a copy of the given Language, which can be added to without changing the original. The copy shares the
+     * storage of the original until messages are added to it.
      *
-     * @param messageKey Key to remove message of
-     * @throws NullPointerException     if messageKey is null.
+     * @param language Language to copy.
+     * @since 1.0.0
+     */
+    Language(@Nonnull Language language)
+    {
+        this.plugin = language.plugin;
+        this.locale = language.locale;
+        this.fallbackType = language.fallbackType;
+        this.messages = new MessageTable(language.messages);
+        this.fallbackMessages = new MessageTable(language.fallbackMessages);
+        this.messageCount = language.messageCount;
+    }
+
+    /**
+     * Adds a compiled message to this Language. Its MessageReturnWrappers, for this Locale and for Locales falling
+     * back to it, are created once here and shared by every lookup.
+     *
+     * @param messageId Message ID assigned by the LanguageHandler.
+     * @param message   Compiled message to add.
+     * @throws IllegalArgumentException if messageId is negative.
      * @throws NullPointerException     if message is null.
-     * @throws IllegalArgumentException if given messageKey was already present in this Language.
+     * @throws IllegalArgumentException if given messageId was already present in this Language.
      * @since 1.0.0
      */
-    void addMessage(@Nonnull NamespacedKey messageKey, @Nonnull String message)
+    void addMessage(int messageId, @Nonnull MessageTemplate message)
     {
-        Objects.requireNonNull(messageKey, "Message Key cannot be null. Lang: " + locale);
+        if (messageId < 0) throw new IllegalArgumentException("Message ID cannot be negative. Lang: " + locale);
         Objects.requireNonNull(message, "Message cannot be null. Lang: " + locale);
 
-        if (messageMap.containsKey(messageKey))
-            throw new IllegalArgumentException(String.format(ERROR_ADD_ALREADY_CONTAINS, locale, messageKey));
+        if (containsMessage(messageId))
+            throw new IllegalArgumentException(String.format(ERROR_ADD_ALREADY_CONTAINS, locale, messageId));
 
-        messageMap.put(messageKey, message);
-        keys.add(messageKey);
+        messages.set(messageId, new MessageReturnWrapper(message, locale, MessageType.FOUND));
+        fallbackMessages.set(messageId, new MessageReturnWrapper(message, locale, fallbackType));
+        ++messageCount;
     }
 
     /**
-     * Fetches a String message from this Language.
+     * Fetches a message from this Language.
      *
-     * @param messageKey Key to fetch message of
-     * @return The requested message
-     * @throws NullPointerException     if messageKey is null.
-     * @throws IllegalArgumentException if the message could not be found.
+     * @param messageId ID of the message to fetch.
+     * @return The requested message's MessageReturnWrapper with MessageType FOUND, or null if this Language does not
+     * contain it.
+     * @since 1.0.0
+     */
+    @Nullable
+    MessageReturnWrapper getMessage(int messageId)
+    {
+        return messages.get(messageId);
+    }
+
+    /**
+     * Fetches a message from this Language for a lookup of another Locale which fell back to this one.
+     *
+     * @param messageId ID of the message to fetch.
+     * @return The requested message's MessageReturnWrapper with MessageType LOCALE_FALLBACK, or
+     * DEFAULT_LANGUAGE_FALLBACK if this is the Default Language. Null if this Language does not contain it.
+     * @since 1.0.0
+     */
+    @Nullable
+    MessageReturnWrapper getFallbackMessage(int messageId)
+    {
+        return fallbackMessages.get(messageId);
+    }
+
+    /**
+     * Returns the messages of this Language for lookups of other Locales which fell back to this one.
+     *
+     * @return The MessageTable of fallback messages, which must not be changed.
      * @since 1.0.0
      */
     @Nonnull
-    String getMessage(@Nonnull NamespacedKey messageKey)
+    MessageTable getFallbackMessages()
     {
-        Objects.requireNonNull(messageKey, "Message Key cannot be null. Lang: " + locale);
+        return fallbackMessages;
+    }
 
-        String out = messageMap.get(messageKey);
+    /**
+     * Fetches a message from this Language, throwing an exception if it is not present.
+     *
+     * @param messageId ID of the message to fetch.
+     * @return The requested message.
+     * @throws IllegalArgumentException if the message could not be found.
+     * @since 1.0.0
+     */
+    @Nonnull
+    @SuppressWarnings("unused")
+    MessageReturnWrapper getExistingMessage(int messageId)
+    {
+        final MessageReturnWrapper out = getMessage(messageId);
 
         if (out == null)
-            throw new IllegalArgumentException(String.format(ERROR_GET_MESSAGE_NOT_FOUND, locale, messageKey));
+            throw new IllegalArgumentException(String.format(ERROR_GET_MESSAGE_NOT_FOUND, locale, messageId));
 
         return out;
     }
 
     /**
-     * Returns whether this Language contains a message with the given NamespacedKey.
+     * Returns whether this Language contains a message with the given message ID.
      *
-     * @param messageKey Key to check.
-     * @throws NullPointerException if messageKey is null.
+     * @param messageId Message ID to check.
+     * @return True if this Language contains the message, false otherwise.
      * @since 1.0.0
      */
-    boolean containsMessage(@Nonnull NamespacedKey messageKey)
+    boolean containsMessage(int messageId)
     {
-        Objects.requireNonNull(messageKey, "Message Key cannot be null. Lang: " + locale);
-
-        return keys.contains(messageKey);
+        return getMessage(messageId) != null;
     }
 
     /**
-     * Fetches a NamespacedKey if it is contained within this Language.
+     * Returns the number of messages contained within this Language.
      *
-     * @param key Key of a NamespacedKey to fetch.
-     * @return The requested NamespacedKey, or null if it did not exist.
-     * @throws NullPointerException     if Key is null.
-     * @throws IllegalArgumentException if Key is empty.
-     * @api.Note For internal use only.
+     * @return The number of messages contained within this Language.
      * @since 1.0.0
      */
-    @Nullable
     @SuppressWarnings("unused")
-    NamespacedKey getMessageKey(@Nonnull String key)
+    int getMessageCount()
     {
-        Objects.requireNonNull(key, "Key cannot be null.");
-        if (key.isEmpty()) throw new IllegalArgumentException("Key cannot be empty.");
-
-        for (NamespacedKey messageKey : keys) {
-            if (messageKey.getKey().equals(key))
-                return messageKey;
-        }
-
-        return null;
+        return messageCount;
     }
 
     /**
@@ -0,0 +1,144 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.*;
+import org.bukkit.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Watches language files through a WatchService and reloads the LanguageHandler shortly after any of them changes.
+ * Changes made within DEBOUNCE_TICKS of each other cause a single reload.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class LanguageFileWatcher implements Runnable {
+    private static final long DEBOUNCE_TICKS = 20;
+
+    private final HippOutLocalizationLib plugin;
+    private final LanguageHandler languageHandler;
+    private final WatchService watchService;
+    private final Set<Path> files;
+    private final Set<Path> directories; // Guarded by this
+
+    private boolean reloadScheduled; // Main thread only
+
+    /**
+     * Constructs a LanguageFileWatcher and starts its thread.
+     *
+     * @param plugin          HippOutLocalizationLib instance.
+     * @param languageHandler LanguageHandler to reload.
+     * @throws IOException if the file system cannot be watched.
+     * @since 1.0.0
+     */
+    LanguageFileWatcher(@Nonnull HippOutLocalizationLib plugin, @Nonnull LanguageHandler languageHandler)
+            throws IOException
+    {
+        this.plugin = plugin;
+        this.languageHandler = languageHandler;
+        watchService = FileSystems.getDefault().newWatchService();
+        files = ConcurrentHashMap.newKeySet();
+        directories = new HashSet<>();
+
+        final Thread thread = new Thread(this, plugin.getName() + " Language File Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Starts watching a language file. Its directory must exist.
+     *
+     * @param file Language file to watch.
+     * @since 1.0.0
+     */
+    synchronized void watch(@Nonnull File file)
+    {
+        final Path path = file.toPath().toAbsolutePath().normalize();
+        final Path directory = path.getParent();
+
+        try {
+            if (!directories.contains(directory)) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                directories.add(directory);
+            }
+
+            files.add(path);
+        } catch (IOException | ClosedWatchServiceException e) {
+            plugin.getLogger().warning(String.format("Could not watch language file %s: %s", path,
+                    e.getMessage()));
+        }
+    }
+
+    /**
+     * Waits for changes to watched files until closed.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void run()
+    {
+        while (true) {
+            final WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            final Path directory = (Path) key.watchable();
+            boolean changed = false;
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                // Events were lost, so any watched file may have changed.
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) changed = true;
+                else if (files.contains(directory.resolve((Path) event.context()))) changed = true;
+            }
+
+            key.reset();
+
+            if (changed && plugin.isEnabled())
+                Bukkit.getScheduler().runTask(plugin, this::scheduleReload);
+        }
+    }
+
+    /**
+     * Schedules a reload in DEBOUNCE_TICKS, unless one is already scheduled. Called on the main thread.
+     *
+     * @since 1.0.0
+     */
+    private void scheduleReload()
+    {
+        if (reloadScheduled) return;
+        reloadScheduled = true;
+
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            reloadScheduled = false;
+            languageHandler.reload().whenComplete((result, error) -> {
+                if (error == null)
+                    plugin.getLogger().info("Reloaded language files after a change.");
+                else
+                    plugin.getLogger().warning("Could not reload changed language files. The previous messages " +
+                            "are kept. " + error);
+            });
+        }, DEBOUNCE_TICKS);
+    }
+
+    /**
+     * Stops watching. The watching thread exits.
+     *
+     * @since 1.0.0
+     */
+    void close()
+    {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not close the language file watcher: " + e.getMessage());
+        }
+    }
+}
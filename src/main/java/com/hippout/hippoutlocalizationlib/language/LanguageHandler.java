@@ -1,15 +1,21 @@
 package com.hippout.hippoutlocalizationlib.language;
 
+import com.hippout.hippoutlocalizationlib.Configuration;
 import com.hippout.hippoutlocalizationlib.*;
 import com.hippout.hippoutlocalizationlib.api.*;
 import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import com.hippout.hippoutlocalizationlib.events.*;
 import com.hippout.hippoutlocalizationlib.exceptions.*;
+import com.hippout.hippoutlocalizationlib.metrics.*;
 import com.hippout.hippoutlocalizationlib.util.*;
 import org.bukkit.*;
+import org.bukkit.configuration.*;
 import org.bukkit.plugin.java.*;
 
 import javax.annotation.*;
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Handles languages, including fetching from, creating, etc.
@@ -19,11 +25,23 @@ import java.util.*;
  */
 public class LanguageHandler {
     private final HippOutLocalizationLib plugin;
+    private final String defaultLocale;
+    private final MessageIdRegistry registry;
+    private final LocalizationMetrics metrics;
+    private final RenderCache renderCache; // Null if disabled in config.yml
 
-    private final Map<String, Language> languageMap;
-    private final List<NamespacedKey> keys; // Cache
-    private final List<String> locales; // Cache
-    private final Language defaultLanguage; // Cache
+    // Preallocated, immutable results so that lookups never allocate.
+    private final MessageReturnWrapper failsafeMessage;
+
+    // Never changed, only replaced as a whole in a single write, so lookups from any thread never lock. Every
+    // replacement is made while holding writeLock.
+    private volatile LanguageSnapshot snapshot;
+    private final Object writeLock;
+
+    // Everything added to this LanguageHandler, in order, so that a reload can add it again. Guarded by writeLock.
+    private final List<Source> sources;
+    private CompletableFuture<Void> runningReload, queuedReload; // Main thread only
+    private volatile LanguageFileWatcher fileWatcher;
 
     /**
      * Constructs a LanguageManager with the given HippOutLocalizationLib and default Locale.
@@ -44,27 +62,35 @@ public class LanguageHandler {
             ValidationUtil.validateLocale(defaultLocale);
 
         this.plugin = plugin;
-        languageMap = new HashMap<>();
-        keys = new LinkedList<>();
-        locales = new LinkedList<>();
+        this.defaultLocale = defaultLocale;
+        registry = new MessageIdRegistry();
+        metrics = plugin.getLocalizationMetrics();
+
+        final int renderCacheSize = plugin.getConfiguration().RENDER_CACHE_SIZE;
+        renderCache = renderCacheSize > 0 ? new RenderCache(renderCacheSize, metrics) : null;
+
+        failsafeMessage = new MessageReturnWrapper(plugin.getConfiguration().FAILSAFE_MESSAGE,
+                HippOutLocalizationLib.FAILSAFE_LOCALE, MessageType.FAILSAFE_MESSAGE);
 
-        defaultLanguage = new Language(plugin, defaultLocale);
-        languageMap.put(defaultLocale, defaultLanguage);
-        locales.add(defaultLocale);
+        snapshot = LanguageSnapshot.builder(plugin, registry, defaultLocale).build();
+        writeLock = new Object();
+        sources = new ArrayList<>();
     }
 
     /**
      * Returns a MessageReturnWrapper containing a String corresponding to the given NamespacedKey. If the Language
-     * denoted by locale was present and contained the given message, returns that message, else the Default
-     * Language is used as a fallback. If neither have a corresponding String, throws an exception.
+     * denoted by locale was present and contained the given message, returns that message, else the Locales of its
+     * fallback chain are tried in order, then the Default Language. If none have a corresponding String, the
+     * failsafe message is used.
      *
      * @param locale     Language Code to fetch from.
      * @param messageKey Key corresponding to the desired message ID.
-     * @return A MessageReturnWrapper containing the desired String. If the Default Language was used as a fallback,
-     * the MessageReturnWrapper will denote such.
+     * @return A MessageReturnWrapper containing the desired String. Its MessageType denotes which fallback tier was
+     * used.
      * @throws NullPointerException  if MessageKey or Locale is null.
      * @throws LocaleFormatException if locale is an invalid format and config.yml/api_regex_locale_tests is
      *                               enabled.
+     * @api.Note The returned MessageReturnWrapper is preallocated and shared. This method does not allocate.
      * @since 1.0.0
      */
     @Nonnull
@@ -73,41 +99,139 @@ public class LanguageHandler {
         Objects.requireNonNull(locale, "Locale cannot be null.");
         Objects.requireNonNull(messageKey, "Key cannot be null.");
 
+        return lookup(locale, getMessageId(messageKey), messageKey);
+    }
+
+    /**
+     * Returns a MessageReturnWrapper containing a String corresponding to the given message ID. If the Language
+     * denoted by locale was present and contained the given message, returns that message, else the Locales of its
+     * fallback chain are tried in order, then the Default Language. If none have a corresponding String, the
+     * failsafe message is used.
+     *
+     * @param locale    Language Code to fetch from.
+     * @param messageId Message ID as returned by getMessageId. Unknown IDs, including -1, produce the failsafe message.
+     * @return A MessageReturnWrapper containing the desired String. Its MessageType denotes which fallback tier was
+     * used.
+     * @throws NullPointerException  if Locale is null.
+     * @throws LocaleFormatException if locale is an invalid format and config.yml/api_regex_locale_tests is
+     *                               enabled.
+     * @api.Note The returned MessageReturnWrapper is preallocated and shared. Fallback chains are resolved ahead of
+     * time, so this method costs a single table lookup and does not allocate or lock, except for the first lookup
+     * of each Locale after messages were added. Safe to call from any thread.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public MessageReturnWrapper getLocalizedMessage(@Nonnull String locale, int messageId)
+    {
+        Objects.requireNonNull(locale, "Locale cannot be null.");
+
+        return lookup(locale, messageId, null);
+    }
+
+    /**
+     * Looks up a message and records the outcome in the LocalizationMetrics.
+     *
+     * @param locale     Language Code to fetch from.
+     * @param messageId  Message ID of the message.
+     * @param messageKey MessageKey of the message if known by the caller, else null to look it up from the
+     *                   MessageRegistry. Only needed for the namespace recorded in the LocalizationMetrics.
+     * @return A MessageReturnWrapper containing the desired String.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private MessageReturnWrapper lookup(@Nonnull String locale, int messageId, @Nullable NamespacedKey messageKey)
+    {
+        if (!metrics.isEnabled())
+            return resolve(locale, messageId);
+
+        if (messageKey == null) messageKey = registry.getKey(messageId);
+        final String namespace = messageKey != null ? messageKey.getNamespace() :
+                LocalizationMetrics.UNKNOWN_NAMESPACE;
+
+        final boolean sampled = metrics.shouldSample();
+        final long start = sampled ? System.nanoTime() : 0L;
+
+        final MessageReturnWrapper message = resolve(locale, messageId);
+
+        metrics.recordLookup(locale, namespace, message.getMessageType(), sampled ? System.nanoTime() - start : -1L);
+        return message;
+    }
+
+    /**
+     * Resolves a message through the flattened lookup table of the given Locale.
+     *
+     * @param locale    Language Code to fetch from.
+     * @param messageId Message ID of the message.
+     * @return A MessageReturnWrapper containing the desired String.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private MessageReturnWrapper resolve(@Nonnull String locale, int messageId)
+    {
         final Configuration config = plugin.getConfiguration();
 
         if (config.API_REGEX_LOCALE_TESTS)
             ValidationUtil.validateLocale(locale, "The given LanguageCode does not match the ISO-639" +
                     " test Pattern. This can usually be disabled for production use. Yours: %s");
 
-        String message;
-        String foundLocale;
-        MessageType messageType;
+        // The table already holds the first message found along the fallback chain, else the Configuration's failsafe.
+        final MessageReturnWrapper message = snapshot.resolve(locale, messageId);
+        return message != null ? message : failsafeMessage;
+    }
 
-        final Language language = languageMap.get(locale);
+    /**
+     * Returns the message corresponding to the given NamespacedKey, formatted with the given arguments. The
+     * message is found the same way as by getLocalizedMessage.
+     *
+     * @param locale     Language Code to fetch from.
+     * @param messageKey Key corresponding to the desired message ID.
+     * @param formatArgs Format arguments.
+     * @return The formatted message.
+     * @throws NullPointerException             if MessageKey, Locale or formatArgs is null.
+     * @throws LocaleFormatException            if locale is an invalid format and
+     *                                          config.yml/api_regex_locale_tests is enabled.
+     * @throws java.util.IllegalFormatException see String.format.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public String getFormattedMessage(@Nonnull String locale, @Nonnull NamespacedKey messageKey,
+                                      @Nonnull Object... formatArgs)
+    {
+        Objects.requireNonNull(messageKey, "Key cannot be null.");
 
-        /*
-         *  Attempt to load message from the language. If it could not be found, load it from the default language.
-         *  If it still could not be found, load the fallback from the Configuration.
-         *
-         *  IllegalArgumentExceptions are faster than containsMessage but much harder to read write and maintain.
-         */
-        if (language != null && language.containsMessage(messageKey)) {
-            message = language.getMessage(messageKey);
-            foundLocale = language.getLocale();
-            messageType = MessageType.FOUND;
-        } else {
-            if (defaultLanguage.containsMessage(messageKey)) {
-                message = defaultLanguage.getMessage(messageKey);
-                foundLocale = defaultLanguage.getLocale();
-                messageType = MessageType.DEFAULT_LANGUAGE_FALLBACK;
-            } else {
-                message = config.FAILSAFE_MESSAGE;
-                foundLocale = HippOutLocalizationLib.FAILSAFE_LOCALE;
-                messageType = MessageType.FAILSAFE_MESSAGE;
-            }
-        }
+        return getFormattedMessage(locale, getMessageId(messageKey), formatArgs);
+    }
 
-        return new MessageReturnWrapper(message, foundLocale, messageType);
+    /**
+     * Returns the message corresponding to the given message ID, formatted with the given arguments. The message
+     * is found the same way as by getLocalizedMessage.
+     *
+     * @param locale     Language Code to fetch from.
+     * @param messageId  Message ID as returned by getMessageId.
+     * @param formatArgs Format arguments.
+     * @return The formatted message.
+     * @throws NullPointerException             if Locale or formatArgs is null.
+     * @throws LocaleFormatException            if locale is an invalid format and
+     *                                          config.yml/api_regex_locale_tests is enabled.
+     * @throws java.util.IllegalFormatException see String.format.
+     * @api.Note If config.yml/render_cache_size is above 0, results are cached by message ID, Locale and format
+     * arguments, as long as every argument is a String, boxed primitive, UUID, BigInteger, BigDecimal or Enum.
+     * Safe to call from any thread.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public String getFormattedMessage(@Nonnull String locale, int messageId, @Nonnull Object... formatArgs)
+    {
+        Objects.requireNonNull(formatArgs, "Format Args cannot be null.");
+
+        if (renderCache == null || formatArgs.length == 0 || !RenderCache.isCacheable(formatArgs))
+            return StringUtils.format(getLocalizedMessage(locale, messageId).getTemplate(), formatArgs);
+
+        final long version = renderCache.getVersion();
+        final MessageTemplate template = getLocalizedMessage(locale, messageId).getTemplate();
+
+        return renderCache.get(version, messageId, locale, formatArgs,
+                () -> StringUtils.format(template, formatArgs));
     }
 
     /**
@@ -125,24 +249,10 @@ public class LanguageHandler {
     {
         Objects.requireNonNull(messageKey, "Key cannot be null.");
 
-        final Configuration config = plugin.getConfiguration();
-
-        String message;
-        String foundLocale;
-        MessageType messageType;
-
         // Attempt to find from default language, else grab failsafe.
-        if (defaultLanguage.containsMessage(messageKey)) {
-            message = defaultLanguage.getMessage(messageKey);
-            foundLocale = defaultLanguage.getLocale();
-            messageType = MessageType.FOUND;
-        } else {
-            message = config.FAILSAFE_MESSAGE;
-            foundLocale = HippOutLocalizationLib.FAILSAFE_LOCALE;
-            messageType = MessageType.FAILSAFE_MESSAGE;
-        }
+        final MessageReturnWrapper message = snapshot.getDefaultLanguageMessage(getMessageId(messageKey));
 
-        return new MessageReturnWrapper(message, foundLocale, messageType);
+        return message != null ? message : failsafeMessage;
     }
 
     /**
@@ -178,7 +288,8 @@ public class LanguageHandler {
     }
 
     /**
-     * Adds a localized message to the correct language. If the Language does not yet exist, one is created.
+     * Adds a localized message to the correct language. If the Language does not yet exist, one is created. Identical
+     * messages are compiled into a MessageTemplate once and shared between all Locales, across every call.
      *
      * @param messageKey Key to give new localized message.
      * @param message    Message to add.
@@ -186,39 +297,317 @@ public class LanguageHandler {
      * @throws NullPointerException     if any parameters are null.
      * @throws LocaleFormatException    if the Locale is not in a valid format and API-layer validation is enabled.
      * @throws IllegalArgumentException if the corresponding Language already has a message with this key.
+     * @api.Note Safe to call from any thread. Every call publishes a new set of Languages, which shares the storage
+     * of the previous set except where the message was added, so the cost does not grow with the number of messages
+     * already added. Many messages are still better added at once through addLocalizedMessages.
      * @since 1.0.0
      */
     public void addLocalizedMessage(@Nonnull NamespacedKey messageKey, @Nonnull String message, @Nonnull String... locales)
     {
         Objects.requireNonNull(messageKey, "Key cannot be null.");
-        Objects.requireNonNull(locales, "Locale cannot be null.");
         Objects.requireNonNull(message, "message cannot be null.");
+
+        addLocalizedMessages(Collections.singletonMap(messageKey, message), locales);
+    }
+
+    /**
+     * Adds several localized messages to the same Locales at once. Lookups see either none or all of them.
+     *
+     * @param messages Messages to add, by key.
+     * @param locales  Locales to add the new messages to. Must have length of at least 1.
+     * @throws NullPointerException     if any parameters, keys or messages are null.
+     * @throws LocaleFormatException    if the Locale is not in a valid format and API-layer validation is enabled.
+     * @api.Note Safe to call from any thread.
+     * @since 1.0.0
+     */
+    public void addLocalizedMessages(@Nonnull Map<NamespacedKey, String> messages, @Nonnull String... locales)
+    {
+        Objects.requireNonNull(messages, "Messages cannot be null.");
+        Objects.requireNonNull(locales, "Locale cannot be null.");
         if (locales.length < 1) throw new IllegalArgumentException("Must provide at least one Locale.");
 
         if (plugin.getConfiguration().API_REGEX_LOCALE_TESTS)
             for (String locale : locales)
                 ValidationUtil.validateLocale(locale);
 
-        for (String locale : locales) {
-            Language language;
-            if (languageMap.containsKey(locale)) {
-                language = languageMap.get(locale);
-            } else {
-                language = new Language(plugin, locale);
-                languageMap.put(locale, language);
-                this.locales.add(locale);
-            }
+        final Map<NamespacedKey, String> messageCopy = new LinkedHashMap<>(messages);
+        final String[] messageLocales = locales.clone();
+
+        messageCopy.forEach((messageKey, message) -> {
+            Objects.requireNonNull(messageKey, "Key cannot be null.");
+            Objects.requireNonNull(message, "message cannot be null.");
+        });
+
+        final Source source = target -> messageCopy.forEach((messageKey, message) ->
+                target.addMessage(messageKey, registry.register(messageKey), message, messageLocales));
+
+        final List<Integer> messageIds = new ArrayList<>(messageCopy.size());
+        synchronized (writeLock) {
+            final LanguageSnapshot.Builder builder = snapshot.toBuilder(plugin);
+            messageCopy.forEach((messageKey, message) -> {
+                final int messageId = registry.register(messageKey);
+                builder.addMessage(messageKey, messageId, message, messageLocales);
+                messageIds.add(messageId);
+            });
+
+            snapshot = builder.build();
+            sources.add(source);
+        }
+
+        if (renderCache != null) renderCache.invalidate(messageIds);
+    }
+
+    /**
+     * Adds the messages of a parsed language file with the file's defined Locales. A reload parses the file again.
+     * Lookups see either none or all of the file's messages.
+     *
+     * @param languageLoader LanguageLoader which parsed the language file.
+     * @param languageFile   Parsed language file to add.
+     * @return A List of all generated NamespacedKeys which were added.
+     * @throws NullPointerException if languageLoader or languageFile is null.
+     * @api.Note Safe to call from any thread.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public List<NamespacedKey> addLanguageFile(@Nonnull LanguageLoader languageLoader,
+                                               @Nonnull LanguageLoader.ParsedLanguageFile languageFile)
+    {
+        Objects.requireNonNull(languageLoader, "Language Loader cannot be null.");
+        Objects.requireNonNull(languageFile, "Language File cannot be null.");
+
+        final FileSource source = new FileSource(languageLoader, languageFile.getFileName());
+        final List<NamespacedKey> messageKeys;
+
+        synchronized (writeLock) {
+            final LanguageSnapshot.Builder builder = snapshot.toBuilder(plugin);
+            messageKeys = source.add(builder, languageFile);
+
+            snapshot = builder.build();
+            sources.add(source);
+        }
+
+        if (renderCache != null) {
+            final List<Integer> messageIds = new ArrayList<>(messageKeys.size());
+            for (NamespacedKey messageKey : messageKeys)
+                messageIds.add(registry.getId(messageKey));
+
+            renderCache.invalidate(messageIds);
+        }
+
+        final LanguageFileWatcher watcher = fileWatcher;
+        if (watcher != null) watcher.watch(source.getFile());
+
+        return messageKeys;
+    }
+
+    /**
+     * Reloads every language file and message added to this LanguageHandler. A complete new set of Languages is
+     * built off the main thread, then replaces the current one at once, so lookups never see a partly loaded
+     * state. If any language file fails to load, the current Languages are kept. Calls a LanguageReloadEvent on
+     * success.
+     *
+     * @return A CompletableFuture completed on the main thread once the reload has finished or failed. If a reload
+     * is already running, another reload is started after it.
+     * @throws IllegalStateException if this is not the main thread.
+     * @api.Note Message IDs do not change across reloads. Messages removed from a language file fall back as if
+     * they had never been added.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public CompletableFuture<Void> reload()
+    {
+        if (!Bukkit.isPrimaryThread())
+            throw new IllegalStateException("Language files can only be reloaded from the main thread.");
 
-            if (language.containsMessage(messageKey)) {
-                plugin.getLogger().warning(String.format("Language %s already contains message %s. The original" +
-                        " message will be kept.", locale, messageKey));
-            } else {
-                language.addMessage(messageKey, message);
-                keys.add(messageKey);
+        if (runningReload != null) {
+            if (queuedReload == null) queuedReload = new CompletableFuture<>();
+            return queuedReload;
+        }
+
+        final CompletableFuture<Void> reload = new CompletableFuture<>();
+        runningReload = reload;
+        buildSnapshot(LanguageSnapshot.builder(plugin, registry, defaultLocale), 0);
+
+        return reload;
+    }
+
+    /**
+     * Adds every source from the given index onwards to a Builder and builds a LanguageSnapshot off the main
+     * thread. Back on the main thread, adds any sources which were added meanwhile the same way, else publishes
+     * the LanguageSnapshot.
+     *
+     * @param target Builder of the new LanguageSnapshot.
+     * @param from   Index of the first source to add.
+     * @since 1.0.0
+     */
+    private void buildSnapshot(@Nonnull LanguageSnapshot.Builder target, int from)
+    {
+        final List<Source> pending;
+        synchronized (writeLock) {
+            pending = new ArrayList<>(sources.subList(from, sources.size()));
+        }
+        final int built = from + pending.size();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            final LanguageSnapshot result;
+            try {
+                for (Source source : pending)
+                    source.addTo(target);
+
+                result = target.build();
+                result.resolveTables();
+            } catch (Exception e) {
+                Bukkit.getScheduler().runTask(plugin, () -> finishReload(e));
+                return;
             }
+
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                synchronized (writeLock) {
+                    if (sources.size() > built) {
+                        buildSnapshot(target, built);
+                        return;
+                    }
+
+                    snapshot = result;
+                }
+
+                if (renderCache != null) renderCache.invalidateAll();
+
+                finishReload(null);
+            });
+        });
+    }
+
+    /**
+     * Completes the running reload and starts the queued one, if any. Called on the main thread.
+     *
+     * @param error Why the reload failed, or null if it succeeded.
+     * @since 1.0.0
+     */
+    private void finishReload(@Nullable Throwable error)
+    {
+        final CompletableFuture<Void> finished = runningReload;
+        runningReload = null;
+
+        if (error == null) {
+            Bukkit.getPluginManager().callEvent(new LanguageReloadEvent());
+            finished.complete(null);
+        } else {
+            finished.completeExceptionally(error);
+        }
+
+        if (queuedReload != null) {
+            final CompletableFuture<Void> queued = queuedReload;
+            queuedReload = null;
+
+            reload().whenComplete((result, queuedError) -> {
+                if (queuedError != null)
+                    queued.completeExceptionally(queuedError);
+                else
+                    queued.complete(null);
+            });
         }
     }
 
+    /**
+     * Starts watching every language file added to this LanguageHandler, including those added later, and reloads
+     * shortly after any of them changes.
+     *
+     * @throws IOException if the file system cannot be watched.
+     * @since 1.0.0
+     */
+    public void watchLanguageFiles() throws IOException
+    {
+        if (fileWatcher != null) return;
+
+        final LanguageFileWatcher watcher = new LanguageFileWatcher(plugin, this);
+        fileWatcher = watcher;
+
+        final List<Source> watchedSources;
+        synchronized (writeLock) {
+            watchedSources = new ArrayList<>(sources);
+        }
+
+        for (Source source : watchedSources)
+            if (source instanceof FileSource)
+                watcher.watch(((FileSource) source).getFile());
+    }
+
+    /**
+     * Stops watching language files, if they are watched.
+     *
+     * @since 1.0.0
+     */
+    public void stopWatchingLanguageFiles()
+    {
+        if (fileWatcher == null) return;
+
+        final LanguageFileWatcher watcher = fileWatcher;
+        fileWatcher = null;
+        watcher.close();
+    }
+
+    /**
+     * Returns the number of distinct message bodies stored. Messages shared between Locales are counted once.
+     *
+     * @return The number of distinct message bodies.
+     * @since 1.0.0
+     */
+    public int getDistinctMessageCount()
+    {
+        return snapshot.getDistinctMessageCount();
+    }
+
+    /**
+     * Returns an estimate of the heap saved by storing identical messages once, compared to every Locale keeping its
+     * own copy.
+     *
+     * @return The estimated number of bytes saved.
+     * @since 1.0.0
+     */
+    public long getMessagePoolBytesSaved()
+    {
+        return snapshot.getMessagePoolBytesSaved();
+    }
+
+    /**
+     * Returns the number of formatted messages in the render cache.
+     *
+     * @return The number of cached messages, or 0 if the render cache is disabled.
+     * @since 1.0.0
+     */
+    public int getRenderCacheSize()
+    {
+        return renderCache != null ? renderCache.size() : 0;
+    }
+
+    /**
+     * Returns the maximum number of formatted messages in the render cache.
+     *
+     * @return The capacity of the render cache, or 0 if it is disabled.
+     * @since 1.0.0
+     */
+    public int getRenderCacheCapacity()
+    {
+        return renderCache != null ? renderCache.getCapacity() : 0;
+    }
+
+    /**
+     * Returns the message ID of the given NamespacedKey. Message IDs are dense, starting at 0, and are assigned in
+     * the order that keys are first given messages. They never change once assigned.
+     *
+     * @param messageKey NamespacedKey to get the message ID of.
+     * @return The message ID of the given NamespacedKey, or -1 if it is not registered.
+     * @throws NullPointerException if messageKey is null.
+     * @since 1.0.0
+     */
+    public int getMessageId(@Nonnull NamespacedKey messageKey)
+    {
+        Objects.requireNonNull(messageKey, "Key cannot be null.");
+
+        return registry.getId(messageKey);
+    }
+
     /**
      * Returns a NamespacedKey with the given plugin namespace and key. If this NamespacedKey is already registered,
      * returns the existing instance, else creates a new NamespacedKey.
@@ -243,12 +632,9 @@ public class LanguageHandler {
         if (!keyLowerCase.equals(key)) plugin.getLogger().warning("Uppercase keys are automatically converted to " +
                 "lowercase by Bukkit. Yours: " + key);
 
-        for (NamespacedKey messageKey : keys) {
-            if (messageKey.getKey().equals(keyLowerCase) && messageKey.getNamespace().equals(pluginKeyName))
-                return messageKey;
-        }
+        final NamespacedKey messageKey = registry.find(pluginKeyName, keyLowerCase);
 
-        return new NamespacedKey(plugin, keyLowerCase);
+        return messageKey != null ? messageKey : new NamespacedKey(plugin, keyLowerCase);
     }
 
     /**
@@ -276,10 +662,8 @@ public class LanguageHandler {
         if (!keyLowerCase.equals(key)) plugin.getLogger().warning("Uppercase keys are automatically converted to " +
                 "lowercase by Bukkit. Yours: " + key);
 
-        for (NamespacedKey messageKey : keys) {
-            if (messageKey.getKey().equals(keyLowerCase) && messageKey.getNamespace().equals(pluginKeyName))
-                return messageKey;
-        }
+        final NamespacedKey messageKey = registry.find(pluginKeyName, keyLowerCase);
+        if (messageKey != null) return messageKey;
 
         throw new IllegalArgumentException(String.format("Key not found: %s:%s", pluginKeyName, keyLowerCase));
     }
@@ -292,7 +676,7 @@ public class LanguageHandler {
      */
     public boolean containsKey(@Nullable NamespacedKey key)
     {
-        return keys.contains(key);
+        return key != null && registry.contains(key);
     }
 
     /**
@@ -312,7 +696,7 @@ public class LanguageHandler {
         if (plugin.getConfiguration().API_REGEX_LOCALE_TESTS)
             ValidationUtil.validateLocale(locale);
 
-        return locales.contains(locale);
+        return snapshot.getLocales().contains(locale);
     }
 
     /**
@@ -323,6 +707,92 @@ public class LanguageHandler {
      */
     public List<String> getRegisteredLocales()
     {
-        return new ArrayList<>(locales);
+        return new ArrayList<>(snapshot.getLocales());
+    }
+
+    /**
+     * Something added to a LanguageHandler, which a reload adds again to the LanguageSnapshot it builds.
+     *
+     * @since 1.0.0
+     */
+    private interface Source {
+        /**
+         * Adds this Source to the Builder of a LanguageSnapshot. Called off the main thread during reloads.
+         *
+         * @param target Builder to add to.
+         * @throws IOException                   if a language file could not be read.
+         * @throws InvalidConfigurationException if a language file is not valid YAML.
+         * @since 1.0.0
+         */
+        void addTo(@Nonnull LanguageSnapshot.Builder target) throws IOException, InvalidConfigurationException;
+    }
+
+    /**
+     * A language file added through a LanguageLoader. Reloads parse it again.
+     *
+     * @since 1.0.0
+     */
+    private final class FileSource implements Source {
+        private final LanguageLoader languageLoader;
+        private final String fileName;
+
+        /**
+         * Constructs a FileSource.
+         *
+         * @param languageLoader LanguageLoader which parses the file.
+         * @param fileName       Name of the file.
+         * @since 1.0.0
+         */
+        private FileSource(@Nonnull LanguageLoader languageLoader, @Nonnull String fileName)
+        {
+            this.languageLoader = languageLoader;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public void addTo(@Nonnull LanguageSnapshot.Builder target)
+                throws IOException, InvalidConfigurationException
+        {
+            add(target, languageLoader.parseLanguageFile(fileName));
+        }
+
+        /**
+         * Adds the messages of the parsed file to the Builder of a LanguageSnapshot.
+         *
+         * @param target       Builder to add to.
+         * @param languageFile This file, parsed.
+         * @return The NamespacedKeys of every added message.
+         * @since 1.0.0
+         */
+        @Nonnull
+        private List<NamespacedKey> add(@Nonnull LanguageSnapshot.Builder target,
+                                        @Nonnull LanguageLoader.ParsedLanguageFile languageFile)
+        {
+            final String[] locales = languageFile.getLocales();
+            final Map<String, String> messages = languageFile.getMessages();
+            final List<NamespacedKey> messageKeys = new ArrayList<>(messages.size());
+
+            messages.forEach((key, message) -> {
+                // This avoids duplicate NamespacedKeys
+                final NamespacedKey messageKey = getKey(languageLoader.getPlugin(), key);
+
+                target.addMessage(messageKey, registry.register(messageKey), message, locales);
+                messageKeys.add(messageKey);
+            });
+
+            return messageKeys;
+        }
+
+        /**
+         * Returns the file of this FileSource.
+         *
+         * @return The file of this FileSource.
+         * @since 1.0.0
+         */
+        @Nonnull
+        private File getFile()
+        {
+            return languageLoader.getLanguageFile(fileName);
+        }
     }
 }
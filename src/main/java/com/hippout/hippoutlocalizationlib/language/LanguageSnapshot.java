@@ -0,0 +1,465 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.util.*;
+import org.bukkit.*;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * An immutable set of every Language of a LanguageHandler. Adding messages builds a new LanguageSnapshot through
+ * a Builder, which the LanguageHandler then publishes in a single write, so lookups never lock and never see a
+ * partly added message.
+ * <p>
+ * Safe to read from any thread. The flattened lookup table of each Locale is built on its first lookup, and shared
+ * afterwards. A LanguageSnapshot built from another carries over the tables the other already built, re-resolving
+ * only the messages added in between, and shares the storage of every Language it did not add to. Adding a few
+ * messages therefore costs far less than the size of the LanguageSnapshot.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class LanguageSnapshot {
+    private final MessageIdRegistry registry;
+
+    private final Map<String, Language> languageMap;
+    private final List<String> locales;
+    private final Language defaultLanguage;
+    private final MessagePool messagePool; // Only used by Builders, which are serialized by the LanguageHandler
+    private final int distinctMessageCount;
+    private final long messagePoolBytesSaved;
+
+    // Every Locale's fallback chain is flattened into one table of results, indexed by message ID.
+    private final Map<String, List<String>> fallbackChains;
+    private final boolean useBaseLanguageFallback;
+    private final ConcurrentMap<String, MessageTable> resolvedTables;
+    private final MessageTable defaultTable; // Used by Locales with no Languages in their chain
+
+    /**
+     * Constructs a LanguageSnapshot from the current state of a Builder.
+     *
+     * @param builder Builder to copy.
+     * @since 1.0.0
+     */
+    private LanguageSnapshot(@Nonnull Builder builder)
+    {
+        registry = builder.registry;
+        languageMap = Collections.unmodifiableMap(new HashMap<>(builder.languageMap));
+        locales = Collections.unmodifiableList(new ArrayList<>(builder.locales));
+        defaultLanguage = languageMap.get(builder.defaultLocale);
+        messagePool = builder.messagePool;
+        distinctMessageCount = messagePool.size();
+        messagePoolBytesSaved = messagePool.getBytesSaved();
+
+        fallbackChains = builder.fallbackChains;
+        useBaseLanguageFallback = builder.useBaseLanguageFallback;
+        resolvedTables = new ConcurrentHashMap<>();
+        defaultTable = defaultLanguage.getFallbackMessages();
+
+        if (builder.previous != null) carryOverTables(builder.previous, builder.addedMessageIds);
+    }
+
+    /**
+     * Carries the lookup tables built by the LanguageSnapshot this one was built from over to this one, re-resolving
+     * only the added messages. A table which was the Default Language's is left to be built on its next lookup.
+     *
+     * @param previous        LanguageSnapshot this one was built from.
+     * @param addedMessageIds Message IDs of every message added since previous.
+     * @since 1.0.0
+     */
+    private void carryOverTables(@Nonnull LanguageSnapshot previous, @Nonnull Set<Integer> addedMessageIds)
+    {
+        for (Map.Entry<String, MessageTable> entry : previous.resolvedTables.entrySet()) {
+            final String locale = entry.getKey();
+            final List<Language> chain = getFallbackLanguages(locale);
+
+            if (chain.isEmpty()) {
+                resolvedTables.put(locale, defaultTable);
+                continue;
+            }
+
+            // A Language was added to the chain, so no table of this Locale exists yet.
+            if (entry.getValue() == previous.defaultTable) continue;
+
+            final MessageTable table = new MessageTable(entry.getValue());
+            for (int messageId : addedMessageIds)
+                table.set(messageId, resolveMessage(chain, locale, messageId));
+
+            resolvedTables.put(locale, table);
+        }
+    }
+
+    /**
+     * Returns a Builder holding only an empty Default Language.
+     *
+     * @param plugin        HippOutLocalizationLib instance.
+     * @param registry      MessageIdRegistry assigning the message IDs of the built LanguageSnapshots.
+     * @param defaultLocale Default ISO-639 Locale.
+     * @return A new Builder.
+     * @since 1.0.0
+     */
+    @Nonnull
+    static Builder builder(@Nonnull HippOutLocalizationLib plugin, @Nonnull MessageIdRegistry registry,
+                           @Nonnull String defaultLocale)
+    {
+        return new Builder(plugin, registry, defaultLocale);
+    }
+
+    /**
+     * Returns a Builder holding every message of this LanguageSnapshot. Adding to it does not change this
+     * LanguageSnapshot.
+     *
+     * @param plugin HippOutLocalizationLib instance.
+     * @return A new Builder.
+     * @since 1.0.0
+     */
+    @Nonnull
+    Builder toBuilder(@Nonnull HippOutLocalizationLib plugin)
+    {
+        return new Builder(plugin, this);
+    }
+
+    /**
+     * Resolves a message through the flattened lookup table of the given Locale.
+     *
+     * @param locale    Language Code to fetch from.
+     * @param messageId Message ID of the message.
+     * @return The first message found along the fallback chain, or null if there is none.
+     * @since 1.0.0
+     */
+    @Nullable
+    MessageReturnWrapper resolve(@Nonnull String locale, int messageId)
+    {
+        MessageTable table = resolvedTables.get(locale);
+        if (table == null) table = resolveTable(locale);
+
+        return table.get(messageId);
+    }
+
+    /**
+     * Builds the flattened lookup tables of every known Locale ahead of their first lookup.
+     *
+     * @since 1.0.0
+     */
+    void resolveTables()
+    {
+        for (String locale : languageMap.keySet())
+            resolveTable(locale);
+
+        for (String locale : fallbackChains.keySet())
+            resolveTable(locale);
+    }
+
+    /**
+     * Returns the lookup table of a Locale, building and caching it if this is its first lookup.
+     *
+     * @param locale Locale to resolve.
+     * @return The lookup table of the given Locale.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private MessageTable resolveTable(@Nonnull String locale)
+    {
+        // Invalid Locales are not cached so that arbitrary Strings cannot grow the table Map.
+        if (!languageMap.containsKey(locale) && !fallbackChains.containsKey(locale) &&
+                !ValidationUtil.ISO639_LANGUAGE_PATTERN.matcher(locale).matches())
+            return defaultTable;
+
+        return resolvedTables.computeIfAbsent(locale, this::buildTable);
+    }
+
+    /**
+     * Builds the lookup table of a Locale, holding the first message found along its fallback chain for every
+     * message ID.
+     *
+     * @param locale Locale to build the table of.
+     * @return The lookup table of the given Locale, indexed by message ID.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private MessageTable buildTable(@Nonnull String locale)
+    {
+        final List<Language> chain = getFallbackLanguages(locale);
+        if (chain.isEmpty()) return defaultTable;
+
+        final MessageTable table = new MessageTable();
+        final int messageCount = registry.size();
+
+        for (int messageId = 0; messageId < messageCount; ++messageId) {
+            final MessageReturnWrapper message = resolveMessage(chain, locale, messageId);
+            if (message != null) table.set(messageId, message);
+        }
+
+        return table;
+    }
+
+    /**
+     * Resolves a single message of a Locale along its fallback chain.
+     *
+     * @param chain     Languages in the fallback chain of the Locale, as returned by getFallbackLanguages.
+     * @param locale    Locale to resolve the message for.
+     * @param messageId Message ID of the message.
+     * @return The first message found along the chain, else that of the Default Language, or null if there is none.
+     * @since 1.0.0
+     */
+    @Nullable
+    private MessageReturnWrapper resolveMessage(@Nonnull List<Language> chain, @Nonnull String locale,
+                                                int messageId)
+    {
+        for (Language language : chain) {
+            final MessageReturnWrapper message = language.getLocale().equals(locale) ?
+                    language.getMessage(messageId) : language.getFallbackMessage(messageId);
+            if (message != null) return message;
+        }
+
+        return defaultTable.get(messageId);
+    }
+
+    /**
+     * Returns the registered Languages in the fallback chain of a Locale, in order, starting with its own
+     * Language. The Default Language is left out unless it is the Locale's own Language, as it is always tried
+     * last.
+     *
+     * @param locale Locale to get the fallback chain of.
+     * @return The Languages to try, in order.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private List<Language> getFallbackLanguages(@Nonnull String locale)
+    {
+        final Set<String> chain = new LinkedHashSet<>();
+        collectFallbackLocales(locale, chain);
+
+        final List<Language> languages = new ArrayList<>();
+        for (String fallback : chain) {
+            final Language language = languageMap.get(fallback);
+            if (language != null && (language != defaultLanguage || fallback.equals(locale)))
+                languages.add(language);
+        }
+
+        return languages;
+    }
+
+    /**
+     * Adds a Locale and, depth-first, the Locales it falls back to, to the given chain. Locales which are already
+     * in the chain are skipped, so cycles in config.yml are harmless.
+     *
+     * @param locale Locale to add.
+     * @param chain  Ordered Set of Locales to add to.
+     * @since 1.0.0
+     */
+    private void collectFallbackLocales(@Nonnull String locale, @Nonnull Set<String> chain)
+    {
+        if (!chain.add(locale)) return;
+
+        for (String fallback : fallbackChains.getOrDefault(locale, Collections.emptyList()))
+            collectFallbackLocales(fallback, chain);
+
+        final int separator = locale.indexOf('_');
+        if (useBaseLanguageFallback && separator > 0)
+            collectFallbackLocales(locale.substring(0, separator), chain);
+    }
+
+    /**
+     * Fetches a message from the Default Language.
+     *
+     * @param messageId Message ID of the message.
+     * @return The message, or null if the Default Language does not contain it.
+     * @since 1.0.0
+     */
+    @Nullable
+    MessageReturnWrapper getDefaultLanguageMessage(int messageId)
+    {
+        return defaultLanguage.getMessage(messageId);
+    }
+
+    /**
+     * Returns the number of distinct message bodies stored.
+     *
+     * @return The number of distinct message bodies.
+     * @since 1.0.0
+     */
+    int getDistinctMessageCount()
+    {
+        return distinctMessageCount;
+    }
+
+    /**
+     * Returns an estimate of the heap saved by storing identical messages once.
+     *
+     * @return The estimated number of bytes saved.
+     * @since 1.0.0
+     */
+    long getMessagePoolBytesSaved()
+    {
+        return messagePoolBytesSaved;
+    }
+
+    /**
+     * Returns the Locales of every Language, in the order they were created.
+     *
+     * @return An unmodifiable List of the Locales of every Language.
+     * @since 1.0.0
+     */
+    @Nonnull
+    List<String> getLocales()
+    {
+        return locales;
+    }
+
+    /**
+     * Collects messages for a new LanguageSnapshot. Languages shared with the LanguageSnapshot it was created from
+     * are copied the first time they are added to, which only copies the storage the added messages land in. Not
+     * thread-safe.
+     *
+     * @since 1.0.0
+     */
+    static final class Builder {
+        private final HippOutLocalizationLib plugin;
+        private final MessageIdRegistry registry;
+        private final String defaultLocale;
+
+        private final Map<String, Language> languageMap;
+        private final List<String> locales;
+        private final MessagePool messagePool;
+        private final Set<Language> ownLanguages; // Languages which no LanguageSnapshot refers to yet
+
+        // LanguageSnapshot whose lookup tables the next build carries over, and what was added since.
+        private LanguageSnapshot previous;
+        private final Set<Integer> addedMessageIds;
+
+        private final Map<String, List<String>> fallbackChains;
+        private final boolean useBaseLanguageFallback;
+
+        /**
+         * Constructs a Builder holding only an empty Default Language.
+         *
+         * @param plugin        HippOutLocalizationLib instance.
+         * @param registry      MessageIdRegistry assigning the message IDs of this Builder.
+         * @param defaultLocale Default ISO-639 Locale.
+         * @since 1.0.0
+         */
+        private Builder(@Nonnull HippOutLocalizationLib plugin, @Nonnull MessageIdRegistry registry,
+                        @Nonnull String defaultLocale)
+        {
+            this.plugin = plugin;
+            this.registry = registry;
+            this.defaultLocale = defaultLocale;
+            languageMap = new HashMap<>();
+            locales = new ArrayList<>();
+            messagePool = new MessagePool();
+            ownLanguages = Collections.newSetFromMap(new IdentityHashMap<>());
+            addedMessageIds = new HashSet<>();
+
+            fallbackChains = plugin.getConfiguration().getFallbackChains();
+            useBaseLanguageFallback = plugin.getConfiguration().USE_BASE_LANGUAGE_FALLBACK;
+
+            final Language defaultLanguage = new Language(plugin, defaultLocale, true);
+            languageMap.put(defaultLocale, defaultLanguage);
+            locales.add(defaultLocale);
+            ownLanguages.add(defaultLanguage);
+        }
+
+        /**
+         * Constructs a Builder holding every message of a LanguageSnapshot.
+         *
+         * @param plugin   HippOutLocalizationLib instance.
+         * @param snapshot LanguageSnapshot to start from.
+         * @since 1.0.0
+         */
+        private Builder(@Nonnull HippOutLocalizationLib plugin, @Nonnull LanguageSnapshot snapshot)
+        {
+            this.plugin = plugin;
+            registry = snapshot.registry;
+            defaultLocale = snapshot.defaultLanguage.getLocale();
+            languageMap = new HashMap<>(snapshot.languageMap);
+            locales = new ArrayList<>(snapshot.locales);
+            messagePool = snapshot.messagePool;
+            ownLanguages = Collections.newSetFromMap(new IdentityHashMap<>());
+            previous = snapshot;
+            addedMessageIds = new HashSet<>();
+
+            fallbackChains = snapshot.fallbackChains;
+            useBaseLanguageFallback = snapshot.useBaseLanguageFallback;
+        }
+
+        /**
+         * Adds a message to the given Locales, creating their Languages if needed. Locales which already have a
+         * message with this ID keep it.
+         *
+         * @param messageKey Key of the message, for warnings.
+         * @param messageId  Message ID of the message.
+         * @param message    Message to add.
+         * @param locales    Locales to add the message to.
+         * @since 1.0.0
+         */
+        void addMessage(@Nonnull NamespacedKey messageKey, int messageId, @Nonnull String message,
+                        @Nonnull String... locales)
+        {
+            final MessageTemplate template = messagePool.intern(message);
+            int references = 0;
+
+            for (String locale : locales) {
+                final Language language = getOwnLanguage(locale);
+
+                if (language.containsMessage(messageId)) {
+                    plugin.getLogger().warning(String.format("Language %s already contains message %s. The " +
+                            "original message will be kept.", locale, messageKey));
+                } else {
+                    language.addMessage(messageId, template);
+                    ++references;
+                }
+            }
+
+            messagePool.addReferences(template, references);
+            if (references > 0) addedMessageIds.add(messageId);
+        }
+
+        /**
+         * Returns the Language of a Locale which only this Builder refers to, copying or creating it if needed.
+         *
+         * @param locale Locale of the Language.
+         * @return A Language which can be added to.
+         * @since 1.0.0
+         */
+        @Nonnull
+        private Language getOwnLanguage(@Nonnull String locale)
+        {
+            final Language language = languageMap.get(locale);
+            if (language != null && ownLanguages.contains(language)) return language;
+
+            final Language ownLanguage = language != null ? new Language(language) :
+                    new Language(plugin, locale, false);
+
+            if (language == null) locales.add(locale);
+            languageMap.put(locale, ownLanguage);
+            ownLanguages.add(ownLanguage);
+
+            return ownLanguage;
+        }
+
+        /**
+         * Builds a LanguageSnapshot holding every message added so far. Adding to this Builder afterwards does not
+         * change the built LanguageSnapshot.
+         *
+         * @return A new LanguageSnapshot.
+         * @since 1.0.0
+         */
+        @Nonnull
+        LanguageSnapshot build()
+        {
+            // The built LanguageSnapshot refers to every Language, so they are copied again before being added to.
+            ownLanguages.clear();
+
+            final LanguageSnapshot snapshot = new LanguageSnapshot(this);
+            previous = snapshot;
+            addedMessageIds.clear();
+
+            return snapshot;
+        }
+    }
+}
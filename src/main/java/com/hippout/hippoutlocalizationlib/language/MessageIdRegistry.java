@@ -0,0 +1,135 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import org.bukkit.*;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Assigns message IDs to NamespacedKeys. IDs are dense, starting at 0, and never change once assigned, so that
+ * they stay valid across reloads of every LanguageSnapshot.
+ * <p>
+ * Safe to use from any thread. Reads never lock. Registrations are serialized.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class MessageIdRegistry {
+    private final Map<NamespacedKey, Integer> messageIds;
+    private final Map<String, Map<String, NamespacedKey>> keyIndex; // Namespace -> Key -> NamespacedKey
+
+    // Indexed by message ID. Entries below size are never changed, so a reader that sees size sees them too.
+    private volatile NamespacedKey[] keys;
+    private volatile int size;
+
+    /**
+     * Constructs an empty MessageIdRegistry.
+     *
+     * @since 1.0.0
+     */
+    MessageIdRegistry()
+    {
+        messageIds = new ConcurrentHashMap<>();
+        keyIndex = new ConcurrentHashMap<>();
+        keys = new NamespacedKey[64];
+        size = 0;
+    }
+
+    /**
+     * Returns the message ID of the given NamespacedKey, assigning the next free ID if it is not yet registered.
+     *
+     * @param messageKey NamespacedKey to register.
+     * @return The message ID of the given NamespacedKey.
+     * @since 1.0.0
+     */
+    int register(@Nonnull NamespacedKey messageKey)
+    {
+        final Integer existingId = messageIds.get(messageKey);
+        if (existingId != null) return existingId;
+
+        synchronized (this) {
+            final Integer racedId = messageIds.get(messageKey);
+            if (racedId != null) return racedId;
+
+            final int messageId = size;
+            if (messageId == keys.length) keys = Arrays.copyOf(keys, keys.length * 2);
+
+            keys[messageId] = messageKey;
+            keyIndex.computeIfAbsent(messageKey.getNamespace(), n -> new ConcurrentHashMap<>())
+                    .put(messageKey.getKey(), messageKey);
+            size = messageId + 1;
+            messageIds.put(messageKey, messageId);
+
+            return messageId;
+        }
+    }
+
+    /**
+     * Returns the message ID of the given NamespacedKey.
+     *
+     * @param messageKey NamespacedKey to get the message ID of.
+     * @return The message ID of the given NamespacedKey, or -1 if it is not registered.
+     * @since 1.0.0
+     */
+    int getId(@Nonnull NamespacedKey messageKey)
+    {
+        final Integer messageId = messageIds.get(messageKey);
+        return messageId == null ? -1 : messageId;
+    }
+
+    /**
+     * Returns the NamespacedKey of the given message ID.
+     *
+     * @param messageId Message ID to get the NamespacedKey of.
+     * @return The NamespacedKey of the given message ID, or null if it is not assigned.
+     * @since 1.0.0
+     */
+    @Nullable
+    NamespacedKey getKey(int messageId)
+    {
+        final int currentSize = size;
+        final NamespacedKey[] currentKeys = keys;
+
+        return messageId >= 0 && messageId < currentSize ? currentKeys[messageId] : null;
+    }
+
+    /**
+     * Fetches a registered NamespacedKey from the key index.
+     *
+     * @param namespace Lowercase namespace of the NamespacedKey.
+     * @param key       Lowercase key of the NamespacedKey.
+     * @return The registered NamespacedKey, or null if it is not registered.
+     * @since 1.0.0
+     */
+    @Nullable
+    NamespacedKey find(@Nonnull String namespace, @Nonnull String key)
+    {
+        final Map<String, NamespacedKey> namespaceKeys = keyIndex.get(namespace);
+        return namespaceKeys == null ? null : namespaceKeys.get(key);
+    }
+
+    /**
+     * Returns whether the given NamespacedKey is registered.
+     *
+     * @param messageKey NamespacedKey to check.
+     * @return True if the given NamespacedKey is registered, else false.
+     * @since 1.0.0
+     */
+    boolean contains(@Nonnull NamespacedKey messageKey)
+    {
+        return messageIds.containsKey(messageKey);
+    }
+
+    /**
+     * Returns the number of assigned message IDs.
+     *
+     * @return The number of assigned message IDs.
+     * @since 1.0.0
+     */
+    int size()
+    {
+        return size;
+    }
+}
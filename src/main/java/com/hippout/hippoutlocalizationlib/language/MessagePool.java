@@ -0,0 +1,104 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * A pool of compiled messages shared by every Language. Identical message bodies are compiled and stored once, no
+ * matter how many Locales or language files they appear in, and each Language refers to the shared MessageTemplate.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+class MessagePool {
+    private final Map<String, PooledMessage> messages;
+    private long bytesSaved;
+
+    /**
+     * Constructs an empty MessagePool.
+     *
+     * @since 1.0.0
+     */
+    MessagePool()
+    {
+        messages = new HashMap<>();
+        bytesSaved = 0;
+    }
+
+    /**
+     * Returns the shared MessageTemplate of the given message, compiling it if this is its first appearance.
+     *
+     * @param message Message to fetch.
+     * @return The shared MessageTemplate.
+     * @throws NullPointerException if message is null.
+     * @since 1.0.0
+     */
+    @Nonnull
+    MessageTemplate intern(@Nonnull String message)
+    {
+        Objects.requireNonNull(message, "Message cannot be null.");
+
+        return messages.computeIfAbsent(message, m -> new PooledMessage(MessageTemplate.compile(m))).template;
+    }
+
+    /**
+     * Records that a pooled MessageTemplate was stored in the given number of Languages. Every reference after the
+     * first would have been a separate copy without the pool, and counts towards getBytesSaved.
+     *
+     * @param template   Pooled MessageTemplate, as returned by intern.
+     * @param references Number of new references.
+     * @throws IllegalArgumentException if template was not returned by this MessagePool.
+     * @since 1.0.0
+     */
+    void addReferences(@Nonnull MessageTemplate template, int references)
+    {
+        final PooledMessage pooled = messages.get(template.getSource());
+        if (pooled == null || pooled.template != template)
+            throw new IllegalArgumentException("MessageTemplate is not from this MessagePool: " + template);
+
+        final int copies = pooled.references == 0 ? references - 1 : references;
+        if (copies > 0) bytesSaved += copies * pooled.retainedBytes;
+
+        pooled.references += references;
+    }
+
+    /**
+     * Returns the number of distinct messages in this MessagePool.
+     *
+     * @return The number of distinct messages.
+     * @since 1.0.0
+     */
+    int size()
+    {
+        return messages.size();
+    }
+
+    /**
+     * Returns an estimate of the heap saved by sharing messages, compared to every Language keeping its own copy.
+     *
+     * @return The estimated number of bytes saved.
+     * @since 1.0.0
+     */
+    long getBytesSaved()
+    {
+        return bytesSaved;
+    }
+
+    /**
+     * A pooled MessageTemplate and the number of Languages referring to it.
+     *
+     * @since 1.0.0
+     */
+    private static class PooledMessage {
+        private final MessageTemplate template;
+        private final long retainedBytes;
+        private int references;
+
+        private PooledMessage(@Nonnull MessageTemplate template)
+        {
+            this.template = template;
+            this.retainedBytes = template.estimateRetainedBytes();
+            this.references = 0;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.api.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * A table of MessageReturnWrappers indexed by message ID, stored in fixed-size chunks. Copies share every chunk with
+ * the original and only copy a chunk the first time it is set, so copying a table and setting a few messages costs
+ * a fraction of its size rather than all of it.
+ * <p>
+ * A table is only set while it is being built. Once published it is never changed, and is safe to read from any
+ * thread.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class MessageTable {
+    private static final int CHUNK_BITS = 8;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    // Absent chunks and absent messages are null.
+    private MessageReturnWrapper[][] chunks;
+    private boolean[] ownedChunks; // Chunks which no other MessageTable refers to
+
+    /**
+     * Creates an empty MessageTable.
+     *
+     * @since 1.0.0
+     */
+    MessageTable()
+    {
+        this.chunks = new MessageReturnWrapper[0][];
+        this.ownedChunks = new boolean[0];
+    }
+
+    /**
+     * Creates a copy of the given MessageTable, which can be set without changing the original.
+     *
+     * @param table MessageTable to copy.
+     * @since 1.0.0
+     */
+    MessageTable(@Nonnull MessageTable table)
+    {
+        this.chunks = table.chunks.clone();
+        this.ownedChunks = new boolean[chunks.length];
+    }
+
+    /**
+     * Fetches a message from this MessageTable.
+     *
+     * @param messageId Message ID of the message.
+     * @return The message, or null if this MessageTable does not contain it.
+     * @since 1.0.0
+     */
+    @Nullable
+    MessageReturnWrapper get(int messageId)
+    {
+        if (messageId < 0) return null;
+
+        final int chunk = messageId >>> CHUNK_BITS;
+        if (chunk >= chunks.length || chunks[chunk] == null) return null;
+
+        return chunks[chunk][messageId & CHUNK_MASK];
+    }
+
+    /**
+     * Sets a message of this MessageTable, copying its chunk first if it is shared with another MessageTable.
+     *
+     * @param messageId Message ID of the message. Must not be negative.
+     * @param message   Message to set, or null to remove it.
+     * @since 1.0.0
+     */
+    void set(int messageId, @Nullable MessageReturnWrapper message)
+    {
+        final int chunk = messageId >>> CHUNK_BITS;
+
+        if (chunk >= chunks.length) {
+            final int capacity = Math.max(chunk + 1, chunks.length * 2);
+            chunks = Arrays.copyOf(chunks, capacity);
+            ownedChunks = Arrays.copyOf(ownedChunks, capacity);
+        }
+
+        if (!ownedChunks[chunk]) {
+            chunks[chunk] = chunks[chunk] != null ? chunks[chunk].clone() : new MessageReturnWrapper[CHUNK_SIZE];
+            ownedChunks[chunk] = true;
+        }
+
+        chunks[chunk][messageId & CHUNK_MASK] = message;
+    }
+}
@@ -0,0 +1,336 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import javax.annotation.*;
+import java.math.*;
+import java.util.*;
+
+/**
+ * A message which has been parsed once into literal segments and typed argument slots, so that it can be formatted
+ * without String.format re-parsing it on every call.
+ * <p>
+ * Supports %s, %d, explicitly indexed arguments such as %1$s, %% and %n with the same semantics as String.format.
+ * Any other specifier (flags, widths, precisions, other conversions) causes the whole template to be formatted with
+ * String.format instead, so behavior always matches String.format. The only difference is that %d always renders
+ * ASCII digits rather than those of the default formatting Locale.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class MessageTemplate {
+    private final String source;
+
+    // literals.length == argIndices.length + 1. Slot i is rendered between literals[i] and literals[i + 1].
+    private final String[] literals;
+    private final int[] argIndices;
+    private final char[] conversions;
+
+    private final boolean requiresFormatter;
+    private final int literalLength;
+
+    /**
+     * Constructs a MessageTemplate with the given parsed parts.
+     *
+     * @since 1.0.0
+     */
+    private MessageTemplate(@Nonnull String source, @Nonnull String[] literals, @Nonnull int[] argIndices,
+                            @Nonnull char[] conversions, boolean requiresFormatter)
+    {
+        this.source = source;
+        this.literals = literals;
+        this.argIndices = argIndices;
+        this.conversions = conversions;
+        this.requiresFormatter = requiresFormatter;
+
+        int length = 0;
+        for (String literal : literals)
+            length += literal.length();
+
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a message into a MessageTemplate.
+     *
+     * @param source Message to compile.
+     * @return The compiled MessageTemplate.
+     * @throws NullPointerException if source is null.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public static MessageTemplate compile(@Nonnull String source)
+    {
+        Objects.requireNonNull(source, "Source cannot be null.");
+
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> argIndices = new ArrayList<>();
+        final List<Character> conversions = new ArrayList<>();
+
+        final StringBuilder literal = new StringBuilder();
+        final int length = source.length();
+        int ordinaryIndex = 0;
+
+        for (int i = 0; i < length; ++i) {
+            final char c = source.charAt(i);
+
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+
+            if (i + 1 >= length)
+                return formatterTemplate(source);
+
+            int j = i + 1;
+            int explicitIndex = 0;
+
+            while (j < length && Character.isDigit(source.charAt(j)))
+                explicitIndex = explicitIndex * 10 + (source.charAt(j++) - '0');
+
+            final boolean hasDigits = j > i + 1;
+
+            if (hasDigits) {
+                // Digits without '$' are widths or flags. An index of 0 is not a valid argument index.
+                if (j >= length || source.charAt(j) != '$' || explicitIndex == 0 || source.charAt(i + 1) == '0')
+                    return formatterTemplate(source);
+                ++j;
+            }
+
+            if (j >= length)
+                return formatterTemplate(source);
+
+            final char conversion = source.charAt(j);
+
+            switch (conversion) {
+                case '%':
+                case 'n':
+                    if (hasDigits) return formatterTemplate(source);
+                    literal.append(conversion == '%' ? "%" : System.lineSeparator());
+                    break;
+                case 's':
+                case 'd':
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    argIndices.add(hasDigits ? explicitIndex - 1 : ordinaryIndex++);
+                    conversions.add(conversion);
+                    break;
+                default:
+                    return formatterTemplate(source);
+            }
+
+            i = j;
+        }
+
+        literals.add(literal.toString());
+
+        final int[] indexArray = new int[argIndices.size()];
+        final char[] conversionArray = new char[conversions.size()];
+        for (int i = 0; i < indexArray.length; ++i) {
+            indexArray[i] = argIndices.get(i);
+            conversionArray[i] = conversions.get(i);
+        }
+
+        return new MessageTemplate(source, literals.toArray(new String[0]), indexArray, conversionArray, false);
+    }
+
+    /**
+     * Returns a MessageTemplate which always formats through String.format.
+     *
+     * @param source Message to wrap.
+     * @return The new MessageTemplate.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static MessageTemplate formatterTemplate(@Nonnull String source)
+    {
+        return new MessageTemplate(source, new String[]{source}, new int[0], new char[0], true);
+    }
+
+    /**
+     * Formats this MessageTemplate with the given arguments. Equivalent to String.format(getSource(), args).
+     *
+     * @param args Arguments to format with.
+     * @return The formatted String.
+     * @throws NullPointerException             if args is null.
+     * @throws java.util.IllegalFormatException see String.format.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public String format(@Nonnull Object... args)
+    {
+        Objects.requireNonNull(args, "Args cannot be null.");
+
+        if (requiresFormatter)
+            return String.format(source, args);
+
+        if (argIndices.length == 0)
+            return literals[0];
+
+        // A new builder every call, as arguments' toString may format other messages on this thread.
+        return formatTo(new StringBuilder(literalLength + argIndices.length * 8), args).toString();
+    }
+
+    /**
+     * Formats this MessageTemplate with the given arguments, appending the result to the given StringBuilder.
+     *
+     * @param builder StringBuilder to append to.
+     * @param args    Arguments to format with.
+     * @return The given StringBuilder.
+     * @throws NullPointerException             if builder or args is null.
+     * @throws java.util.IllegalFormatException see String.format.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public StringBuilder formatTo(@Nonnull StringBuilder builder, @Nonnull Object... args)
+    {
+        Objects.requireNonNull(builder, "Builder cannot be null.");
+        Objects.requireNonNull(args, "Args cannot be null.");
+
+        if (requiresFormatter)
+            return builder.append(String.format(source, args));
+
+        // Validate before appending anything so that a failed format leaves the builder untouched.
+        for (int i = 0; i < argIndices.length; ++i) {
+            final int argIndex = argIndices[i];
+
+            if (argIndex >= args.length)
+                throw new MissingFormatArgumentException(getSpecifier(i));
+
+            final Object arg = args[argIndex];
+            if (arg instanceof Formattable)
+                return builder.append(String.format(source, args));
+
+            if (conversions[i] == 'd' && arg != null && !isIntegral(arg))
+                throw new IllegalFormatConversionException('d', arg.getClass());
+        }
+
+        builder.ensureCapacity(builder.length() + literalLength + argIndices.length * 8);
+
+        for (int i = 0; i < argIndices.length; ++i) {
+            builder.append(literals[i]);
+
+            final Object arg = args[argIndices[i]];
+            if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte)
+                builder.append(((Number) arg).longValue());
+            else
+                builder.append(arg);
+        }
+
+        return builder.append(literals[literals.length - 1]);
+    }
+
+    /**
+     * Returns whether the given Object can be formatted with %d.
+     *
+     * @param arg Object to check.
+     * @return True if arg is an integral type accepted by %d, false otherwise.
+     * @since 1.0.0
+     */
+    private static boolean isIntegral(@Nonnull Object arg)
+    {
+        return arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte
+                || arg instanceof BigInteger;
+    }
+
+    /**
+     * Rebuilds the specifier of the given slot for error messages.
+     *
+     * @param slot Slot index.
+     * @return The specifier, for example %s or %2$d.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private String getSpecifier(int slot)
+    {
+        return "%" + (argIndices[slot] + 1) + "$" + conversions[slot];
+    }
+
+    /**
+     * Returns the number of argument slots in this MessageTemplate. Templates which format through String.format
+     * report 0.
+     *
+     * @return The number of argument slots.
+     * @since 1.0.0
+     */
+    public int getSlotCount()
+    {
+        return argIndices.length;
+    }
+
+    /**
+     * Returns whether this MessageTemplate formats through String.format because it uses unsupported specifiers.
+     *
+     * @return True if String.format is used, false otherwise.
+     * @since 1.0.0
+     */
+    public boolean requiresFormatter()
+    {
+        return requiresFormatter;
+    }
+
+    /**
+     * Estimates the heap retained by this MessageTemplate and its source message, assuming a 64-bit JVM with
+     * compressed references and UTF-16 Strings.
+     *
+     * @return The estimated retained size in bytes.
+     * @since 1.0.0
+     */
+    long estimateRetainedBytes()
+    {
+        long bytes = align(12 + 4 * 4 + 4 + 1) + estimateStringBytes(source);
+
+        bytes += align(16 + 4L * literals.length);
+        for (String literal : literals)
+            if (literal != source) bytes += estimateStringBytes(literal);
+
+        return bytes + align(16 + 4L * argIndices.length) + align(16 + 2L * conversions.length);
+    }
+
+    /**
+     * Estimates the heap retained by a String and its character array.
+     *
+     * @param str String to estimate.
+     * @return The estimated retained size in bytes.
+     * @since 1.0.0
+     */
+    private static long estimateStringBytes(@Nonnull String str)
+    {
+        return align(12 + 4 + 4) + align(16 + 2L * str.length());
+    }
+
+    /**
+     * Rounds a size up to the 8-byte object alignment.
+     *
+     * @param bytes Unaligned size.
+     * @return The aligned size.
+     * @since 1.0.0
+     */
+    private static long align(long bytes)
+    {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Returns the unformatted message this MessageTemplate was compiled from.
+     *
+     * @return The source message.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public String getSource()
+    {
+        return source;
+    }
+
+    /**
+     * Returns the unformatted source message.
+     *
+     * @return The source message.
+     * @since 1.0.0
+     */
+    @Override
+    public String toString()
+    {
+        return source;
+    }
+}
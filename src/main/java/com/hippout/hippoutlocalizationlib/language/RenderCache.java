@@ -0,0 +1,236 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.metrics.*;
+
+import javax.annotation.*;
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A size-bounded LRU cache of formatted messages, keyed by message ID, Locale and format arguments. Only arguments
+ * of immutable value types are cached, as the result of any other argument may change between calls.
+ * <p>
+ * Safe to use from any thread. Every access holds the lock of this RenderCache briefly. Formatting happens outside
+ * of it. Invalidating a message ID removes every entry of it. Results are only cached if nothing was invalidated
+ * since the caller looked up the message, as it may be a previous one otherwise.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class RenderCache {
+    private final int capacity;
+    private final LocalizationMetrics metrics;
+
+    // Guarded by this
+    private final LinkedHashMap<Key, String> entries;
+    private final Map<Integer, Set<Key>> messageKeys; // Message ID -> Entries of that message
+    private volatile long version; // Written while holding the lock
+
+    /**
+     * Constructs an empty RenderCache.
+     *
+     * @param capacity Maximum number of entries. Least recently used entries are evicted first.
+     * @param metrics  LocalizationMetrics to record hits, misses and evictions in.
+     * @throws IllegalArgumentException if capacity is less than 1.
+     * @since 1.0.0
+     */
+    RenderCache(int capacity, @Nonnull LocalizationMetrics metrics)
+    {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be at least 1. Yours: " + capacity);
+
+        this.capacity = capacity;
+        this.metrics = Objects.requireNonNull(metrics, "Metrics cannot be null.");
+        messageKeys = new HashMap<>();
+        version = 0;
+
+        entries = new LinkedHashMap<Key, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest)
+            {
+                if (size() <= RenderCache.this.capacity) return false;
+
+                forget(eldest.getKey());
+                metrics.recordRenderCacheEviction();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns whether a result formatted with the given arguments can be cached.
+     *
+     * @param formatArgs Format arguments.
+     * @return True if every argument is of an immutable value type, else false.
+     * @since 1.0.0
+     */
+    static boolean isCacheable(@Nonnull Object[] formatArgs)
+    {
+        for (Object arg : formatArgs) {
+            if (arg == null) continue;
+
+            final Class<?> type = arg.getClass();
+            if (type != String.class && type != Integer.class && type != Long.class && type != Short.class &&
+                    type != Byte.class && type != Double.class && type != Float.class && type != Boolean.class &&
+                    type != Character.class && type != UUID.class && type != BigInteger.class &&
+                    type != BigDecimal.class && !(arg instanceof Enum))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the current version of this RenderCache, which changes with every invalidation. Callers get it
+     * before looking up the message that they pass to get.
+     *
+     * @return The current version.
+     * @since 1.0.0
+     */
+    long getVersion()
+    {
+        return version;
+    }
+
+    /**
+     * Returns the cached result of a message, formatting and caching it on a miss.
+     *
+     * @param version    Version of this RenderCache from before the message was looked up.
+     * @param messageId  Message ID of the message.
+     * @param locale     Locale of the message.
+     * @param formatArgs Format arguments, which must pass isCacheable.
+     * @param formatter  Formats the message on a miss.
+     * @return The formatted message.
+     * @since 1.0.0
+     */
+    @Nonnull
+    String get(long version, int messageId, @Nonnull String locale, @Nonnull Object[] formatArgs,
+               @Nonnull Supplier<String> formatter)
+    {
+        final String cached;
+        synchronized (this) {
+            cached = entries.get(new Key(messageId, locale, formatArgs));
+        }
+
+        if (cached != null) {
+            metrics.recordRenderCacheHit();
+            return cached;
+        }
+
+        metrics.recordRenderCacheMiss();
+        final String rendered = formatter.get();
+
+        // The caller may change its array afterwards, so the stored key keeps a copy.
+        final Key key = new Key(messageId, locale, formatArgs.clone());
+        synchronized (this) {
+            if (this.version == version && entries.put(key, rendered) == null)
+                messageKeys.computeIfAbsent(messageId, id -> new HashSet<>()).add(key);
+        }
+
+        return rendered;
+    }
+
+    /**
+     * Removes every entry of the given message IDs. Called after their messages changed.
+     *
+     * @param messageIds Message IDs to invalidate.
+     * @since 1.0.0
+     */
+    synchronized void invalidate(@Nonnull Collection<Integer> messageIds)
+    {
+        ++version;
+
+        for (Integer messageId : messageIds) {
+            final Set<Key> keys = messageKeys.remove(messageId);
+            if (keys != null) entries.keySet().removeAll(keys);
+        }
+    }
+
+    /**
+     * Removes every entry. Called after a reload.
+     *
+     * @since 1.0.0
+     */
+    synchronized void invalidateAll()
+    {
+        ++version;
+
+        entries.clear();
+        messageKeys.clear();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return The number of cached entries.
+     * @since 1.0.0
+     */
+    synchronized int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum number of cached entries.
+     *
+     * @return The capacity of this RenderCache.
+     * @since 1.0.0
+     */
+    int getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * Removes an evicted entry from the message ID index. Called while holding the lock.
+     *
+     * @param key Key of the evicted entry.
+     * @since 1.0.0
+     */
+    private void forget(@Nonnull Key key)
+    {
+        final Set<Key> keys = messageKeys.get(key.messageId);
+        if (keys == null) return;
+
+        keys.remove(key);
+        if (keys.isEmpty()) messageKeys.remove(key.messageId);
+    }
+
+    /**
+     * A message ID, Locale and format arguments, compared by value.
+     *
+     * @since 1.0.0
+     */
+    private static final class Key {
+        private final int messageId;
+        private final String locale;
+        private final Object[] formatArgs;
+        private final int hash;
+
+        private Key(int messageId, @Nonnull String locale, @Nonnull Object[] formatArgs)
+        {
+            this.messageId = messageId;
+            this.locale = locale;
+            this.formatArgs = formatArgs;
+            this.hash = 31 * (31 * messageId + locale.hashCode()) + Arrays.hashCode(formatArgs);
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+
+            final Key key = (Key) o;
+            return messageId == key.messageId && hash == key.hash && locale.equals(key.locale) &&
+                    Arrays.equals(formatArgs, key.formatArgs);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
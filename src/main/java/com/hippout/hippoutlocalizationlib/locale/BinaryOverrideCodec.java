@@ -0,0 +1,151 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.*;
+
+/**
+ * Reads and writes Locale Overrides in a compact binary format, so that loading large override files costs little
+ * more than reading them.
+ * <p>
+ * The format is a header, a table of every distinct Locale, and one fixed-size entry per override holding its UUID
+ * and the index of its Locale in the table, followed by a CRC32 of everything before it. All numbers are big-endian.
+ * </p>
+ * <pre>
+ * int    magic "HOLO"
+ * short  format version
+ * ushort Locale count, then per Locale: ushort length, UTF-8 bytes
+ * int    entry count, then per entry: long UUID most significant bits, long least significant bits, ushort Locale
+ * int    CRC32
+ * </pre>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class BinaryOverrideCodec {
+    private static final int MAGIC = 0x484F4C4F;
+    private static final short VERSION = 1;
+    private static final int ENTRY_BYTES = 16 + 2;
+    private static final int MAX_LOCALES = 0xFFFF;
+
+    /**
+     * Prevents instantiation.
+     */
+    private BinaryOverrideCodec()
+    {
+    }
+
+    /**
+     * Encodes a Map of Locale Overrides.
+     *
+     * @param overrides Map of UUIDs to their Locale Overrides.
+     * @return The encoded Locale Overrides.
+     * @throws IllegalArgumentException if there are more than 65535 distinct Locales, or a Locale is too long.
+     * @since 1.0.0
+     */
+    @Nonnull
+    static byte[] encode(@Nonnull Map<UUID, String> overrides)
+    {
+        final Map<String, Integer> ordinals = new LinkedHashMap<>();
+        for (String locale : overrides.values())
+            ordinals.putIfAbsent(locale, ordinals.size());
+
+        if (ordinals.size() > MAX_LOCALES)
+            throw new IllegalArgumentException("Cannot encode more than " + MAX_LOCALES + " distinct Locales.");
+
+        final List<byte[]> localeBytes = new ArrayList<>(ordinals.size());
+        int tableBytes = 0;
+        for (String locale : ordinals.keySet()) {
+            final byte[] bytes = locale.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) throw new IllegalArgumentException("Locale is too long to encode: " + locale);
+
+            localeBytes.add(bytes);
+            tableBytes += 2 + bytes.length;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocate(4 + 2 + 2 + tableBytes + 4 +
+                overrides.size() * ENTRY_BYTES + 4);
+
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) ordinals.size());
+        for (byte[] bytes : localeBytes)
+            buffer.putShort((short) bytes.length).put(bytes);
+
+        buffer.putInt(overrides.size());
+        overrides.forEach((id, locale) -> buffer.putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits()).putShort((short) (int) ordinals.get(locale)));
+
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+
+        return buffer.array();
+    }
+
+    /**
+     * Reads Locale Overrides from a file. Every entry of a Locale shares one String instance. The file is read into
+     * memory rather than mapped, so that it can be replaced or deleted as soon as this returns.
+     *
+     * @param file File to read.
+     * @return A Map of UUIDs to their Locale Overrides.
+     * @throws IOException if the file could not be read, or is not a valid override file.
+     * @since 1.0.0
+     */
+    @Nonnull
+    static Map<UUID, String> read(@Nonnull Path file) throws IOException
+    {
+        try {
+            return decode(ByteBuffer.wrap(Files.readAllBytes(file)), file);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException(file.getFileName() + " is truncated.", e);
+        }
+    }
+
+    /**
+     * Decodes Locale Overrides.
+     *
+     * @param buffer Buffer holding the whole file.
+     * @param file   File being decoded, for error messages.
+     * @return A Map of UUIDs to their Locale Overrides.
+     * @throws IOException if the buffer is not a valid override file.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static Map<UUID, String> decode(@Nonnull ByteBuffer buffer, @Nonnull Path file) throws IOException
+    {
+        if (buffer.getInt() != MAGIC)
+            throw new IOException(file.getFileName() + " is not a binary Locale Override file.");
+
+        final short version = buffer.getShort();
+        if (version != VERSION)
+            throw new IOException(String.format("%s has unsupported version %d.", file.getFileName(), version));
+
+        final int end = buffer.limit() - 4;
+        final CRC32 crc = new CRC32();
+        crc.update((ByteBuffer) ((Buffer) buffer.duplicate()).position(0).limit(end));
+        if ((int) crc.getValue() != buffer.getInt(end))
+            throw new IOException(file.getFileName() + " is corrupt. Its checksum does not match.");
+
+        final String[] locales = new String[buffer.getShort() & 0xFFFF];
+        for (int i = 0; i < locales.length; ++i) {
+            final byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            locales[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        final int count = buffer.getInt();
+        if (count < 0 || (long) count * ENTRY_BYTES != end - buffer.position())
+            throw new IOException(String.format("%s has an invalid entry count %d.", file.getFileName(), count));
+
+        final Map<UUID, String> overrides = new HashMap<>((int) (count / 0.75f) + 1);
+        for (int i = 0; i < count; ++i) {
+            final UUID id = new UUID(buffer.getLong(), buffer.getLong());
+            overrides.put(id, locales[buffer.getShort() & 0xFFFF]);
+        }
+
+        return overrides;
+    }
+}
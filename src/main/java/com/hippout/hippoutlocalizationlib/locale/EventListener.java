@@ -1,6 +1,7 @@
 package com.hippout.hippoutlocalizationlib.locale;
 
 import com.hippout.hippoutlocalizationlib.*;
+import org.bukkit.entity.*;
 import org.bukkit.event.*;
 import org.bukkit.event.player.*;
 
@@ -8,7 +9,8 @@ import javax.annotation.*;
 import java.util.*;
 
 /**
- * Listens for Player Locale changes and disconnects and modifies the Player Locale Cache appropriately.
+ * Listens for Player Locale changes and disconnects and modifies the Player Locale Cache and LocaleAudienceIndex
+ * appropriately.
  *
  * @author Wyatt Kalmer
  * @since 1.0.0
@@ -40,9 +42,12 @@ public class EventListener implements Listener {
     @EventHandler(priority = EventPriority.LOWEST)
     public void onPlayerJoin(PlayerJoinEvent event)
     {
-        plugin.getLocaleCache().setLocale(event.getPlayer().getUniqueId(), event.getPlayer().getLocale());
-        plugin.getLogger().info(String.format(LOG_PLAYER_LOCALE_CHANGED,
-                event.getPlayer().getName(), event.getPlayer().getLocale()));
+        final Player player = event.getPlayer();
+        final LocaleCache localeCache = plugin.getLocaleCache();
+
+        localeCache.setLocale(player.getUniqueId(), player.getLocale());
+        plugin.getLocaleAudienceIndex().addPlayer(player, localeCache.getLocale(player.getUniqueId()));
+        plugin.getLogger().info(String.format(LOG_PLAYER_LOCALE_CHANGED, player.getName(), player.getLocale()));
     }
 
     /**
@@ -70,6 +75,8 @@ public class EventListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onPlayerLeave(PlayerQuitEvent event)
     {
+        plugin.getLocaleAudienceIndex().removePlayer(event.getPlayer().getUniqueId());
+
         if (plugin.getConfiguration().REMOVE_DISCONNECTED_PLAYER_LOCALES) {
             plugin.getLocaleCache().removeLocale(event.getPlayer().getUniqueId());
             plugin.getLogger().info(String.format(LOG_PLAYER_LOCALE_REMOVED, event.getPlayer().getName()));
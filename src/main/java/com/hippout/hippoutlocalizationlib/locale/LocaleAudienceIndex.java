@@ -0,0 +1,175 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import org.bukkit.entity.*;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * A live index of online Players grouped by their Locale, as returned by LocaleCache.getLocale. Kept up to date by
+ * the EventListener and by every LocaleCache write, so that broadcasts to every online Player can render each
+ * message once per Locale and send it to a pre-grouped array of Players without looking up any Player's Locale.
+ * <p>
+ * The index is only modified on the main thread. Each audience is an array which is replaced rather than modified, so
+ * it is safe to iterate from any thread, but it must never be modified by callers.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class LocaleAudienceIndex {
+    private static final Player[] EMPTY_AUDIENCE = new Player[0];
+
+    private final Map<String, Player[]> audiences;
+    private final Map<UUID, String> playerLocales;
+
+    /**
+     * Constructs a LocaleAudienceIndex containing the given Players.
+     *
+     * @param localeCache    LocaleCache to fetch the initial Players' Locales from.
+     * @param initialPlayers Collection of online Players to populate this LocaleAudienceIndex with.
+     * @throws NullPointerException if localeCache or initialPlayers is null.
+     * @since 1.0.0
+     */
+    public LocaleAudienceIndex(@Nonnull LocaleCache localeCache, @Nonnull Collection<? extends Player> initialPlayers)
+    {
+        Objects.requireNonNull(localeCache, "Locale Cache cannot be null.");
+        Objects.requireNonNull(initialPlayers, "Initial Players List cannot be null.");
+
+        audiences = new ConcurrentHashMap<>();
+        playerLocales = new HashMap<>();
+
+        initialPlayers.forEach(p -> addPlayer(p, localeCache.getLocale(p.getUniqueId())));
+    }
+
+    /**
+     * Adds an online Player to the audience of the given Locale. If the Player is already present, they are moved
+     * instead.
+     *
+     * @param player Player to add.
+     * @param locale Current Locale of the Player.
+     * @throws NullPointerException if player or locale is null.
+     * @since 1.0.0
+     */
+    void addPlayer(@Nonnull Player player, @Nonnull String locale)
+    {
+        Objects.requireNonNull(player, "Player cannot be null.");
+        Objects.requireNonNull(locale, "Locale cannot be null.");
+
+        removePlayer(player.getUniqueId());
+
+        final Player[] audience = audiences.getOrDefault(locale, EMPTY_AUDIENCE);
+        final Player[] newAudience = Arrays.copyOf(audience, audience.length + 1);
+        newAudience[audience.length] = player;
+
+        audiences.put(locale, newAudience);
+        playerLocales.put(player.getUniqueId(), locale);
+    }
+
+    /**
+     * Removes a Player from this LocaleAudienceIndex. Does nothing if they are not present.
+     *
+     * @param id UUID of the Player to remove.
+     * @throws NullPointerException if id is null.
+     * @since 1.0.0
+     */
+    void removePlayer(@Nonnull UUID id)
+    {
+        Objects.requireNonNull(id, "UUID cannot be null.");
+
+        final String locale = playerLocales.remove(id);
+        if (locale == null) return;
+
+        final Player[] audience = audiences.get(locale);
+        if (audience.length == 1) {
+            audiences.remove(locale);
+            return;
+        }
+
+        final Player[] newAudience = new Player[audience.length - 1];
+        int i = 0;
+        for (Player player : audience)
+            if (!player.getUniqueId().equals(id))
+                newAudience[i++] = player;
+
+        audiences.put(locale, newAudience);
+    }
+
+    /**
+     * Moves a Player to the audience of a new Locale. Does nothing if they are not present.
+     *
+     * @param id     UUID of the Player to move.
+     * @param locale New Locale of the Player.
+     * @throws NullPointerException if id or locale is null.
+     * @since 1.0.0
+     */
+    void movePlayer(@Nonnull UUID id, @Nonnull String locale)
+    {
+        Objects.requireNonNull(id, "UUID cannot be null.");
+        Objects.requireNonNull(locale, "Locale cannot be null.");
+
+        final String oldLocale = playerLocales.get(id);
+        if (oldLocale == null || oldLocale.equals(locale)) return;
+
+        for (Player player : audiences.get(oldLocale)) {
+            if (player.getUniqueId().equals(id)) {
+                addPlayer(player, locale);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Calls the given action once for every Locale with at least one online Player.
+     *
+     * @param action Action to call with each Locale and the array of Players using it. The array must not be
+     *               modified.
+     * @throws NullPointerException if action is null.
+     * @since 1.0.0
+     */
+    public void forEachAudience(@Nonnull BiConsumer<String, Player[]> action)
+    {
+        Objects.requireNonNull(action, "Action cannot be null.");
+        audiences.forEach(action);
+    }
+
+    /**
+     * Returns the online Players using the given Locale.
+     *
+     * @param locale Locale to get the audience of.
+     * @return An array of online Players using the given Locale, which must not be modified. Empty if none.
+     * @throws NullPointerException if locale is null.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Player[] getAudience(@Nonnull String locale)
+    {
+        Objects.requireNonNull(locale, "Locale cannot be null.");
+        return audiences.getOrDefault(locale, EMPTY_AUDIENCE);
+    }
+
+    /**
+     * Returns the Locales used by at least one online Player.
+     *
+     * @return A copy of the Set of Locales with at least one online Player.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Set<String> getOnlineLocales()
+    {
+        return new HashSet<>(audiences.keySet());
+    }
+
+    /**
+     * Returns whether this LocaleAudienceIndex contains no Players.
+     *
+     * @return True if no Players are indexed, false otherwise.
+     * @since 1.0.0
+     */
+    public boolean isEmpty()
+    {
+        return audiences.isEmpty();
+    }
+}
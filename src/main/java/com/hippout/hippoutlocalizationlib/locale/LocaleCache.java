@@ -11,19 +11,62 @@ import org.bukkit.entity.*;
 
 import javax.annotation.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * A cache for Locales.
+ * <p>
+ * LocaleCache is safe to use from any thread. Reads never lock. Writes are serialized so that every
+ * LocaleCacheChangeEvent reports the exact Locales before and after its change. Bulk changes call a single
+ * LocaleCacheBulkChangeEvent instead. Events are always called on the main thread, in the order of their changes.
+ * They are queued while the change still holds the write lock. The queue is drained by the next change made on the
+ * main thread, or on the next tick if the change was made on another thread.
+ * </p>
+ * <p>
+ * The LocaleAudienceIndex is moved through the same queue, just before each event is called, so it always matches
+ * the changes listeners have been told about. It is moved this way even while changes are coalesced.
+ * </p>
+ * <p>
+ * If coalesce_locale_change_ticks is positive, changes, including bulk changes, are instead collected for that many
+ * ticks. Each UUID then gets one LocaleCacheChangeEvent with its net change, followed by one
+ * LocaleCacheChangeBatchEvent for the whole window. No LocaleCacheBulkChangeEvent is called.
+ * </p>
+ * <p>
+ * Locales are stored as ordinals of the plugin's LocaleTable. getLocaleOrdinal returns them directly, for callers
+ * which keep per-Locale data in arrays. Locales sent by clients are not trusted, as the table never shrinks. They are
+ * lowercased and validated first, and once MAX_CLIENT_LOCALES Locales are registered, only those with a Language are
+ * registered. Other client Locales are stored as their base Locale if it is registered, else as the Default Locale.
+ * </p>
  *
  * @author Wyatt Kalmer
  * @since 1.0.0
  */
 public class LocaleCache {
+    private static final int MAX_CLIENT_LOCALES = 256;
+
     public final boolean ENABLE_LOCALE_OVERRIDES;
 
     private final HippOutLocalizationLib plugin;
-    private final Map<UUID, String> localeMap;
-    private final Map<UUID, String> localeOverrideMap;
+    private final LocaleTable localeTable;
+    private final int defaultOrdinal;
+    private final Map<UUID, Integer> localeMap;
+    private final Map<UUID, Integer> localeOverrideMap;
+    private final Object writeLock;
+
+    // Audience moves and events in the order of their changes. Offered while holding writeLock and only polled on the
+    // main thread.
+    private final Queue<Runnable> pendingEvents;
+    private final AtomicBoolean drainScheduled;
+
+    // Incremented whenever localeOverrideMap changes, so that unchanged overrides are not saved again.
+    private volatile long overrideVersion;
+
+    // Guarded by writeLock. Null unless journal_locale_overrides is enabled.
+    private LocaleOverrideJournal journal;
+
+    // Null unless coalesce_locale_change_ticks is positive. Changes are recorded while holding writeLock.
+    private final LocaleChangeCoalescer coalescer;
 
     /**
      * Constructs a LocaleCache with the given plugin.
@@ -35,11 +78,19 @@ public class LocaleCache {
     public LocaleCache(@Nonnull HippOutLocalizationLib plugin)
     {
         this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
-        localeMap = new HashMap<>();
+        localeTable = plugin.getLocaleTable();
+        defaultOrdinal = localeTable.register(plugin.getConfiguration().DEFAULT_LOCALE);
+        localeMap = new ConcurrentHashMap<>();
+        writeLock = new Object();
+        pendingEvents = new ConcurrentLinkedQueue<>();
+        drainScheduled = new AtomicBoolean();
+
+        final int coalesceTicks = plugin.getConfiguration().COALESCE_LOCALE_CHANGE_TICKS;
+        coalescer = coalesceTicks > 0 ? new LocaleChangeCoalescer(plugin, coalesceTicks) : null;
 
         ENABLE_LOCALE_OVERRIDES = plugin.getConfiguration().ENABLE_LOCALE_OVERRIDES;
         if (ENABLE_LOCALE_OVERRIDES)
-            localeOverrideMap = new HashMap<>();
+            localeOverrideMap = new ConcurrentHashMap<>();
         else
             localeOverrideMap = new NullMap<>();
     }
@@ -71,12 +122,29 @@ public class LocaleCache {
      */
     @Nonnull
     public String getLocale(@Nonnull UUID id)
+    {
+        return localeTable.getLocale(getLocaleOrdinal(id));
+    }
+
+    /**
+     * Returns the ordinal of the Locale used by a given UUID, as assigned by the plugin's LocaleTable. Will return
+     * the ordinal of their override Locale if they have one. If they have no Locale, returns that of
+     * DEFAULT_LOCALE.
+     *
+     * @param id UUID to check.
+     * @return The Locale ordinal of the given UUID.
+     * @throws NullPointerException if UUID is null.
+     * @since 1.0.0
+     */
+    public int getLocaleOrdinal(@Nonnull UUID id)
     {
         Objects.requireNonNull(id, "UUID cannot be null.");
 
-        final String defaultLocale = HippOutLocalizationLib.getPlugin().getConfiguration().DEFAULT_LOCALE;
+        final Integer override = localeOverrideMap.get(id);
+        if (override != null) return override;
 
-        return localeOverrideMap.getOrDefault(id, localeMap.getOrDefault(id, defaultLocale));
+        final Integer locale = localeMap.get(id);
+        return locale != null ? locale : defaultOrdinal;
     }
 
     /**
@@ -93,9 +161,7 @@ public class LocaleCache {
     {
         Objects.requireNonNull(id, "UUID cannot be null.");
 
-        final String defaultLocale = HippOutLocalizationLib.getPlugin().getConfiguration().DEFAULT_LOCALE;
-
-        return localeMap.getOrDefault(id, defaultLocale);
+        return localeTable.getLocale(localeMap.getOrDefault(id, defaultOrdinal));
     }
 
     /**
@@ -117,12 +183,12 @@ public class LocaleCache {
         if (!ENABLE_LOCALE_OVERRIDES)
             throw new IllegalStateException("Locale Overrides are disabled.");
 
-        final String locale = localeOverrideMap.get(id);
+        final Integer locale = localeOverrideMap.get(id);
 
         if (locale == null)
             throw new LocaleNotFoundException("Locale Override for UUID " + id + " could not be found.");
 
-        return locale;
+        return localeTable.getLocale(locale);
     }
 
     /**
@@ -191,12 +257,16 @@ public class LocaleCache {
         if (!ENABLE_LOCALE_OVERRIDES)
             throw new IllegalStateException("Cannot set Locale Overrides as they are disabled.");
 
-        final String oldLocale = getLocale(id);
-
-        localeOverrideMap.put(id, locale);
+        final int ordinal = localeTable.register(locale);
+        synchronized (writeLock) {
+            final int oldOrdinal = getLocaleOrdinal(id);
+            localeOverrideMap.put(id, ordinal);
+            ++overrideVersion;
+            if (journal != null) journal.appendSet(id, locale);
+            recordChange(id, oldOrdinal, ordinal);
+        }
 
-        if (!oldLocale.equals(locale))
-            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeEvent(id, oldLocale, locale));
+        dispatchEvents();
     }
 
     /**
@@ -211,24 +281,27 @@ public class LocaleCache {
     public void removeLocaleOverride(@Nonnull UUID id)
     {
         Objects.requireNonNull(id, "UUID cannot be null.");
-        if (!localeOverrideMap.containsKey(id))
-            throw new IllegalStateException("Tried to remove UUID that was not present: " + id);
-
-        if (!ENABLE_LOCALE_OVERRIDES)
-            throw new IllegalStateException("Cannot remove Locale Overrides as they are disabled.");
 
-        final String oldLocale = getLocale(id);
+        synchronized (writeLock) {
+            if (!localeOverrideMap.containsKey(id))
+                throw new IllegalStateException("Tried to remove UUID that was not present: " + id);
 
-        localeOverrideMap.remove(id);
+            if (!ENABLE_LOCALE_OVERRIDES)
+                throw new IllegalStateException("Cannot remove Locale Overrides as they are disabled.");
 
-        final String newLocale = getLocale(id);
+            final int oldOrdinal = getLocaleOrdinal(id);
+            localeOverrideMap.remove(id);
+            ++overrideVersion;
+            if (journal != null) journal.appendRemove(id);
+            recordChange(id, oldOrdinal, getLocaleOrdinal(id));
+        }
 
-        if (!oldLocale.equals(newLocale))
-            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeEvent(id, oldLocale, newLocale));
+        dispatchEvents();
     }
 
     /**
-     * Clears all Locale overrides currently stored.
+     * Clears all Locale overrides currently stored. Calls one LocaleCacheBulkChangeEvent for the affected online
+     * Players.
      *
      * @throws IllegalStateException if Locale Overrides are disabled.
      * @since 1.0.0
@@ -239,11 +312,43 @@ public class LocaleCache {
         if (!ENABLE_LOCALE_OVERRIDES)
             throw new IllegalStateException("Cannot clear Locale Overrides as they are disabled.");
 
-        localeOverrideMap.clear();
+        setLocaleOverrides(Collections.emptyMap(), true);
+    }
+
+    /**
+     * Sets many Locale Overrides in one step, keeping all other Locale Overrides. Instead of a LocaleCacheChangeEvent
+     * per UUID, calls one LocaleCacheBulkChangeEvent for the affected online Players.
+     *
+     * @param overrides Map of UUIDs to their new Locale Overrides.
+     * @throws NullPointerException  if overrides or any of its UUIDs or Locales is null.
+     * @throws LocaleFormatException if API_REGEX_LOCALE_TESTS are enabled and any Locale is not a valid format.
+     * @throws IllegalStateException if Locale Overrides are disabled.
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unused")
+    public void putLocaleOverrides(@Nonnull Map<UUID, String> overrides)
+    {
+        setLocaleOverrides(overrides, false);
+    }
+
+    /**
+     * Replaces every Locale Override with the given ones in one step. Instead of a LocaleCacheChangeEvent per UUID,
+     * calls one LocaleCacheBulkChangeEvent for the affected online Players.
+     *
+     * @param overrides Map of UUIDs to their Locale Overrides.
+     * @throws NullPointerException  if overrides or any of its UUIDs or Locales is null.
+     * @throws LocaleFormatException if API_REGEX_LOCALE_TESTS are enabled and any Locale is not a valid format.
+     * @throws IllegalStateException if Locale Overrides are disabled.
+     * @since 1.0.0
+     */
+    public void replaceLocaleOverrides(@Nonnull Map<UUID, String> overrides)
+    {
+        setLocaleOverrides(overrides, true);
     }
 
     /**
-     * Reads a map of Locale Overrides from the given ConfigurationSection. Clears the localeOverrideMap before loading.
+     * Reads a map of Locale Overrides from the given ConfigurationSection, replacing every current Locale Override
+     * in one step like replaceLocaleOverrides.
      *
      * @param configurationSection ConfigurationSection to load from.
      * @throws NullPointerException  if configurationSection is null.
@@ -259,15 +364,14 @@ public class LocaleCache {
                     "disabled.");
 
         final Set<String> keys = configurationSection.getKeys(false);
-
-        localeOverrideMap.clear();
+        final Map<UUID, String> overrides = new HashMap<>((int) (keys.size() / 0.75f) + 1);
 
         for (String uuid : keys) {
             try {
                 final UUID id = UUID.fromString(uuid);
                 final String locale = Configuration.loadLocale(configurationSection, uuid);
 
-                setLocaleOverride(id, locale);
+                overrides.put(id, locale);
             } catch (IllegalArgumentException e) {
                 plugin.getLogger().warning(String.format("Error loading UUID %s from section %s. Ignored.", uuid,
                         configurationSection.getName()));
@@ -277,6 +381,75 @@ public class LocaleCache {
                         uuid, configurationSection.getName()));
             }
         }
+
+        replaceLocaleOverrides(overrides);
+    }
+
+    /**
+     * Returns a consistent copy of every Locale Override. Safe to call from any thread.
+     *
+     * @return A copy of the Map of UUIDs to their Locale Overrides. Empty if Locale Overrides are disabled.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<UUID, String> getLocaleOverrides()
+    {
+        synchronized (writeLock) {
+            return copyLocaleOverrides();
+        }
+    }
+
+    /**
+     * Returns a copy of every Locale Override without holding the write lock. Changes made during the copy may or
+     * may not be part of it, so it is only consistent for callers which also replay the changes made since they
+     * started it.
+     *
+     * @return A copy of the Map of UUIDs to their Locale Overrides. Empty if Locale Overrides are disabled.
+     * @since 1.0.0
+     */
+    @Nonnull
+    Map<UUID, String> copyLocaleOverrides()
+    {
+        final Map<UUID, String> overrides = new HashMap<>((int) (localeOverrideMap.size() / 0.75f) + 1);
+        localeOverrideMap.forEach((id, ordinal) -> overrides.put(id, localeTable.getLocale(ordinal)));
+
+        return overrides;
+    }
+
+    /**
+     * Returns a number which changes whenever a Locale Override is set, removed, or cleared.
+     *
+     * @return The current version of the Locale Overrides.
+     * @since 1.0.0
+     */
+    public long getOverrideVersion()
+    {
+        return overrideVersion;
+    }
+
+    /**
+     * Sets the journal which every Locale Override change is appended to.
+     *
+     * @param journal LocaleOverrideJournal to append to, or null to stop journaling.
+     * @since 1.0.0
+     */
+    void setJournal(@Nullable LocaleOverrideJournal journal)
+    {
+        synchronized (writeLock) {
+            this.journal = journal;
+        }
+    }
+
+    /**
+     * Returns the lock held during every write, so that a snapshot can be taken atomically with other work.
+     *
+     * @return The write lock of this LocaleCache.
+     * @since 1.0.0
+     */
+    @Nonnull
+    Object getWriteLock()
+    {
+        return writeLock;
     }
 
     /**
@@ -294,16 +467,16 @@ public class LocaleCache {
             throw new IllegalStateException("Cannot write Locale Overrides to a file while Locale Overrides are " +
                     "disabled.");
 
-        for (Map.Entry<UUID, String> entry : localeOverrideMap.entrySet()) {
-            configurationSection.set(entry.getKey().toString(), entry.getValue());
+        for (Map.Entry<UUID, Integer> entry : localeOverrideMap.entrySet()) {
+            configurationSection.set(entry.getKey().toString(), localeTable.getLocale(entry.getValue()));
         }
     }
 
     /**
-     * Sets the Locale for a given UUID.
+     * Sets the Locale for a given UUID from the Locale their client sent.
      *
      * @param id     UUID to set the Locale of.
-     * @param locale Locale to set the UUID to.
+     * @param locale Client Locale to set the UUID to. Normalized as described by getClientLocaleOrdinal.
      * @throws NullPointerException  if UUID or Locale are null.
      * @throws LocaleFormatException if INTERNAL_REGEX_LOCALE_TESTS are enabled and locale is not a valid format.
      * @since 1.0.0
@@ -312,15 +485,47 @@ public class LocaleCache {
     {
         Objects.requireNonNull(id, "UUID cannot be null.");
         Objects.requireNonNull(locale, "Locale cannot be null.");
-        if (plugin.getConfiguration().INTERNAL_REGEX_LOCALE_TESTS)
-            ValidationUtil.validateLocale(locale);
 
-        final String oldLocale = getLocale(id);
+        final int ordinal = getClientLocaleOrdinal(locale.toLowerCase(Locale.ROOT));
+        synchronized (writeLock) {
+            final int oldOrdinal = getLocaleOrdinal(id);
+            localeMap.put(id, ordinal);
+            recordChange(id, oldOrdinal, getLocaleOrdinal(id));
+        }
+
+        dispatchEvents();
+    }
+
+    /**
+     * Returns the ordinal of a Locale sent by a client, registering it only if it can be trusted. Locales in an
+     * invalid format use the Default Locale. Once MAX_CLIENT_LOCALES Locales are registered, Locales without a
+     * Language use their registered base Locale, or else the Default Locale, so that clients cycling through made up
+     * Locales cannot grow the LocaleTable.
+     *
+     * @param locale Lowercase client Locale.
+     * @return The ordinal to store for the client Locale.
+     * @throws LocaleFormatException if INTERNAL_REGEX_LOCALE_TESTS are enabled and locale is not a valid format.
+     * @since 1.0.0
+     */
+    private int getClientLocaleOrdinal(@Nonnull String locale)
+    {
+        final int ordinal = localeTable.getOrdinal(locale);
+        if (ordinal >= 0) return ordinal;
+
+        if (!ValidationUtil.ISO639_LANGUAGE_PATTERN.matcher(locale).matches()) {
+            if (plugin.getConfiguration().INTERNAL_REGEX_LOCALE_TESTS) ValidationUtil.validateLocale(locale);
+            return defaultOrdinal;
+        }
+
+        if (plugin.getLanguageHandler().isLocaleRegistered(locale)) return localeTable.register(locale);
 
-        localeMap.put(id, locale);
+        final int boundedOrdinal = localeTable.register(locale, MAX_CLIENT_LOCALES);
+        if (boundedOrdinal >= 0) return boundedOrdinal;
 
-        if (!hasLocaleOverride(id) && !oldLocale.equals(locale))
-            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeEvent(id, oldLocale, locale));
+        final int separator = locale.indexOf('_');
+        final int baseOrdinal = separator > 0 ? localeTable.getOrdinal(locale.substring(0, separator)) : -1;
+
+        return baseOrdinal >= 0 ? baseOrdinal : defaultOrdinal;
     }
 
     /**
@@ -333,16 +538,172 @@ public class LocaleCache {
     void removeLocale(@Nonnull UUID id)
     {
         Objects.requireNonNull(id, "UUID cannot be null.");
-        if (!localeMap.containsKey(id))
-            throw new IllegalStateException("Tried to remove UUID that was not present: " + id);
 
-        final String oldLocale = getLocale(id);
+        synchronized (writeLock) {
+            if (!localeMap.containsKey(id))
+                throw new IllegalStateException("Tried to remove UUID that was not present: " + id);
+
+            final int oldOrdinal = getLocaleOrdinal(id);
+            localeMap.remove(id);
+            recordChange(id, oldOrdinal, getLocaleOrdinal(id));
+        }
+
+        dispatchEvents();
+    }
+
+    /**
+     * Sets many Locale Overrides while holding the write lock once. Only UUIDs with a Locale, which are those of
+     * online Players, are checked for changes, so the cost does not depend on how many Locale Overrides exist.
+     *
+     * @param overrides Map of UUIDs to their new Locale Overrides.
+     * @param replace   Whether or not to remove every other Locale Override.
+     * @since 1.0.0
+     */
+    private void setLocaleOverrides(@Nonnull Map<UUID, String> overrides, boolean replace)
+    {
+        Objects.requireNonNull(overrides, "Overrides cannot be null.");
+
+        if (!ENABLE_LOCALE_OVERRIDES)
+            throw new IllegalStateException("Cannot set Locale Overrides as they are disabled.");
+
+        final boolean validate = plugin.getConfiguration().API_REGEX_LOCALE_TESTS;
+        final Map<UUID, Integer> ordinals = new HashMap<>((int) (overrides.size() / 0.75f) + 1);
+        overrides.forEach((id, locale) -> {
+            Objects.requireNonNull(id, "UUID cannot be null.");
+            Objects.requireNonNull(locale, "Locale cannot be null.");
+            if (validate) ValidationUtil.validateLocale(locale);
+            ordinals.put(id, localeTable.register(locale));
+        });
 
-        localeMap.remove(id);
+        final Map<UUID, Integer> oldOrdinals = new HashMap<>();
+
+        synchronized (writeLock) {
+            for (UUID id : localeMap.keySet())
+                oldOrdinals.put(id, getLocaleOrdinal(id));
+
+            if (replace) localeOverrideMap.clear();
+            localeOverrideMap.putAll(ordinals);
+            ++overrideVersion;
+
+            if (journal != null) {
+                if (replace) journal.appendClear();
+                overrides.forEach(journal::appendSet);
+            }
+
+            if (coalescer != null) {
+                oldOrdinals.forEach((id, oldOrdinal) -> recordChange(id, oldOrdinal, getLocaleOrdinal(id)));
+            } else {
+                final Map<UUID, String> oldLocales = new HashMap<>();
+                final Map<UUID, String> newLocales = new HashMap<>();
+
+                oldOrdinals.forEach((id, oldOrdinal) -> {
+                    final int newOrdinal = getLocaleOrdinal(id);
+                    if (newOrdinal == oldOrdinal) return;
+
+                    oldLocales.put(id, localeTable.getLocale(oldOrdinal));
+                    newLocales.put(id, localeTable.getLocale(newOrdinal));
+                });
+
+                if (!oldLocales.isEmpty())
+                    queueBulkChangeEvent(oldLocales, newLocales);
+            }
+        }
 
-        final String newLocale = getLocale(id);
+        dispatchEvents();
+    }
+
+    /**
+     * Queues the audience moves of a bulk change and a LocaleCacheBulkChangeEvent for the online Players among the
+     * given UUIDs. Called while holding writeLock.
+     *
+     * @param oldLocales Map of every changed UUID to its old Locale.
+     * @param newLocales Map of every changed UUID to its new Locale.
+     * @since 1.0.0
+     */
+    private void queueBulkChangeEvent(@Nonnull Map<UUID, String> oldLocales, @Nonnull Map<UUID, String> newLocales)
+    {
+        pendingEvents.add(() -> {
+            newLocales.forEach(this::moveAudience);
+
+            oldLocales.keySet().removeIf(id -> Bukkit.getPlayer(id) == null);
+            newLocales.keySet().retainAll(oldLocales.keySet());
+
+            if (!oldLocales.isEmpty())
+                Bukkit.getPluginManager().callEvent(new LocaleCacheBulkChangeEvent(oldLocales, newLocales));
+        });
+    }
+
+    /**
+     * Queues the audience move of a change. Records the change in the LocaleChangeCoalescer if changes are coalesced,
+     * or otherwise queues its LocaleCacheChangeEvent. Called while holding writeLock.
+     *
+     * @param id         UUID which changed Locale.
+     * @param oldOrdinal Old Locale ordinal of the given UUID.
+     * @param newOrdinal New Locale ordinal of the given UUID.
+     * @since 1.0.0
+     */
+    private void recordChange(@Nonnull UUID id, int oldOrdinal, int newOrdinal)
+    {
+        if (oldOrdinal == newOrdinal) return;
+
+        final String oldLocale = localeTable.getLocale(oldOrdinal);
+        final String newLocale = localeTable.getLocale(newOrdinal);
+
+        if (coalescer != null) {
+            coalescer.record(id, oldLocale, newLocale);
+            pendingEvents.add(() -> moveAudience(id, newLocale));
+        } else {
+            final LocaleCacheChangeEvent event = new LocaleCacheChangeEvent(id, oldLocale, newLocale);
+            pendingEvents.add(() -> {
+                moveAudience(id, newLocale);
+                Bukkit.getPluginManager().callEvent(event);
+            });
+        }
+    }
+
+    /**
+     * Moves an online Player to the audience of their new Locale in the LocaleAudienceIndex. Does nothing while the
+     * plugin is still creating the LocaleAudienceIndex, which then reads every Locale from this LocaleCache.
+     *
+     * @param id     UUID which changed Locale.
+     * @param locale New Locale of the given UUID.
+     * @since 1.0.0
+     */
+    private void moveAudience(@Nonnull UUID id, @Nonnull String locale)
+    {
+        final LocaleAudienceIndex audienceIndex = plugin.getLocaleAudienceIndex();
+        if (audienceIndex != null) audienceIndex.movePlayer(id, locale);
+    }
+
+    /**
+     * Runs every queued audience move and event if this is the main thread. Otherwise, schedules that for the next
+     * tick, unless it is already scheduled.
+     *
+     * @since 1.0.0
+     */
+    private void dispatchEvents()
+    {
+        if (pendingEvents.isEmpty()) return;
+
+        if (Bukkit.isPrimaryThread())
+            drainEvents();
+        else if (drainScheduled.compareAndSet(false, true))
+            Bukkit.getScheduler().runTask(plugin, this::drainEvents);
+    }
+
+    /**
+     * Runs every queued audience move and event in order. Only called on the main thread. Events queued by listeners
+     * are called by the same loop, after every event queued before them.
+     *
+     * @since 1.0.0
+     */
+    private void drainEvents()
+    {
+        // Cleared first, so that events queued while draining are either drained here or scheduled again.
+        drainScheduled.set(false);
 
-        if (!hasLocaleOverride(id) && !oldLocale.equals(newLocale))
-            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeEvent(id, oldLocale, newLocale));
+        Runnable call;
+        while ((call = pendingEvents.poll()) != null)
+            call.run();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.events.*;
+import org.bukkit.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * Collects the Locale changes of a LocaleCache over a window of ticks and then calls one LocaleCacheChangeEvent per
+ * UUID with its net transition, followed by one LocaleCacheChangeBatchEvent holding all of them. UUIDs which end the
+ * window with the Locale they started it with get no event.
+ * <p>
+ * Changes are recorded while the LocaleCache write lock is held, so the transitions of each UUID are recorded in the
+ * order they happened. Events are always called on the main thread.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class LocaleChangeCoalescer {
+    private final HippOutLocalizationLib plugin;
+    private final long windowTicks;
+
+    // UUID -> {Locale before the window, latest Locale}. Guarded by this.
+    private Map<UUID, String[]> pending;
+    private boolean flushScheduled;
+
+    /**
+     * Constructs a LocaleChangeCoalescer.
+     *
+     * @param plugin      HippOutLocalizationLib instance.
+     * @param windowTicks Ticks from the first change of a window until its events are called.
+     * @throws NullPointerException     if plugin is null.
+     * @throws IllegalArgumentException if windowTicks is less than 1.
+     * @since 1.0.0
+     */
+    LocaleChangeCoalescer(@Nonnull HippOutLocalizationLib plugin, long windowTicks)
+    {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
+        if (windowTicks < 1) throw new IllegalArgumentException("Window must be at least 1 tick.");
+
+        this.windowTicks = windowTicks;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Records a change, starting a new window if none is open. Ignores changes which did not change the Locale.
+     *
+     * @param id        UUID which changed Locale.
+     * @param oldLocale Old Locale of the given UUID.
+     * @param newLocale New Locale of the given UUID.
+     * @since 1.0.0
+     */
+    synchronized void record(@Nonnull UUID id, @Nonnull String oldLocale, @Nonnull String newLocale)
+    {
+        if (oldLocale.equals(newLocale)) return;
+
+        final String[] transition = pending.get(id);
+        if (transition != null)
+            transition[1] = newLocale;
+        else
+            pending.put(id, new String[]{oldLocale, newLocale});
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTaskLater(plugin, this::flush, windowTicks);
+        }
+    }
+
+    /**
+     * Calls the events of the current window. Called on the main thread.
+     *
+     * @since 1.0.0
+     */
+    private void flush()
+    {
+        final Map<UUID, String[]> transitions;
+        synchronized (this) {
+            transitions = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        }
+
+        final Map<UUID, String> oldLocales = new HashMap<>();
+        final Map<UUID, String> newLocales = new HashMap<>();
+
+        transitions.forEach((id, transition) -> {
+            if (transition[0].equals(transition[1])) return;
+
+            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeEvent(id, transition[0], transition[1]));
+            oldLocales.put(id, transition[0]);
+            newLocales.put(id, transition[1]);
+        });
+
+        if (!oldLocales.isEmpty())
+            Bukkit.getPluginManager().callEvent(new LocaleCacheChangeBatchEvent(oldLocales, newLocales));
+    }
+}
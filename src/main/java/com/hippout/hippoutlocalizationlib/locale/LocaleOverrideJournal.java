@@ -0,0 +1,390 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * An append-only log of Locale Override changes, replayed on top of the last saved snapshot of the overrides.
+ * <p>
+ * Every record is an absolute assignment, so replaying records which are already part of the snapshot is harmless.
+ * Records are appended to a buffer in memory, so that a change costs no system call. sync writes the buffer to the
+ * file and flushes it to the disk, as do rotate and close. A crash loses the changes made since the last sync, which
+ * are still covered by the next snapshot if the server stops cleanly.
+ * </p>
+ * <p>
+ * The journal is only appended to while the LocaleCache write lock is held, which also orders it with rotate. The
+ * file is only written while holding ioLock, so that sync never stalls appends while it waits for the disk. Records
+ * stay buffered until they are written, so a failed write is retried by the next sync. A failed rotate leaves the
+ * journal open, as if it had not been rotated.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+final class LocaleOverrideJournal {
+    private static final String ROTATED_SUFFIX = ".old";
+
+    private static final byte OP_SET = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_CLEAR = 3;
+
+    private final Path file;
+    private final Path rotatedFile;
+    private final long compactionThreshold;
+    private final Runnable compactionRequest;
+    private final Logger logger;
+
+    private final Object ioLock;
+
+    // Records not yet written to the file. Guarded by this.
+    private final ByteArrayOutputStream pending;
+    private final DataOutputStream pendingOut;
+
+    // Guarded by ioLock
+    private FileChannel channel;
+    private boolean unsynced;
+    private boolean closed;
+
+    private long size;
+    private boolean compactionRequested;
+
+    /**
+     * Constructs a LocaleOverrideJournal and opens its file for appending.
+     *
+     * @param file                File to append to.
+     * @param compactionThreshold Size in bytes above which compactionRequest is run once per rotation.
+     * @param compactionRequest   Called when the journal grows past compactionThreshold.
+     * @param logger              Logger to report write failures to.
+     * @throws NullPointerException if file, compactionRequest, or logger is null.
+     * @throws IOException          if the file could not be opened.
+     * @since 1.0.0
+     */
+    LocaleOverrideJournal(@Nonnull Path file, long compactionThreshold, @Nonnull Runnable compactionRequest,
+                          @Nonnull Logger logger) throws IOException
+    {
+        this.file = Objects.requireNonNull(file, "File cannot be null.");
+        this.rotatedFile = getRotatedFile(file);
+        this.compactionThreshold = compactionThreshold;
+        this.compactionRequest = Objects.requireNonNull(compactionRequest, "Compaction Request cannot be null.");
+        this.logger = Objects.requireNonNull(logger, "Logger cannot be null.");
+        this.ioLock = new Object();
+        this.pending = new ByteArrayOutputStream();
+        this.pendingOut = new DataOutputStream(pending);
+
+        open();
+    }
+
+    /**
+     * Appends the setting of a Locale Override.
+     *
+     * @param id     UUID whose Locale Override was set.
+     * @param locale New Locale Override.
+     * @since 1.0.0
+     */
+    void appendSet(@Nonnull UUID id, @Nonnull String locale)
+    {
+        final byte[] localeBytes = locale.getBytes(StandardCharsets.UTF_8);
+
+        synchronized (this) {
+            try {
+                pendingOut.writeByte(OP_SET);
+                pendingOut.writeLong(id.getMostSignificantBits());
+                pendingOut.writeLong(id.getLeastSignificantBits());
+                pendingOut.writeShort(localeBytes.length);
+                pendingOut.write(localeBytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // ByteArrayOutputStream does not throw.
+            }
+        }
+
+        appended(1 + 16 + 2 + localeBytes.length);
+    }
+
+    /**
+     * Appends the removal of a Locale Override.
+     *
+     * @param id UUID whose Locale Override was removed.
+     * @since 1.0.0
+     */
+    void appendRemove(@Nonnull UUID id)
+    {
+        synchronized (this) {
+            try {
+                pendingOut.writeByte(OP_REMOVE);
+                pendingOut.writeLong(id.getMostSignificantBits());
+                pendingOut.writeLong(id.getLeastSignificantBits());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // ByteArrayOutputStream does not throw.
+            }
+        }
+
+        appended(1 + 16);
+    }
+
+    /**
+     * Appends the clearing of every Locale Override.
+     *
+     * @since 1.0.0
+     */
+    void appendClear()
+    {
+        synchronized (this) {
+            pending.write(OP_CLEAR);
+        }
+
+        appended(1);
+    }
+
+    /**
+     * Writes appended records to the file and flushes them to the disk. Records which could not be written are kept
+     * for the next sync. Safe to call from any thread.
+     *
+     * @since 1.0.0
+     */
+    void sync()
+    {
+        synchronized (ioLock) {
+            try {
+                writePending();
+                if (!unsynced) return;
+
+                channel.force(false);
+                unsynced = false;
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not write the Locale Override journal to the disk.", e);
+            }
+        }
+    }
+
+    /**
+     * Moves every record so far to the rotated file and starts an empty journal. Must be called while holding the
+     * LocaleCache write lock, together with taking the snapshot that will replace the rotated records. If a previous
+     * rotated file was never deleted, the journal is kept as is, which only delays its compaction.
+     *
+     * @throws IOException if the journal could not be rotated. The journal is then still open, and keeps its records.
+     * @since 1.0.0
+     */
+    void rotate() throws IOException
+    {
+        if (Files.exists(rotatedFile)) return;
+
+        synchronized (ioLock) {
+            writePending();
+            channel.force(false);
+            unsynced = false;
+            channel.close();
+
+            // Reopened even if the move fails, in which case the records stay in this journal.
+            try {
+                Files.move(file, rotatedFile, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Deletes the rotated file. Called once the snapshot containing its records is saved.
+     *
+     * @throws IOException if the rotated file could not be deleted.
+     * @since 1.0.0
+     */
+    void deleteRotated() throws IOException
+    {
+        Files.deleteIfExists(rotatedFile);
+    }
+
+    /**
+     * Writes every appended record, then flushes and closes the journal.
+     *
+     * @since 1.0.0
+     */
+    void close()
+    {
+        synchronized (ioLock) {
+            try {
+                writePending();
+                closed = true;
+                channel.force(false);
+                channel.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close the Locale Override journal.", e);
+            }
+        }
+    }
+
+    /**
+     * Counts an appended record towards the size of the journal, requesting a compaction once it grows past the
+     * threshold.
+     *
+     * @param bytes Size of the record in bytes.
+     * @since 1.0.0
+     */
+    private void appended(int bytes)
+    {
+        size += bytes;
+
+        if (size > compactionThreshold && !compactionRequested) {
+            compactionRequested = true;
+            compactionRequest.run();
+        }
+    }
+
+    /**
+     * Writes the buffered records to the file with one write, and only then removes them from the buffer. A write
+     * which fails part way is cut off the file again, so that no incomplete record is followed by later ones. Reopens
+     * the file if a failed rotate left it closed. Called while holding ioLock.
+     *
+     * @throws IOException if the records could not be written, or the journal was closed.
+     * @since 1.0.0
+     */
+    private void writePending() throws IOException
+    {
+        final byte[] records;
+        synchronized (this) {
+            if (pending.size() == 0) return;
+
+            records = pending.toByteArray();
+        }
+
+        if (closed) throw new ClosedChannelException();
+        if (!channel.isOpen()) open();
+
+        final long start = channel.size();
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(records);
+            while (buffer.hasRemaining())
+                channel.write(buffer);
+        } catch (IOException e) {
+            try {
+                channel.truncate(start);
+            } catch (IOException truncateException) {
+                e.addSuppressed(truncateException);
+            }
+            throw e;
+        }
+
+        // Records appended during the write stay buffered for the next one.
+        synchronized (this) {
+            final byte[] buffered = pending.size() > records.length ? pending.toByteArray() : null;
+            pending.reset();
+            if (buffered != null) pending.write(buffered, records.length, buffered.length - records.length);
+        }
+
+        unsynced = true;
+    }
+
+    /**
+     * Opens the journal file for appending.
+     *
+     * @throws IOException if the file could not be opened.
+     * @since 1.0.0
+     */
+    private void open() throws IOException
+    {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        size = channel.size();
+        compactionRequested = false;
+    }
+
+    /**
+     * Replays the rotated journal and then the journal of the given file onto a Map of Locale Overrides. Stops at the
+     * first incomplete record, which a crash during an append may leave behind.
+     *
+     * @param file      Journal file.
+     * @param overrides Map of Locale Overrides to apply the records to.
+     * @param logger    Logger to report incomplete records to.
+     * @return The number of records replayed.
+     * @throws IOException if a journal file exists but could not be read.
+     * @since 1.0.0
+     */
+    static int replay(@Nonnull Path file, @Nonnull Map<UUID, String> overrides, @Nonnull Logger logger)
+            throws IOException
+    {
+        return replayFile(getRotatedFile(file), overrides, logger) + replayFile(file, overrides, logger);
+    }
+
+    /**
+     * Deletes the given journal file and its rotated file.
+     *
+     * @param file Journal file.
+     * @throws IOException if either file could not be deleted.
+     * @since 1.0.0
+     */
+    static void delete(@Nonnull Path file) throws IOException
+    {
+        Files.deleteIfExists(getRotatedFile(file));
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Replays a single journal file.
+     *
+     * @param file      Journal file. Ignored if it does not exist.
+     * @param overrides Map of Locale Overrides to apply the records to.
+     * @param logger    Logger to report incomplete records to.
+     * @return The number of records replayed.
+     * @throws IOException if the file could not be read.
+     * @since 1.0.0
+     */
+    private static int replayFile(@Nonnull Path file, @Nonnull Map<UUID, String> overrides, @Nonnull Logger logger)
+            throws IOException
+    {
+        if (!Files.exists(file)) return 0;
+
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        int records = 0;
+
+        try {
+            while (buffer.hasRemaining()) {
+                final byte op = buffer.get();
+                switch (op) {
+                    case OP_SET: {
+                        final UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                        final byte[] localeBytes = new byte[buffer.getShort() & 0xFFFF];
+                        buffer.get(localeBytes);
+                        overrides.put(id, new String(localeBytes, StandardCharsets.UTF_8));
+                        break;
+                    }
+                    case OP_REMOVE:
+                        overrides.remove(new UUID(buffer.getLong(), buffer.getLong()));
+                        break;
+                    case OP_CLEAR:
+                        overrides.clear();
+                        break;
+                    default:
+                        logger.warning(String.format("Locale Override journal %s contains an unknown record at " +
+                                "byte %d. Ignored the rest of it.", file.getFileName(), buffer.position() - 1));
+                        return records;
+                }
+
+                ++records;
+            }
+        } catch (BufferUnderflowException e) {
+            logger.warning(String.format("Locale Override journal %s ends with an incomplete record. Ignored it.",
+                    file.getFileName()));
+        }
+
+        return records;
+    }
+
+    /**
+     * Returns the rotated file of a journal file.
+     *
+     * @param file Journal file.
+     * @return The rotated file of the journal file.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static Path getRotatedFile(@Nonnull Path file)
+    {
+        return file.resolveSibling(file.getFileName() + ROTATED_SUFFIX);
+    }
+}
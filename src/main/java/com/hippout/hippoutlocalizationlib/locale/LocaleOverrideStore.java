@@ -0,0 +1,346 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.Configuration;
+import com.hippout.hippoutlocalizationlib.*;
+import org.bukkit.*;
+import org.bukkit.configuration.*;
+import org.bukkit.configuration.file.*;
+import org.bukkit.scheduler.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Saves and loads the Locale Overrides of a LocaleCache.
+ * <p>
+ * Saves write a snapshot of the overrides to a temporary file, flush it to the disk, and then atomically rename it
+ * over the override file, so that a crash during a save never leaves a partial file behind. Saves are serialized and
+ * skipped when no override changed since the last save. saveAsync and the autosave task save off the main thread.
+ * </p>
+ * <p>
+ * When journaled, every Locale Override change is also appended to a LocaleOverrideJournal as it happens, and a save
+ * compacts the journal into a new snapshot. Loading replays any journal on top of the snapshot.
+ * </p>
+ * <p>
+ * Snapshots are saved as YAML or in the compact format of BinaryOverrideCodec. If only a snapshot in the other format
+ * exists, it is loaded and converted on the next save.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public class LocaleOverrideStore {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final long JOURNAL_COMPACTION_BYTES = 1024 * 1024;
+    private static final long JOURNAL_SYNC_TICKS = 20;
+
+    private final HippOutLocalizationLib plugin;
+    private final LocaleCache localeCache;
+    private final Format format;
+    private final Path file;
+    private final Path otherFormatFile;
+    private final Path tempFile;
+    private final Path journalFile;
+    private final boolean journaled;
+    private final Object saveLock;
+
+    private long savedVersion;
+    private LocaleOverrideJournal journal;
+    private BukkitTask autosaveTask, journalSyncTask;
+
+    /**
+     * Constructs a LocaleOverrideStore.
+     *
+     * @param plugin      HippOutLocalizationLib instance.
+     * @param localeCache LocaleCache to save and load the Locale Overrides of.
+     * @param directory   Directory holding the snapshot and journal files.
+     * @param format      Format to save snapshots in.
+     * @param journaled   Whether or not to journal every Locale Override change once loaded.
+     * @throws NullPointerException if plugin, localeCache, directory, or format is null.
+     * @since 1.0.0
+     */
+    public LocaleOverrideStore(@Nonnull HippOutLocalizationLib plugin, @Nonnull LocaleCache localeCache,
+                               @Nonnull File directory, @Nonnull Format format, boolean journaled)
+    {
+        this.plugin = Objects.requireNonNull(plugin, "Plugin cannot be null.");
+        this.localeCache = Objects.requireNonNull(localeCache, "Locale Cache cannot be null.");
+        this.format = Objects.requireNonNull(format, "Format cannot be null.");
+        Objects.requireNonNull(directory, "Directory cannot be null.");
+
+        this.file = directory.toPath().resolve(format.fileName);
+        this.otherFormatFile = directory.toPath().resolve(format == Format.YAML ? Format.BINARY.fileName :
+                Format.YAML.fileName);
+        this.tempFile = this.file.resolveSibling(this.file.getFileName() + TEMP_SUFFIX);
+        this.journalFile = directory.toPath().resolve(Configuration.LOCALE_CACHE_JOURNAL_FILE_NAME);
+        this.journaled = journaled;
+        this.saveLock = new Object();
+        this.savedVersion = -1;
+    }
+
+    /**
+     * Loads the Locale Overrides from the file and replays any journal on top of them, replacing the Locale Overrides
+     * of the LocaleCache. A temporary file left behind by an interrupted save is deleted, as the file still holds the
+     * last complete save. If journaled, the replayed journal is compacted and journaling starts.
+     *
+     * @throws IOException                   if the file or journal could not be read or written, or a binary file
+     *                                       is corrupt.
+     * @throws InvalidConfigurationException if a YAML file is not valid YAML.
+     * @throws IllegalStateException         if this LocaleOverrideStore was already loaded.
+     * @since 1.0.0
+     */
+    public void load() throws IOException, InvalidConfigurationException
+    {
+        synchronized (saveLock) {
+            if (journal != null) throw new IllegalStateException("Locale Override Store is already loaded.");
+
+            Files.deleteIfExists(tempFile);
+
+            final boolean converting = !Files.exists(file) && Files.exists(otherFormatFile);
+            final Path snapshotFile = converting ? otherFormatFile : file;
+
+            if (Files.exists(snapshotFile)) {
+                if (snapshotFile.getFileName().toString().equals(Format.YAML.fileName)) {
+                    final YamlConfiguration localeCacheConfig = new YamlConfiguration();
+                    localeCacheConfig.load(snapshotFile.toFile()); // Load explicitly for exceptions.
+
+                    localeCache.loadOverrides(localeCacheConfig);
+                } else {
+                    localeCache.replaceLocaleOverrides(BinaryOverrideCodec.read(snapshotFile));
+                }
+            }
+
+            if (converting)
+                plugin.getLogger().info(String.format("Converting %s to %s.", otherFormatFile.getFileName(),
+                        file.getFileName()));
+
+            final Map<UUID, String> overrides = localeCache.getLocaleOverrides();
+            final int records = LocaleOverrideJournal.replay(journalFile, overrides, plugin.getLogger());
+            if (records > 0) {
+                localeCache.replaceLocaleOverrides(overrides);
+                plugin.getLogger().info(String.format("Replayed %d Locale Override changes from %s.", records,
+                        journalFile.getFileName()));
+            }
+
+            if (!journaled) {
+                // Replayed and converted changes are not in the snapshot until the next save.
+                savedVersion = records > 0 || converting ? -1 : localeCache.getOverrideVersion();
+                return;
+            }
+
+            // Fold the old journal into a new snapshot, which also drops any incomplete record at its end.
+            savedVersion = -1;
+            save();
+
+            journal = new LocaleOverrideJournal(journalFile, JOURNAL_COMPACTION_BYTES, this::saveAsync,
+                    plugin.getLogger());
+            localeCache.setJournal(journal);
+            journalSyncTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, journal::sync,
+                    JOURNAL_SYNC_TICKS, JOURNAL_SYNC_TICKS);
+        }
+    }
+
+    /**
+     * Saves a snapshot of the Locale Overrides on the calling thread, compacting the journal if journaled. Blocks
+     * while another save is in progress.
+     *
+     * @return True if the file was written, false if no Locale Override changed since the last save.
+     * @throws IOException if the file could not be written. The previous file is left untouched.
+     * @since 1.0.0
+     */
+    public boolean save() throws IOException
+    {
+        synchronized (saveLock) {
+            final long version;
+
+            // Rotate atomically with reading the version, so that the new journal holds every change made after it.
+            synchronized (localeCache.getWriteLock()) {
+                version = localeCache.getOverrideVersion();
+                if (version == savedVersion) return false;
+
+                if (journal != null) journal.rotate();
+            }
+
+            // Copied without the lock, so that writers are not stalled by large maps. Changes made during the copy
+            // are replayed from the new journal, or saved again by the next save, as the version has changed.
+            final Map<UUID, String> overrides = localeCache.copyLocaleOverrides();
+
+            writeAtomically(format == Format.YAML ? encodeYaml(overrides) : BinaryOverrideCodec.encode(overrides));
+            Files.deleteIfExists(otherFormatFile);
+
+            if (journal != null)
+                journal.deleteRotated();
+            else
+                LocaleOverrideJournal.delete(journalFile);
+
+            savedVersion = version;
+            return true;
+        }
+    }
+
+    /**
+     * Saves a snapshot of the Locale Overrides off the main thread. Failures are logged.
+     *
+     * @since 1.0.0
+     */
+    public void saveAsync()
+    {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, this::saveAndLog);
+    }
+
+    /**
+     * Starts saving the Locale Overrides off the main thread at a fixed interval. Replaces any running autosave.
+     *
+     * @param periodTicks Interval between saves in ticks.
+     * @throws IllegalArgumentException if periodTicks is less than 1.
+     * @since 1.0.0
+     */
+    public void startAutosave(long periodTicks)
+    {
+        if (periodTicks < 1) throw new IllegalArgumentException("Autosave period must be at least 1 tick.");
+
+        stopAutosave();
+        autosaveTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::saveAndLog, periodTicks,
+                periodTicks);
+    }
+
+    /**
+     * Stops the autosave task if it is running. Saves already in progress are not interrupted.
+     *
+     * @since 1.0.0
+     */
+    public void stopAutosave()
+    {
+        if (autosaveTask == null) return;
+
+        autosaveTask.cancel();
+        autosaveTask = null;
+    }
+
+    /**
+     * Stops the autosave task and journaling. Later changes are only saved by calling save, which then also deletes
+     * the journal.
+     *
+     * @since 1.0.0
+     */
+    public void close()
+    {
+        synchronized (saveLock) {
+            stopAutosave();
+            if (journal == null) return;
+
+            journalSyncTask.cancel();
+            localeCache.setJournal(null);
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Returns the snapshot file of this LocaleOverrideStore.
+     *
+     * @return The file snapshots are saved to.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public File getFile()
+    {
+        return file.toFile();
+    }
+
+    /**
+     * Returns whether or not Locale Override changes are currently journaled.
+     *
+     * @return True if a journal is open, false otherwise.
+     * @since 1.0.0
+     */
+    public boolean isJournaling()
+    {
+        synchronized (saveLock) {
+            return journal != null;
+        }
+    }
+
+    /**
+     * Saves a snapshot of the Locale Overrides, logging any failure.
+     *
+     * @since 1.0.0
+     */
+    private void saveAndLog()
+    {
+        try {
+            save();
+        } catch (IOException e) {
+            plugin.getLogger().warning(String.format("Could not save Player Locale Overrides to file %s",
+                    file.getFileName()));
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Encodes Locale Overrides as a YAML file.
+     *
+     * @param overrides Map of UUIDs to their Locale Overrides.
+     * @return The UTF-8 bytes of the YAML file.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static byte[] encodeYaml(@Nonnull Map<UUID, String> overrides)
+    {
+        final YamlConfiguration localeCacheConfig = new YamlConfiguration();
+        localeCacheConfig.options().header(Configuration.LOCALE_CACHE_HEADER);
+        overrides.forEach((id, locale) -> localeCacheConfig.set(id.toString(), locale));
+
+        return localeCacheConfig.saveToString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Replaces the file with the given contents. Either the old or the new contents are on the disk at all times.
+     *
+     * @param contents New contents of the file.
+     * @throws IOException if the file could not be written.
+     * @since 1.0.0
+     */
+    private void writeAtomically(@Nonnull byte[] contents) throws IOException
+    {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+
+        try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+            out.write(contents);
+            out.getFD().sync();
+        }
+
+        try {
+            Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Formats of Locale Override snapshots.
+     *
+     * @author Wyatt Kalmer
+     * @since 1.0.0
+     */
+    public enum Format {
+        /**
+         * @enum.Value A human-readable YAML file of UUIDs and their Locale Overrides.
+         */
+        YAML(Configuration.LOCALE_CACHE_FILE_NAME),
+
+        /**
+         * @enum.Value A compact binary file which loads without parsing. Suited to very many Locale Overrides.
+         */
+        BINARY(Configuration.LOCALE_CACHE_BINARY_FILE_NAME);
+
+        private final String fileName;
+
+        Format(@Nonnull String fileName)
+        {
+            this.fileName = fileName;
+        }
+    }
+}
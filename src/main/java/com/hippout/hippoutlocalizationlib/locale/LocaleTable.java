@@ -0,0 +1,130 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Assigns every Locale a small ordinal. Ordinals are dense, starting at 0, and never change once assigned, so that
+ * per-Locale data can be kept in arrays indexed by ordinal instead of in Maps keyed by Locale Strings.
+ * <p>
+ * Safe to use from any thread. Reads never lock. Registrations are serialized and permanent, so only Locales which
+ * were validated or came from the server should be registered. The LocaleCache bounds how many Locales sent by
+ * clients are registered.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class LocaleTable {
+    private final Map<String, Integer> ordinals;
+
+    // Indexed by ordinal. Entries below size are never changed, so a reader that sees size sees them too.
+    private volatile String[] locales;
+    private volatile int size;
+
+    /**
+     * Constructs an empty LocaleTable.
+     *
+     * @since 1.0.0
+     */
+    public LocaleTable()
+    {
+        ordinals = new ConcurrentHashMap<>();
+        locales = new String[32];
+        size = 0;
+    }
+
+    /**
+     * Returns the ordinal of the given Locale, assigning the next free ordinal if it is not yet registered.
+     *
+     * @param locale Locale to register.
+     * @return The ordinal of the given Locale.
+     * @throws NullPointerException if locale is null.
+     * @since 1.0.0
+     */
+    public int register(@Nonnull String locale)
+    {
+        final Integer existingOrdinal = ordinals.get(Objects.requireNonNull(locale, "Locale cannot be null."));
+        if (existingOrdinal != null) return existingOrdinal;
+
+        synchronized (this) {
+            final Integer racedOrdinal = ordinals.get(locale);
+            if (racedOrdinal != null) return racedOrdinal;
+
+            final int ordinal = size;
+            if (ordinal == locales.length) locales = Arrays.copyOf(locales, locales.length * 2);
+
+            locales[ordinal] = locale;
+            size = ordinal + 1;
+            ordinals.put(locale, ordinal);
+
+            return ordinal;
+        }
+    }
+
+    /**
+     * Returns the ordinal of the given Locale, assigning the next free ordinal only if fewer than limit ordinals are
+     * assigned.
+     *
+     * @param locale Locale to register.
+     * @param limit  Number of assigned ordinals at which no more are assigned.
+     * @return The ordinal of the given Locale, or -1 if it is not registered and the limit is reached.
+     * @throws NullPointerException if locale is null.
+     * @since 1.0.0
+     */
+    public int register(@Nonnull String locale, int limit)
+    {
+        final int existingOrdinal = getOrdinal(locale);
+        if (existingOrdinal >= 0) return existingOrdinal;
+
+        synchronized (this) {
+            return size < limit ? register(locale) : getOrdinal(locale);
+        }
+    }
+
+    /**
+     * Returns the ordinal of the given Locale.
+     *
+     * @param locale Locale to get the ordinal of.
+     * @return The ordinal of the given Locale, or -1 if it is not registered.
+     * @throws NullPointerException if locale is null.
+     * @since 1.0.0
+     */
+    public int getOrdinal(@Nonnull String locale)
+    {
+        final Integer ordinal = ordinals.get(Objects.requireNonNull(locale, "Locale cannot be null."));
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * Returns the Locale of the given ordinal.
+     *
+     * @param ordinal Ordinal to get the Locale of.
+     * @return The Locale of the given ordinal.
+     * @throws IllegalArgumentException if the ordinal is not assigned.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public String getLocale(int ordinal)
+    {
+        final int currentSize = size;
+        final String[] currentLocales = locales;
+
+        if (ordinal < 0 || ordinal >= currentSize)
+            throw new IllegalArgumentException("Locale ordinal is not assigned: " + ordinal);
+
+        return currentLocales[ordinal];
+    }
+
+    /**
+     * Returns the number of assigned ordinals. Arrays indexed by ordinal need at least this length.
+     *
+     * @return The number of assigned ordinals.
+     * @since 1.0.0
+     */
+    public int size()
+    {
+        return size;
+    }
+}
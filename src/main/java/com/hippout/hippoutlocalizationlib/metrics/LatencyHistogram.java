@@ -0,0 +1,134 @@
+package com.hippout.hippoutlocalizationlib.metrics;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A concurrent histogram of latencies in nanoseconds with power-of-two buckets. Recording never locks or allocates.
+ * Percentiles are reported as the upper bound of the bucket they fall in, so they are accurate to within a factor of
+ * two.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 64;
+
+    // Bucket i holds latencies in [2^(i-1), 2^i). Bucket 0 holds 0.
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos;
+    private final LongAccumulator maxNanos;
+
+    /**
+     * Constructs an empty LatencyHistogram.
+     *
+     * @since 1.0.0
+     */
+    LatencyHistogram()
+    {
+        buckets = new LongAdder[BUCKETS];
+        for (int i = 0; i < BUCKETS; ++i)
+            buckets[i] = new LongAdder();
+
+        totalNanos = new LongAdder();
+        maxNanos = new LongAccumulator(Long::max, 0);
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos Latency in nanoseconds. Negative values are recorded as 0.
+     * @since 1.0.0
+     */
+    void record(long nanos)
+    {
+        final long value = Math.max(nanos, 0);
+
+        buckets[BUCKETS - Long.numberOfLeadingZeros(value)].increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * Clears every recorded latency.
+     *
+     * @since 1.0.0
+     */
+    void reset()
+    {
+        for (LongAdder bucket : buckets)
+            bucket.reset();
+
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return The number of recorded latencies.
+     * @since 1.0.0
+     */
+    public long getCount()
+    {
+        long count = 0;
+        for (LongAdder bucket : buckets)
+            count += bucket.sum();
+
+        return count;
+    }
+
+    /**
+     * Returns the mean recorded latency.
+     *
+     * @return The mean latency in nanoseconds, or 0 if nothing was recorded.
+     * @since 1.0.0
+     */
+    public long getMeanNanos()
+    {
+        final long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    /**
+     * Returns the highest recorded latency.
+     *
+     * @return The highest latency in nanoseconds, or 0 if nothing was recorded.
+     * @since 1.0.0
+     */
+    public long getMaxNanos()
+    {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns an upper bound of the given percentile of recorded latencies.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return The upper bound of the bucket containing the percentile in nanoseconds, or 0 if nothing was recorded.
+     * @throws IllegalArgumentException if percentile is not between 0 and 100.
+     * @since 1.0.0
+     */
+    public long getPercentileNanos(double percentile)
+    {
+        if (percentile < 0 || percentile > 100)
+            throw new IllegalArgumentException("Percentile must be between 0 and 100. Yours: " + percentile);
+
+        final long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i)
+            count += counts[i] = buckets[i].sum();
+
+        if (count == 0) return 0;
+
+        final long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(i == 0 ? 0 : i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1, getMaxNanos());
+        }
+
+        return getMaxNanos();
+    }
+}
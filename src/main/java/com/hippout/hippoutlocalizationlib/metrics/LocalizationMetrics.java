@@ -0,0 +1,348 @@
+package com.hippout.hippoutlocalizationlib.metrics;
+
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+
+import javax.annotation.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Counts the outcomes of message lookups per Locale and per namespace, and keeps sampled latency histograms of
+ * lookups and broadcasts. Counters are striped LongAdders, so recording is cheap and never locks once a Locale or
+ * namespace has been seen.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class LocalizationMetrics {
+    public static final String OTHER = "other";
+    public static final String UNKNOWN_NAMESPACE = "unknown";
+
+    // Bounds the counter Maps, as Locales are supplied by callers and may be arbitrary Strings.
+    private static final int MAX_TRACKED_KEYS = 256;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+    private final boolean enabled;
+    private final int sampleRate;
+
+    private final ConcurrentMap<String, LongAdder[]> localeOutcomes;
+    private final ConcurrentMap<String, LongAdder[]> namespaceOutcomes;
+    private final AtomicInteger localeKeys, namespaceKeys; // Keys admitted to each Map, excluding OTHER
+    private final LatencyHistogram lookupLatency;
+    private final LatencyHistogram broadcastLatency;
+    private final LongAdder renderCacheHits, renderCacheMisses, renderCacheEvictions;
+
+    /**
+     * Constructs a LocalizationMetrics.
+     *
+     * @param enabled    Whether or not to record anything.
+     * @param sampleRate One in this many lookups has its latency measured. 1 measures every lookup.
+     * @throws IllegalArgumentException if sampleRate is less than 1.
+     * @since 1.0.0
+     */
+    public LocalizationMetrics(boolean enabled, int sampleRate)
+    {
+        if (sampleRate < 1) throw new IllegalArgumentException("Sample rate must be at least 1. Yours: " + sampleRate);
+
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+
+        localeOutcomes = new ConcurrentHashMap<>();
+        namespaceOutcomes = new ConcurrentHashMap<>();
+        localeKeys = new AtomicInteger();
+        namespaceKeys = new AtomicInteger();
+        lookupLatency = new LatencyHistogram();
+        broadcastLatency = new LatencyHistogram();
+        renderCacheHits = new LongAdder();
+        renderCacheMisses = new LongAdder();
+        renderCacheEvictions = new LongAdder();
+    }
+
+    /**
+     * Returns whether this LocalizationMetrics records anything.
+     *
+     * @return True if enabled, false otherwise.
+     * @since 1.0.0
+     */
+    public boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Decides whether the next lookup should have its latency measured.
+     *
+     * @return True if the caller should time its lookup and pass the latency to recordLookup.
+     * @since 1.0.0
+     */
+    public boolean shouldSample()
+    {
+        return enabled && (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0);
+    }
+
+    /**
+     * Records the outcome of a message lookup. Called by the LanguageHandler.
+     *
+     * @param locale      Requested Locale.
+     * @param namespace   Namespace of the requested message.
+     * @param messageType How the message was found.
+     * @param nanos       Latency of the lookup in nanoseconds, or a negative number if it was not sampled.
+     * @throws NullPointerException if locale, namespace, or messageType is null.
+     * @since 1.0.0
+     */
+    public void recordLookup(@Nonnull String locale, @Nonnull String namespace, @Nonnull MessageType messageType,
+                             long nanos)
+    {
+        if (!enabled) return;
+
+        getCounters(localeOutcomes, localeKeys, locale)[messageType.ordinal()].increment();
+        getCounters(namespaceOutcomes, namespaceKeys, namespace)[messageType.ordinal()].increment();
+
+        if (nanos >= 0)
+            lookupLatency.record(nanos);
+    }
+
+    /**
+     * Records the latency of a broadcast. Called by Macros.
+     *
+     * @param nanos Latency of the broadcast in nanoseconds.
+     * @since 1.0.0
+     */
+    public void recordBroadcast(long nanos)
+    {
+        if (enabled)
+            broadcastLatency.record(nanos);
+    }
+
+    /**
+     * Records a message found in the render cache. Called by the LanguageHandler.
+     *
+     * @since 1.0.0
+     */
+    public void recordRenderCacheHit()
+    {
+        if (enabled)
+            renderCacheHits.increment();
+    }
+
+    /**
+     * Records a message which had to be formatted because it was not in the render cache. Called by the
+     * LanguageHandler.
+     *
+     * @since 1.0.0
+     */
+    public void recordRenderCacheMiss()
+    {
+        if (enabled)
+            renderCacheMisses.increment();
+    }
+
+    /**
+     * Records a message dropped from the full render cache. Called by the LanguageHandler.
+     *
+     * @since 1.0.0
+     */
+    public void recordRenderCacheEviction()
+    {
+        if (enabled)
+            renderCacheEvictions.increment();
+    }
+
+    /**
+     * Returns the counters of the given key, creating them if there is room. Room is claimed inside computeIfAbsent,
+     * so that concurrent callers with new keys cannot exceed MAX_TRACKED_KEYS.
+     *
+     * @param outcomes    Map of counters.
+     * @param trackedKeys Number of keys admitted to the Map so far.
+     * @param key         Locale or namespace.
+     * @return The counters of the given key, or those of OTHER if too many keys are tracked.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static LongAdder[] getCounters(@Nonnull ConcurrentMap<String, LongAdder[]> outcomes,
+                                           @Nonnull AtomicInteger trackedKeys, @Nonnull String key)
+    {
+        final LongAdder[] counters = outcomes.get(key);
+        if (counters != null) return counters;
+
+        // OTHER takes the last slot. Returning null leaves the Map unchanged.
+        final LongAdder[] keyCounters = outcomes.computeIfAbsent(key, k ->
+                trackedKeys.getAndUpdate(n -> n < MAX_TRACKED_KEYS - 1 ? n + 1 : n) < MAX_TRACKED_KEYS - 1 ?
+                        newCounters() : null);
+        if (keyCounters != null) return keyCounters;
+
+        return outcomes.computeIfAbsent(OTHER, k -> newCounters());
+    }
+
+    /**
+     * Creates a zeroed counter for every MessageType.
+     *
+     * @return The new counters, indexed by MessageType ordinal.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static LongAdder[] newCounters()
+    {
+        final LongAdder[] counters = new LongAdder[MESSAGE_TYPES.length];
+        for (int i = 0; i < counters.length; ++i)
+            counters[i] = new LongAdder();
+
+        return counters;
+    }
+
+    /**
+     * Returns the total number of lookups with the given outcome.
+     *
+     * @param messageType Outcome to count.
+     * @return The number of lookups with the given outcome.
+     * @throws NullPointerException if messageType is null.
+     * @since 1.0.0
+     */
+    public long getOutcomeCount(@Nonnull MessageType messageType)
+    {
+        Objects.requireNonNull(messageType, "Message Type cannot be null.");
+
+        long count = 0;
+        for (LongAdder[] counters : localeOutcomes.values())
+            count += counters[messageType.ordinal()].sum();
+
+        return count;
+    }
+
+    /**
+     * Returns a snapshot of the lookup outcomes of every Locale.
+     *
+     * @return A Map of Locales to the number of lookups with each outcome.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<String, Map<MessageType, Long>> getLocaleOutcomes()
+    {
+        return snapshot(localeOutcomes);
+    }
+
+    /**
+     * Returns a snapshot of the lookup outcomes of every namespace.
+     *
+     * @return A Map of namespaces to the number of lookups with each outcome.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public Map<String, Map<MessageType, Long>> getNamespaceOutcomes()
+    {
+        return snapshot(namespaceOutcomes);
+    }
+
+    /**
+     * Copies a Map of counters.
+     *
+     * @param outcomes Map of counters.
+     * @return A copy of the counts.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private static Map<String, Map<MessageType, Long>> snapshot(@Nonnull Map<String, LongAdder[]> outcomes)
+    {
+        final Map<String, Map<MessageType, Long>> out = new HashMap<>();
+
+        outcomes.forEach((key, counters) -> {
+            final Map<MessageType, Long> counts = new EnumMap<>(MessageType.class);
+            for (MessageType messageType : MESSAGE_TYPES)
+                counts.put(messageType, counters[messageType.ordinal()].sum());
+
+            out.put(key, counts);
+        });
+
+        return out;
+    }
+
+    /**
+     * Returns the sampled latency histogram of message lookups.
+     *
+     * @return The lookup LatencyHistogram.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LatencyHistogram getLookupLatency()
+    {
+        return lookupLatency;
+    }
+
+    /**
+     * Returns the latency histogram of broadcasts.
+     *
+     * @return The broadcast LatencyHistogram.
+     * @since 1.0.0
+     */
+    @Nonnull
+    public LatencyHistogram getBroadcastLatency()
+    {
+        return broadcastLatency;
+    }
+
+    /**
+     * Returns the number of messages found in the render cache.
+     *
+     * @return The number of render cache hits.
+     * @since 1.0.0
+     */
+    public long getRenderCacheHits()
+    {
+        return renderCacheHits.sum();
+    }
+
+    /**
+     * Returns the number of messages which were not found in the render cache.
+     *
+     * @return The number of render cache misses.
+     * @since 1.0.0
+     */
+    public long getRenderCacheMisses()
+    {
+        return renderCacheMisses.sum();
+    }
+
+    /**
+     * Returns the number of messages dropped from the full render cache.
+     *
+     * @return The number of render cache evictions.
+     * @since 1.0.0
+     */
+    public long getRenderCacheEvictions()
+    {
+        return renderCacheEvictions.sum();
+    }
+
+    /**
+     * Returns the share of render cache lookups which were hits.
+     *
+     * @return The hit rate between 0 and 1, or 0 if the render cache was never used.
+     * @since 1.0.0
+     */
+    public double getRenderCacheHitRate()
+    {
+        final long hits = renderCacheHits.sum();
+        final long total = hits + renderCacheMisses.sum();
+
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * Clears every counter and histogram.
+     *
+     * @since 1.0.0
+     */
+    public void reset()
+    {
+        localeOutcomes.clear();
+        namespaceOutcomes.clear();
+        localeKeys.set(0);
+        namespaceKeys.set(0);
+        lookupLatency.reset();
+        broadcastLatency.reset();
+        renderCacheHits.reset();
+        renderCacheMisses.reset();
+        renderCacheEvictions.reset();
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Classes for measuring how messages are found and how long lookups and broadcasts take.
+ *
+ * @since 1.0.0
+ */
+package com.hippout.hippoutlocalizationlib.metrics;
@@ -2,14 +2,13 @@ package com.hippout.hippoutlocalizationlib.objects;
 
 import com.hippout.hippoutlocalizationlib.*;
 import com.hippout.hippoutlocalizationlib.api.*;
-import com.hippout.hippoutlocalizationlib.events.*;
 import com.hippout.hippoutlocalizationlib.exceptions.*;
+import com.hippout.hippoutlocalizationlib.language.*;
 import com.hippout.hippoutlocalizationlib.locale.*;
 import com.hippout.hippoutlocalizationlib.util.*;
 import org.bukkit.*;
 import org.bukkit.boss.*;
 import org.bukkit.entity.*;
-import org.bukkit.event.*;
 
 import javax.annotation.*;
 import java.util.*;
@@ -20,10 +19,11 @@ import java.util.*;
  * @author Wyatt Kalmer
  * @since 1.0.0
  */
-public class LocalizedBossBar implements BossBar, Listener {
-    private final Map<String, BossBar> bossBarMap;
+public class LocalizedBossBar implements BossBar, LocalizedObject {
+    private final LocaleTable localeTable;
+    private BossBar[] localeBossBars; // Indexed by Locale ordinal. Null if no BossBar exists for a Locale.
     private final List<BossBar> bossBars;
-    private final Set<String> locales;
+    private final Map<UUID, Integer> memberOrdinals; // Player UUID -> Locale ordinal of the BossBar they are in
 
     // Dummy BossBar allows behavior to always be consistent with the server. Always set to invisible.
     private final BossBar dummy;
@@ -58,9 +58,10 @@ public class LocalizedBossBar implements BossBar, Listener {
 
         isVisible = false;
 
-        bossBarMap = new HashMap<>();
+        localeTable = HippOutLocalizationLib.getPlugin().getLocaleTable();
+        localeBossBars = new BossBar[localeTable.size()];
         bossBars = new LinkedList<>();
-        locales = new HashSet<>();
+        memberOrdinals = new HashMap<>();
 
         formatArgs = new Object[0];
         this.barFlags = Arrays.copyOf(barFlags, barFlags.length);
@@ -115,10 +116,9 @@ public class LocalizedBossBar implements BossBar, Listener {
     @SuppressWarnings("unused")
     public void updateMessages()
     {
-        for (Map.Entry<String, BossBar> entry : bossBarMap.entrySet()) {
-            final String message = String.format(Macros.getLocalizedMessage(titleKey, entry.getKey()), formatArgs);
-            entry.getValue().setTitle(message);
-        }
+        for (int ordinal = 0; ordinal < localeBossBars.length; ++ordinal)
+            if (localeBossBars[ordinal] != null)
+                localeBossBars[ordinal].setTitle(formatTitle(ordinal));
     }
 
     /**
@@ -155,68 +155,85 @@ public class LocalizedBossBar implements BossBar, Listener {
     }
 
     /**
-     * Convenience method. Registers all events associated with this Extension
+     * Convenience method. Registers this LocalizedBossBar with the LocalizedObjectRouter, which forwards the
+     * events associated with it.
      *
      * @since 1.0.0
      */
     protected void registerEvents()
     {
-        final HippOutLocalizationLib plugin = HippOutLocalizationLib.getPlugin();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        HippOutLocalizationLib.getPlugin().getLocalizedObjectRouter().register(this);
     }
 
     /**
-     * Convenience method. Unregisters all events associated with this Extension
+     * Convenience method. Unregisters this LocalizedBossBar from the LocalizedObjectRouter.
      *
      * @since 1.0.0
      */
     protected void unregisterEvents()
     {
-        HandlerList.unregisterAll(this);
+        HippOutLocalizationLib.getPlugin().getLocalizedObjectRouter().unregister(this);
     }
 
     /**
-     * Creates a BossBar and updates all lists and Maps accordingly.
+     * Creates a BossBar and updates all lists and arrays accordingly.
      *
-     * @param locale Locale for the new BossBar
-     * @throws NullPointerException  if locale is null.
+     * @param ordinal Locale ordinal for the new BossBar
      * @throws LocaleFormatException if INTERNAL_REGEX_LOCALE_TESTS is true and the Locale has an invalid format.
-     * @throws IllegalStateException if the given Locale is already contained within locales.
+     * @throws IllegalStateException if a BossBar for the given Locale already exists.
      * @since 1.0.0
      */
-    private BossBar createBossBar(@Nonnull String locale)
+    private BossBar createBossBar(int ordinal)
     {
-        Objects.requireNonNull(locale, "Locale cannot be null.");
+        final String locale = localeTable.getLocale(ordinal);
 
         if (HippOutLocalizationLib.getPlugin().getConfiguration().INTERNAL_REGEX_LOCALE_TESTS)
             ValidationUtil.validateLocale(locale);
 
-        if (locales.contains(locale)) throw new IllegalStateException("Duplicate Locale " + locale);
+        if (getBossBar(ordinal) != null) throw new IllegalStateException("Duplicate Locale " + locale);
 
-
-        final String title = String.format(Macros.getLocalizedMessage(titleKey, locale), formatArgs);
-        final BossBar bossBar = Bukkit.createBossBar(title, dummy.getColor(), dummy.getStyle(), barFlags);
+        final BossBar bossBar = Bukkit.createBossBar(formatTitle(ordinal), dummy.getColor(), dummy.getStyle(),
+                barFlags);
 
         bossBar.setProgress(dummy.getProgress());
         bossBar.setVisible(isVisible());
 
-        locales.add(locale);
-        bossBarMap.put(locale, bossBar);
-        bossBars.add(bossBar);
+        if (ordinal >= localeBossBars.length)
+            localeBossBars = Arrays.copyOf(localeBossBars, localeTable.size());
 
-        for(Player p : dummy.getPlayers())
-        {
-            final String playerLocale = HippOutLocalizationLib.getPlugin().getLocaleCache().getLocale(p.getUniqueId());
-            if(playerLocale.equals(locale))
-            {
-                bossBarMap.get(playerLocale).removePlayer(p);
-                bossBar.addPlayer(p);
-            }
-        }
+        localeBossBars[ordinal] = bossBar;
+        bossBars.add(bossBar);
 
         return bossBar;
     }
 
+    /**
+     * Returns the BossBar of the given Locale ordinal.
+     *
+     * @param ordinal Locale ordinal of the BossBar.
+     * @return The BossBar of the given Locale ordinal, or null if none exists.
+     * @since 1.0.0
+     */
+    @Nullable
+    private BossBar getBossBar(int ordinal)
+    {
+        return ordinal >= 0 && ordinal < localeBossBars.length ? localeBossBars[ordinal] : null;
+    }
+
+    /**
+     * Formats the title of this LocalizedBossBar in the given Locale with the current Format Args.
+     *
+     * @param ordinal Locale ordinal to format the title in.
+     * @return The formatted title.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private String formatTitle(int ordinal)
+    {
+        final LanguageHandler languageHandler = HippOutLocalizationLib.getPlugin().getLanguageHandler();
+        return languageHandler.getFormattedMessage(localeTable.getLocale(ordinal), titleKey, formatArgs);
+    }
+
     /**
      * Returns a BarFlag array without the given BarFlag.
      *
@@ -379,7 +396,8 @@ public class LocalizedBossBar implements BossBar, Listener {
     }
 
     /**
-     * Adds the given Player to this LocalizedBossBar.
+     * Adds the given Player to this LocalizedBossBar. A Player who is already added is moved to the BossBar of
+     * their current Locale if it changed.
      *
      * @param player Player to add.
      * @since 1.0.0
@@ -388,13 +406,11 @@ public class LocalizedBossBar implements BossBar, Listener {
     public void addPlayer(@Nonnull Player player)
     {
         final LocaleCache localeCache = HippOutLocalizationLib.getPlugin().getLocaleCache();
-        final String locale = localeCache.getLocale(player.getUniqueId());
-
-        if (!locales.contains(locale))
-            createBossBar(locale);
+        final int ordinal = localeCache.getLocaleOrdinal(player.getUniqueId());
 
         dummy.addPlayer(player);
-        bossBarMap.get(locale).addPlayer(player);
+        movePlayer(player, ordinal);
+        HippOutLocalizationLib.getPlugin().getLocalizedObjectRouter().attach(player.getUniqueId(), this);
     }
 
     /**
@@ -407,7 +423,15 @@ public class LocalizedBossBar implements BossBar, Listener {
     public void removePlayer(@Nonnull Player player)
     {
         dummy.removePlayer(player);
-        bossBarMap.get(HippOutLocalizationLib.getPlugin().getLocaleCache().getLocale(player.getUniqueId())).removePlayer(player);
+
+        // The BossBar they were added to, which is not that of their current Locale if it changed since.
+        final Integer ordinal = memberOrdinals.remove(player.getUniqueId());
+        if (ordinal == null) return;
+
+        HippOutLocalizationLib.getPlugin().getLocalizedObjectRouter().detach(player.getUniqueId(), this);
+
+        final BossBar bossBar = getBossBar(ordinal);
+        if (bossBar != null) bossBar.removePlayer(player);
     }
 
     /**
@@ -420,6 +444,25 @@ public class LocalizedBossBar implements BossBar, Listener {
     {
         dummy.removeAll();
         bossBars.forEach(BossBar::removeAll);
+
+        final LocalizedObjectRouter router = HippOutLocalizationLib.getPlugin().getLocalizedObjectRouter();
+        for (UUID id : memberOrdinals.keySet())
+            router.detach(id, this);
+
+        memberOrdinals.clear();
+    }
+
+    /**
+     * Returns whether the given Player was added to this LocalizedBossBar.
+     *
+     * @param player Player to check.
+     * @return True if the Player was added, false otherwise.
+     * @since 1.0.0
+     */
+    @SuppressWarnings("unused")
+    public boolean containsPlayer(@Nonnull Player player)
+    {
+        return memberOrdinals.containsKey(player.getUniqueId());
     }
 
     /**
@@ -505,29 +548,58 @@ public class LocalizedBossBar implements BossBar, Listener {
         bossBars.forEach(BossBar::hide);
     }
 
-    // --------------- Event Listeners ---------------
+    // --------------- LocalizedObject methods ---------------
 
-    @EventHandler
-    @SuppressWarnings("unused")
-    public void onLocaleCacheChange(LocaleCacheChangeEvent event)
+    /**
+     * Moves a Player to the BossBar of their new Locale if they were added to this LocalizedBossBar. Called by the
+     * LocalizedObjectRouter.
+     *
+     * @param id        UUID of the Player.
+     * @param newLocale New Locale of the Player.
+     * @since 1.0.0
+     */
+    @Override
+    public void onLocaleChange(@Nonnull UUID id, @Nonnull String newLocale)
+    {
+        if (!memberOrdinals.containsKey(id)) return;
+
+        final Player player = Bukkit.getPlayer(id);
+        if (player != null)
+            movePlayer(player, localeTable.register(newLocale));
+    }
+
+    /**
+     * Updates the messages of all BossBars after a reload. Called by the LocalizedObjectRouter.
+     *
+     * @since 1.0.0
+     */
+    @Override
+    public void onLanguageReload()
     {
-        final OfflinePlayer p = Bukkit.getOfflinePlayer(event.getId());
-        if (p.isOnline()) {
-            final Player player = Objects.requireNonNull(p.getPlayer(), "Could not get Player from OfflinePlayer.");
+        updateMessages();
+    }
 
-            if (getPlayers().contains(player)) {
-                final BossBar oldBossBar = bossBarMap.get(event.getOldLocale());
+    /**
+     * Moves a Player from the BossBar they are in, if any, to the BossBar of the given Locale ordinal.
+     *
+     * @param player     Player to move.
+     * @param newOrdinal Locale ordinal of the BossBar to move to.
+     * @since 1.0.0
+     */
+    private void movePlayer(@Nonnull Player player, int newOrdinal)
+    {
+        final Integer oldOrdinal = memberOrdinals.put(player.getUniqueId(), newOrdinal);
+        if (oldOrdinal != null && oldOrdinal == newOrdinal) return;
 
-                final BossBar newBossBar;
-                if (bossBarMap.containsKey(event.getNewLocale()))
-                    newBossBar = bossBarMap.get(event.getNewLocale());
-                else {
-                    newBossBar = createBossBar(event.getNewLocale());
-                }
+        BossBar newBossBar = getBossBar(newOrdinal);
+        if (newBossBar == null)
+            newBossBar = createBossBar(newOrdinal);
 
-                oldBossBar.removePlayer(player);
-                newBossBar.addPlayer(player);
-            }
+        if (oldOrdinal != null) {
+            final BossBar oldBossBar = getBossBar(oldOrdinal);
+            if (oldBossBar != null) oldBossBar.removePlayer(player);
         }
+
+        newBossBar.addPlayer(player);
     }
 }
@@ -0,0 +1,29 @@
+package com.hippout.hippoutlocalizationlib.objects;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * An object shown to Players in their own Locale. Receives the Locale changes of the Players attached to it
+ * through the LocalizedObjectRouter, instead of listening to every change itself.
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public interface LocalizedObject {
+    /**
+     * Called on the main thread when the Locale of a Player attached to this LocalizedObject changed.
+     *
+     * @param id        UUID of the Player.
+     * @param newLocale New Locale of the Player.
+     * @since 1.0.0
+     */
+    void onLocaleChange(@Nonnull UUID id, @Nonnull String newLocale);
+
+    /**
+     * Called on the main thread after the language files were reloaded.
+     *
+     * @since 1.0.0
+     */
+    void onLanguageReload();
+}
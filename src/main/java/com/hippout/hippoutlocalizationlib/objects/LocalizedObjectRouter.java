@@ -0,0 +1,187 @@
+package com.hippout.hippoutlocalizationlib.objects;
+
+import com.hippout.hippoutlocalizationlib.events.*;
+import org.bukkit.event.*;
+
+import javax.annotation.*;
+import java.util.*;
+
+/**
+ * The single Listener of every LocalizedObject. Keeps which LocalizedObjects each Player is attached to, and
+ * routes the Locale changes of a Player only to those, so the cost of a change does not grow with the number of
+ * LocalizedObjects alive.
+ * <p>
+ * Safe to use from any thread. LocalizedObjects are called outside of the lock, so they may attach and detach
+ * Players while handling a change.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ * @since 1.0.0
+ */
+public final class LocalizedObjectRouter implements Listener {
+    private static final LocalizedObject[] NO_OBJECTS = new LocalizedObject[0];
+
+    // Guarded by this
+    private final Map<UUID, Set<LocalizedObject>> attachments;
+    private final Set<LocalizedObject> registered;
+
+    /**
+     * Constructs an empty LocalizedObjectRouter.
+     *
+     * @since 1.0.0
+     */
+    public LocalizedObjectRouter()
+    {
+        attachments = new HashMap<>();
+        registered = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Registers a LocalizedObject, so that it is told about language reloads.
+     *
+     * @param object LocalizedObject to register.
+     * @throws NullPointerException if object is null.
+     * @since 1.0.0
+     */
+    public synchronized void register(@Nonnull LocalizedObject object)
+    {
+        registered.add(Objects.requireNonNull(object, "Localized Object cannot be null."));
+    }
+
+    /**
+     * Unregisters a LocalizedObject and detaches every Player from it.
+     *
+     * @param object LocalizedObject to unregister.
+     * @throws NullPointerException if object is null.
+     * @since 1.0.0
+     */
+    public synchronized void unregister(@Nonnull LocalizedObject object)
+    {
+        Objects.requireNonNull(object, "Localized Object cannot be null.");
+
+        if (registered.remove(object))
+            detachAll(object);
+    }
+
+    /**
+     * Attaches a Player to a LocalizedObject, so that it is told about the Player's Locale changes.
+     *
+     * @param id     UUID of the Player.
+     * @param object LocalizedObject to attach to.
+     * @throws NullPointerException if id or object is null.
+     * @since 1.0.0
+     */
+    public synchronized void attach(@Nonnull UUID id, @Nonnull LocalizedObject object)
+    {
+        Objects.requireNonNull(id, "UUID cannot be null.");
+        Objects.requireNonNull(object, "Localized Object cannot be null.");
+
+        attachments.computeIfAbsent(id, k -> Collections.newSetFromMap(new IdentityHashMap<>())).add(object);
+    }
+
+    /**
+     * Detaches a Player from a LocalizedObject.
+     *
+     * @param id     UUID of the Player.
+     * @param object LocalizedObject to detach from.
+     * @throws NullPointerException if id or object is null.
+     * @since 1.0.0
+     */
+    public synchronized void detach(@Nonnull UUID id, @Nonnull LocalizedObject object)
+    {
+        Objects.requireNonNull(id, "UUID cannot be null.");
+        Objects.requireNonNull(object, "Localized Object cannot be null.");
+
+        final Set<LocalizedObject> objects = attachments.get(id);
+        if (objects == null) return;
+
+        objects.remove(object);
+        if (objects.isEmpty()) attachments.remove(id);
+    }
+
+    /**
+     * Detaches every Player from a LocalizedObject.
+     *
+     * @param object LocalizedObject to detach from.
+     * @throws NullPointerException if object is null.
+     * @api.Note Scans every attached Player. Prefer detach when the Players are known.
+     * @since 1.0.0
+     */
+    public synchronized void detachAll(@Nonnull LocalizedObject object)
+    {
+        Objects.requireNonNull(object, "Localized Object cannot be null.");
+
+        final Iterator<Set<LocalizedObject>> it = attachments.values().iterator();
+        while (it.hasNext()) {
+            final Set<LocalizedObject> objects = it.next();
+            if (objects.remove(object) && objects.isEmpty()) it.remove();
+        }
+    }
+
+    /**
+     * Returns the LocalizedObjects the given Player is attached to.
+     *
+     * @param id UUID of the Player.
+     * @return A copy of the LocalizedObjects the Player is attached to.
+     * @since 1.0.0
+     */
+    @Nonnull
+    private synchronized LocalizedObject[] getAttached(@Nonnull UUID id)
+    {
+        final Set<LocalizedObject> objects = attachments.get(id);
+        return objects == null ? NO_OBJECTS : objects.toArray(NO_OBJECTS);
+    }
+
+    /**
+     * Returns the number of LocalizedObjects registered.
+     *
+     * @return The number of registered LocalizedObjects.
+     * @since 1.0.0
+     */
+    public synchronized int size()
+    {
+        return registered.size();
+    }
+
+    // --------------- Event Listeners ---------------
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onLocaleCacheChange(LocaleCacheChangeEvent event)
+    {
+        route(event.getId(), event.getNewLocale());
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onLocaleCacheBulkChange(LocaleCacheBulkChangeEvent event)
+    {
+        event.getNewLocales().forEach(this::route);
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onLanguageReload(LanguageReloadEvent event)
+    {
+        final LocalizedObject[] objects;
+        synchronized (this) {
+            objects = registered.toArray(NO_OBJECTS);
+        }
+
+        for (LocalizedObject object : objects)
+            object.onLanguageReload();
+    }
+
+    /**
+     * Tells every LocalizedObject the given Player is attached to about their new Locale.
+     *
+     * @param id        UUID of the Player.
+     * @param newLocale New Locale of the Player.
+     * @since 1.0.0
+     */
+    private void route(@Nonnull UUID id, @Nonnull String newLocale)
+    {
+        for (LocalizedObject object : getAttached(id))
+            object.onLocaleChange(id, newLocale);
+    }
+}
@@ -1,7 +1,10 @@
 package com.hippout.hippoutlocalizationlib.util;
 
+import com.hippout.hippoutlocalizationlib.language.*;
+
 import javax.annotation.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Various String-related utilities.
@@ -10,10 +13,16 @@ import java.util.*;
  * @since 1.0.0
  */
 public class StringUtils {
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+
+    // Templates of the Strings passed to format, so that each is only parsed once. Once full, new Strings are
+    // compiled on every call instead, as callers may build their format Strings dynamically.
+    private static final Map<String, MessageTemplate> TEMPLATES = new ConcurrentHashMap<>();
 
     /**
      * Formats a String but only if args.length is greater than 0. Meant for a performance method because it seems that
-     * AdoptOpenJDK doesn't actually do this check for whatever reason.
+     * AdoptOpenJDK doesn't actually do this check for whatever reason. Compiled MessageTemplates of the first
+     * MAX_CACHED_TEMPLATES distinct Strings are kept and reused.
      *
      * @param str  String to format.
      * @param args Arguments to format with.
@@ -26,9 +35,37 @@ public class StringUtils {
     {
         Objects.requireNonNull(args, "Args cannot be null.");
 
+        if (args.length == 0)
+            return str;
+
+        MessageTemplate template = TEMPLATES.get(str);
+        if (template == null) {
+            template = MessageTemplate.compile(str);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) TEMPLATES.putIfAbsent(str, template);
+        }
+
+        return template.format(args);
+    }
+
+    /**
+     * Formats a MessageTemplate but only if args.length is greater than 0, else returns its source unformatted.
+     * Behaves the same as format(template.getSource(), args) without re-parsing the message.
+     *
+     * @param template MessageTemplate to format.
+     * @param args     Arguments to format with.
+     * @return The formatted String.
+     * @throws NullPointerException             if template or args is null.
+     * @throws java.util.IllegalFormatException see String.format.
+     * @since 1.0.0
+     */
+    public static String format(@Nonnull MessageTemplate template, @Nonnull Object... args)
+    {
+        Objects.requireNonNull(template, "Template cannot be null.");
+        Objects.requireNonNull(args, "Args cannot be null.");
+
         if (args.length != 0)
-            return String.format(str, args);
+            return template.format(args);
         else
-            return str;
+            return template.getSource();
     }
 }
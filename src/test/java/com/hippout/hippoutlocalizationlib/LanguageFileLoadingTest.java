@@ -0,0 +1,138 @@
+package com.hippout.hippoutlocalizationlib;
+
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.configuration.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the parallel language file loading of com.hippout.hippoutlocalizationlib.HippOutLocalizationLib
+ *
+ * @author Wyatt Kalmer
+ */
+public class LanguageFileLoadingTest {
+    private static final String LOCALE = "xx_lo";
+
+    private HippOutLocalizationLib plugin;
+
+    @Before
+    public void setUp()
+    {
+        plugin = StubServer.start().getPlugin();
+    }
+
+    @Test
+    public void testFirstFileWinsWhenParsedLast() throws IOException
+    {
+        // The first file can only finish parsing last if both files are parsed at once.
+        Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 1);
+
+        final String first = "load_order_first_a.yml";
+        final String second = "load_order_first_b.yml";
+        final OrderedLanguageLoader languageLoader = new OrderedLanguageLoader(first, second);
+        writeFile(languageLoader, first, "load_order_first", "First");
+        writeFile(languageLoader, second, "load_order_first", "Second");
+
+        plugin.loadLanguageFiles(languageLoader, Arrays.asList(first, second));
+
+        assertEquals(Arrays.asList(second, first), languageLoader.parsed);
+        assertEquals("First", getMessage("load_order_first.message"));
+    }
+
+    @Test
+    public void testListOrderDecides() throws IOException
+    {
+        final String first = "load_order_listed_a.yml";
+        final String second = "load_order_listed_b.yml";
+        final OrderedLanguageLoader languageLoader = new OrderedLanguageLoader(null, null);
+        writeFile(languageLoader, first, "load_order_listed", "A");
+        writeFile(languageLoader, second, "load_order_listed", "B");
+
+        // Listed in reverse alphabetical order, so the second file by name is added first.
+        plugin.loadLanguageFiles(languageLoader, Arrays.asList(second, first));
+
+        assertEquals("B", getMessage("load_order_listed.message"));
+    }
+
+    /**
+     * Looks up a message of the test Locale.
+     *
+     * @param key Key of the message within the plugin's namespace.
+     * @return The message.
+     */
+    private String getMessage(String key)
+    {
+        final NamespacedKey messageKey = plugin.getLanguageHandler().getExistingKey(plugin, key);
+        return plugin.getLanguageHandler().getLocalizedMessage(LOCALE, messageKey).getMessage();
+    }
+
+    /**
+     * Writes a language file with a single message. The file is kept, as later reloads parse every language file
+     * added so far.
+     *
+     * @param languageLoader LanguageLoader resolving the file name.
+     * @param fileName       Name of the file.
+     * @param section        Section holding the message.
+     * @param message        Message to write.
+     * @throws IOException if the file could not be written.
+     */
+    private static void writeFile(LanguageLoader languageLoader, String fileName, String section, String message)
+            throws IOException
+    {
+        final Path file = languageLoader.getLanguageFile(fileName).toPath();
+        Files.createDirectories(file.getParent());
+
+        final String yaml = "config:\n  locales: [ " + LOCALE + " ]\nmessages:\n  " + section + ":\n    message: \"" +
+                message + "\"\n";
+        Files.write(file, yaml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * A LanguageLoader which holds back parsing the given slow file until the given fast file is parsed, and records
+     * the order files finished parsing in.
+     */
+    private final class OrderedLanguageLoader extends LanguageLoader {
+        private final String slowFile;
+        private final String fastFile;
+        private final CountDownLatch fastFileParsed;
+        private final List<String> parsed;
+
+        private OrderedLanguageLoader(String slowFile, String fastFile)
+        {
+            super(plugin, HippOutLocalizationLib.LANGUAGE_DIRECTORY, true);
+            this.slowFile = slowFile;
+            this.fastFile = fastFile;
+            this.fastFileParsed = new CountDownLatch(1);
+            this.parsed = Collections.synchronizedList(new ArrayList<>());
+        }
+
+        @Override
+        public ParsedLanguageFile parseLanguageFile(String fileName) throws IOException,
+                InvalidConfigurationException
+        {
+            if (fileName.equals(slowFile)) {
+                try {
+                    assertTrue("The fast file was never parsed.", fastFileParsed.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            final ParsedLanguageFile languageFile = super.parseLanguageFile(fileName);
+            parsed.add(fileName);
+            if (fileName.equals(fastFile)) fastFileParsed.countDown();
+
+            return languageFile;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.command.*;
+import org.bukkit.entity.*;
+import org.junit.*;
+
+import java.lang.reflect.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.api.BroadcastDispatcher
+ *
+ * @author Wyatt Kalmer
+ */
+public class BroadcastDispatcherTest {
+    private static final int MESSAGES_PER_TICK = 3;
+
+    private StubServer server;
+    private BroadcastDispatcher dispatcher;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        server.removeAllPlayers();
+        dispatcher = new BroadcastDispatcher(server.getPlugin(), 0, MESSAGES_PER_TICK);
+    }
+
+    @After
+    public void tearDown()
+    {
+        dispatcher.close();
+        server.removeAllPlayers();
+    }
+
+    @Test
+    public void testMessageBudget()
+    {
+        final Player[] players = new Player[7];
+        final String[] messages = new String[players.length];
+        for (int i = 0; i < players.length; ++i) {
+            players[i] = server.addPlayer("Player" + i, "en_us");
+            messages[i] = "message " + i;
+        }
+
+        final CompletableFuture<Void> future = dispatcher.dispatch(players, messages);
+        assertEquals(players.length, dispatcher.getQueuedMessages());
+        assertEquals(0, StubPlayer.of(players[0]).getMessagesReceived());
+
+        server.getScheduler().tick();
+        assertEquals(players.length - MESSAGES_PER_TICK, dispatcher.getQueuedMessages());
+        assertEquals(1, StubPlayer.of(players[MESSAGES_PER_TICK - 1]).getMessagesReceived());
+        assertEquals(0, StubPlayer.of(players[MESSAGES_PER_TICK]).getMessagesReceived());
+        assertFalse(future.isDone());
+
+        server.getScheduler().tick(2);
+        assertTrue(future.isDone());
+        assertFalse(future.isCompletedExceptionally());
+        assertEquals(0, dispatcher.getQueuedMessages());
+
+        for (int i = 0; i < players.length; ++i)
+            assertEquals(messages[i], StubPlayer.of(players[i]).getLastMessage());
+    }
+
+    @Test
+    public void testOrderPerRecipient()
+    {
+        final Player player = server.addPlayer("Player", "en_us");
+        final CommandSender[] recipients = {player, player};
+
+        final CompletableFuture<Void> first = dispatcher.dispatch(recipients, new String[]{"1", "2"});
+        final CompletableFuture<Void> second = dispatcher.dispatch(recipients, new String[]{"3", "4"});
+
+        server.getScheduler().tick();
+        assertTrue(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals("3", StubPlayer.of(player).getLastMessage());
+
+        server.getScheduler().tick();
+        assertTrue(second.isDone());
+        assertEquals("4", StubPlayer.of(player).getLastMessage());
+        assertEquals(4, StubPlayer.of(player).getMessagesReceived());
+    }
+
+    @Test
+    public void testClose()
+    {
+        final Player player = server.addPlayer("Player", "en_us");
+        final CompletableFuture<Void> future = dispatcher.dispatch(new CommandSender[]{player, player, player, player},
+                new String[]{"1", "2", "3", "4"});
+
+        dispatcher.close();
+        assertTrue(future.isDone());
+        assertEquals(4, StubPlayer.of(player).getMessagesReceived());
+        assertEquals(0, dispatcher.getQueuedMessages());
+    }
+
+    @Test
+    public void testFailingRecipientIsSkipped()
+    {
+        final Player before = server.addPlayer("Before", "en_us");
+        final Player after = server.addPlayer("After", "en_us");
+        final CommandSender[] recipients = {before, createFailingSender(), after, createFailingSender()};
+
+        final CompletableFuture<Void> future = dispatcher.dispatch(recipients, new String[]{"1", "2", "3", "4"});
+        server.getScheduler().tick(2);
+
+        // Every recipient after the failing ones still receives its message.
+        assertEquals("1", StubPlayer.of(before).getLastMessage());
+        assertEquals("3", StubPlayer.of(after).getLastMessage());
+        assertEquals(0, dispatcher.getQueuedMessages());
+
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail("The broadcast should have failed.");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(1, e.getCause().getSuppressed().length);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedLengths()
+    {
+        dispatcher.dispatch(new CommandSender[0], new String[]{"1"});
+    }
+
+    /**
+     * Creates a CommandSender which throws when it is sent a message.
+     *
+     * @return The CommandSender.
+     */
+    private static CommandSender createFailingSender()
+    {
+        return (CommandSender) Proxy.newProxyInstance(BroadcastDispatcherTest.class.getClassLoader(),
+                new Class<?>[]{CommandSender.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "sendMessage":
+                            throw new IllegalStateException("Cannot receive messages.");
+                        case "getName":
+                            return "FailingSender";
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        default:
+                            return StubServer.defaultValue(method.getReturnType());
+                    }
+                });
+    }
+}
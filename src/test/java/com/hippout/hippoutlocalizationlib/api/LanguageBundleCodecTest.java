@@ -0,0 +1,80 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.api.LanguageBundleCodec
+ *
+ * @author Wyatt Kalmer
+ */
+public class LanguageBundleCodecTest {
+    private static final byte[] SOURCE = "config:\n  locales: [ en_us ]\n".getBytes(StandardCharsets.UTF_8);
+    private static final String FILE_NAME = "en.yml";
+
+    private Path file;
+    private LanguageLoader.ParsedLanguageFile languageFile;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        file = Files.createTempDirectory("bundle").resolve(FILE_NAME + ".bundle");
+
+        final Map<String, String> messages = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; ++i)
+            messages.put("section_" + i / 100 + ".message_" + i, "§aMessage " + i + ": %s und ä.");
+
+        languageFile = new LanguageLoader.ParsedLanguageFile(FILE_NAME, new String[]{"en_us", "en_gb"}, messages);
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        final byte[] hash = LanguageBundleCodec.hash(SOURCE);
+        Files.write(file, LanguageBundleCodec.encode(languageFile, hash));
+
+        final LanguageLoader.ParsedLanguageFile read = LanguageBundleCodec.read(file, FILE_NAME, hash);
+        assertNotNull(read);
+        assertEquals(FILE_NAME, read.getFileName());
+        assertArrayEquals(languageFile.locales, read.locales);
+
+        // Order is kept, so that messages are added in file order.
+        assertEquals(new ArrayList<>(languageFile.messages.entrySet()), new ArrayList<>(read.messages.entrySet()));
+    }
+
+    @Test
+    public void testChangedSource() throws IOException
+    {
+        Files.write(file, LanguageBundleCodec.encode(languageFile, LanguageBundleCodec.hash(SOURCE)));
+
+        final byte[] edited = Arrays.copyOf(SOURCE, SOURCE.length + 1);
+        assertNull(LanguageBundleCodec.read(file, FILE_NAME, LanguageBundleCodec.hash(edited)));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorrupt() throws IOException
+    {
+        final byte[] hash = LanguageBundleCodec.hash(SOURCE);
+        final byte[] bytes = LanguageBundleCodec.encode(languageFile, hash);
+        bytes[bytes.length / 2] ^= 0x40;
+        Files.write(file, bytes);
+
+        LanguageBundleCodec.read(file, FILE_NAME, hash);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException
+    {
+        final byte[] hash = LanguageBundleCodec.hash(SOURCE);
+        final byte[] bytes = LanguageBundleCodec.encode(languageFile, hash);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        LanguageBundleCodec.read(file, FILE_NAME, hash);
+    }
+}
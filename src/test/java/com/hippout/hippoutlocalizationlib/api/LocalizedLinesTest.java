@@ -0,0 +1,72 @@
+package com.hippout.hippoutlocalizationlib.api;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.entity.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.api.Macros.sendLocalizedLines
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocalizedLinesTest {
+    private StubServer server;
+    private NamespacedKey header, line;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        final HippOutLocalizationLib plugin = server.getPlugin();
+
+        header = new NamespacedKey(plugin, "lines_test_header");
+        line = new NamespacedKey(plugin, "lines_test_line");
+
+        if (plugin.getLanguageHandler().getMessageId(header) < 0) {
+            final Map<NamespacedKey, String> messages = new LinkedHashMap<>();
+            messages.put(header, "Header");
+            messages.put(line, "Line %d of %s");
+            plugin.getLanguageHandler().addLocalizedMessages(messages, "xx_ln");
+        }
+    }
+
+    @After
+    public void tearDown()
+    {
+        server.removeAllPlayers();
+    }
+
+    @Test
+    public void testSendLines()
+    {
+        final Player player = server.addPlayer("Player", "xx_ln");
+
+        Macros.sendLocalizedLines(player, Arrays.asList(LocalizedLine.of(header), LocalizedLine.of(line, 1, "a"),
+                LocalizedLine.of(line, 2, "b")));
+
+        assertEquals(3, StubPlayer.of(player).getMessagesReceived());
+        assertEquals("Line 2 of b", StubPlayer.of(player).getLastMessage());
+    }
+
+    @Test
+    public void testArgsCopied()
+    {
+        final Object[] args = {1, "a"};
+        final LocalizedLine localizedLine = LocalizedLine.of(line, args);
+        args[0] = 2;
+
+        assertEquals(1, localizedLine.getFormatArgs()[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmpty()
+    {
+        Macros.sendLocalizedLines(server.addPlayer("Player", "xx_ln"), Collections.emptyList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.hippout.hippoutlocalizationlib.benchmark;
+
+import javax.annotation.*;
+
+/**
+ * Generates valid, distinct Locales for benchmarks.
+ *
+ * @author Wyatt Kalmer
+ */
+final class BenchmarkLocales {
+    private BenchmarkLocales()
+    {
+    }
+
+    /**
+     * Generates the Locales prefix_aaa, prefix_aab and so on.
+     *
+     * @param prefix Language part of the Locales. Two to eight lowercase letters.
+     * @param count  Number of Locales to generate. At most 17576.
+     * @return The generated Locales.
+     */
+    @Nonnull
+    static String[] generate(@Nonnull String prefix, int count)
+    {
+        final String[] locales = new String[count];
+        for (int i = 0; i < count; ++i)
+            locales[i] = locale(prefix, i);
+
+        return locales;
+    }
+
+    /**
+     * Generates the Locale with the given index.
+     *
+     * @param prefix Language part of the Locale. Two to eight lowercase letters.
+     * @param index  Index of the Locale. At most 17575.
+     * @return The generated Locale.
+     */
+    @Nonnull
+    static String locale(@Nonnull String prefix, int index)
+    {
+        final char[] country = {(char) ('a' + index / 676 % 26), (char) ('a' + index / 26 % 26),
+                (char) ('a' + index % 26)};
+
+        return prefix + "_" + new String(country);
+    }
+}
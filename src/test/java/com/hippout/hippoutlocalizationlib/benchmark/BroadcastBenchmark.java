@@ -0,0 +1,78 @@
+package com.hippout.hippoutlocalizationlib.benchmark;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.language.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for Macros.broadcastLocalized across N online Players spread evenly over M Locales. Half of the Locales
+ * contain the message, and the other half fall back to the Default Language.
+ *
+ * @author Wyatt Kalmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BroadcastBenchmark {
+    @Param({"10", "100", "1000"})
+    private int players;
+
+    @Param({"1", "8", "32"})
+    private int locales;
+
+    private StubServer server;
+    private NamespacedKey messageKey;
+    private List<Player> recipients;
+
+    @Setup
+    public void setup()
+    {
+        server = StubServer.start();
+        server.removeAllPlayers();
+
+        final HippOutLocalizationLib plugin = server.getPlugin();
+        final LanguageHandler languageHandler = plugin.getLanguageHandler();
+
+        messageKey = new NamespacedKey(plugin, "benchmark.broadcast");
+        if (!languageHandler.containsKey(messageKey))
+            languageHandler.addLocalizedMessage(messageKey, "§aBroadcast %s from %s!",
+                    plugin.getConfiguration().DEFAULT_LOCALE);
+
+        final String[] localeNames = BenchmarkLocales.generate("bc", locales);
+        for (int i = 0; i < localeNames.length; i += 2)
+            if (!languageHandler.isLocaleRegistered(localeNames[i]))
+                languageHandler.addLocalizedMessage(messageKey, "§a" + localeNames[i] + " %s %s", localeNames[i]);
+
+        recipients = new ArrayList<>(players);
+        for (int i = 0; i < players; ++i)
+            recipients.add(server.addPlayer("Player" + i, localeNames[i % localeNames.length]));
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        server.removeAllPlayers();
+    }
+
+    @Benchmark
+    public void broadcastAllOnline()
+    {
+        Macros.broadcastLocalized(messageKey, "message", "benchmark");
+    }
+
+    @Benchmark
+    public void broadcastRecipients()
+    {
+        Macros.broadcastLocalized(messageKey, recipients, "message", "benchmark");
+    }
+}
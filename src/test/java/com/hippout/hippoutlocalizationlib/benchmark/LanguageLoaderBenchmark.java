@@ -0,0 +1,84 @@
+package com.hippout.hippoutlocalizationlib.benchmark;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.language.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for parsing and adding large generated language packs, as LanguageLoader.loadLanguageFile does. Every
+ * invocation adds the pack to a new, empty LanguageHandler, so that each measurement starts from the same state
+ * rather than from everything added by earlier invocations. The Locales of the pack are the same every invocation,
+ * but its message bodies are new, so that it is always parsed rather than read from its cached bundle.
+ *
+ * @author Wyatt Kalmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class LanguageLoaderBenchmark {
+    private static final String FILE_NAME = "benchmark_pack.yml";
+
+    @Param({"1000", "10000"})
+    private int messages;
+
+    @Param({"1", "6"})
+    private int localesPerFile;
+
+    private HippOutLocalizationLib plugin;
+    private LanguageLoader languageLoader;
+    private LanguageHandler languageHandler;
+    private Path packFile;
+    private String[] locales;
+    private int invocation;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        plugin = StubServer.start().getPlugin();
+        final Path languageDirectory = plugin.getDataFolder().toPath().resolve(
+                HippOutLocalizationLib.LANGUAGE_DIRECTORY);
+
+        Files.createDirectories(languageDirectory);
+        packFile = languageDirectory.resolve(FILE_NAME);
+        languageLoader = new LanguageLoader(plugin, HippOutLocalizationLib.LANGUAGE_DIRECTORY, true);
+        locales = BenchmarkLocales.generate("ld", localesPerFile);
+        invocation = 0;
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws IOException
+    {
+        languageHandler = new LanguageHandler(plugin, plugin.getConfiguration().DEFAULT_LOCALE);
+
+        final StringBuilder yaml = new StringBuilder(messages * 64);
+        yaml.append("config:\n  locales: [ ").append(String.join(", ", locales)).append(" ]\nmessages:\n");
+        for (int section = 0; section * 100 < messages; ++section) {
+            yaml.append("  section_").append(section).append(":\n");
+
+            for (int i = section * 100; i < Math.min(messages, (section + 1) * 100); ++i)
+                yaml.append("    message_").append(i).append(": \"§aPack ").append(invocation)
+                        .append(" message ").append(i).append(": %s and %s.\"\n");
+        }
+
+        Files.write(packFile, yaml.toString().getBytes(StandardCharsets.UTF_8));
+        ++invocation;
+    }
+
+    @Benchmark
+    public List<NamespacedKey> loadLanguageFile() throws Exception
+    {
+        return languageHandler.addLanguageFile(languageLoader, languageLoader.parseLanguageFile(FILE_NAME));
+    }
+}
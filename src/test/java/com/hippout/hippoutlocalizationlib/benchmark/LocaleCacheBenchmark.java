@@ -0,0 +1,106 @@
+package com.hippout.hippoutlocalizationlib.benchmark;
+
+import com.hippout.hippoutlocalizationlib.locale.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for LocaleCache reads and writes. Reads are also measured with several threads to show contention.
+ *
+ * @author Wyatt Kalmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocaleCacheBenchmark {
+    private static final int PLAYERS = 1024; // Power of two, for cheap cycling
+    private static final String[] LOCALES = {"en_us", "en_gb", "de_de", "fr_fr"};
+
+    private StubServer server;
+    private LocaleCache localeCache;
+    private UUID[] playerIds, overriddenIds, unknownIds;
+
+    @Setup
+    public void setup()
+    {
+        server = StubServer.start();
+        server.removeAllPlayers();
+        localeCache = server.getPlugin().getLocaleCache();
+
+        playerIds = new UUID[PLAYERS];
+        overriddenIds = new UUID[PLAYERS];
+        unknownIds = new UUID[PLAYERS];
+
+        for (int i = 0; i < PLAYERS; ++i) {
+            playerIds[i] = server.addPlayer("Player" + i, LOCALES[i % LOCALES.length]).getUniqueId();
+            overriddenIds[i] = server.addPlayer("Override" + i, LOCALES[i % LOCALES.length]).getUniqueId();
+            localeCache.setLocaleOverride(overriddenIds[i], LOCALES[(i + 1) % LOCALES.length]);
+            unknownIds[i] = UUID.randomUUID();
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        for (UUID id : overriddenIds)
+            if (localeCache.hasLocaleOverride(id)) localeCache.removeLocaleOverride(id);
+
+        server.removeAllPlayers();
+    }
+
+    /**
+     * Per-thread position in the UUID arrays.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int index, round;
+
+        int next()
+        {
+            index = (index + 1) & (PLAYERS - 1);
+            if (index == 0) ++round;
+
+            return index;
+        }
+    }
+
+    @Benchmark
+    public String getLocale(Cursor cursor)
+    {
+        return localeCache.getLocale(playerIds[cursor.next()]);
+    }
+
+    @Benchmark
+    public String getLocaleOverridden(Cursor cursor)
+    {
+        return localeCache.getLocale(overriddenIds[cursor.next()]);
+    }
+
+    @Benchmark
+    public String getLocaleUnknown(Cursor cursor)
+    {
+        return localeCache.getLocale(unknownIds[cursor.next()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String getLocaleContended(Cursor cursor)
+    {
+        return localeCache.getLocale(playerIds[cursor.next()]);
+    }
+
+    @Benchmark
+    public void setLocaleOverride(Cursor cursor)
+    {
+        // Alternates between two Locales every round, so that every call changes the Locale and fires a
+        // LocaleCacheChangeEvent.
+        final int index = cursor.next();
+        localeCache.setLocaleOverride(overriddenIds[index], LOCALES[cursor.round & 1]);
+    }
+}
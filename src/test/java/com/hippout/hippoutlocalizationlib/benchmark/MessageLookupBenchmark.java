@@ -0,0 +1,64 @@
+package com.hippout.hippoutlocalizationlib.benchmark;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.language.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks for LanguageHandler.getLocalizedMessage. Run with the benchmark profile, which enables JMH's GC profiler.
+ * Every benchmark should report a gc.alloc.rate.norm of 0 B/op.
+ *
+ * @author Wyatt Kalmer
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageLookupBenchmark {
+    private static final String FOUND_LOCALE = "en_gb";
+    private static final String MISSING_LOCALE = "de_de";
+
+    private LanguageHandler languageHandler;
+    private NamespacedKey messageKey, missingKey;
+
+    @Setup
+    public void setup()
+    {
+        final HippOutLocalizationLib plugin = StubServer.start().getPlugin();
+
+        languageHandler = plugin.getLanguageHandler();
+        messageKey = HippOutLocalizationLib.getKeyRegistry().TEST_MESSAGE;
+        missingKey = new NamespacedKey(plugin, "benchmark.missing_message");
+    }
+
+    @Benchmark
+    public MessageReturnWrapper lookupFound()
+    {
+        return languageHandler.getLocalizedMessage(FOUND_LOCALE, messageKey);
+    }
+
+    @Benchmark
+    public MessageReturnWrapper lookupDefaultLanguageFallback()
+    {
+        return languageHandler.getLocalizedMessage(MISSING_LOCALE, messageKey);
+    }
+
+    @Benchmark
+    public MessageReturnWrapper lookupFailsafe()
+    {
+        return languageHandler.getLocalizedMessage(FOUND_LOCALE, missingKey);
+    }
+
+    @Benchmark
+    public String macrosGetLocalizedMessage()
+    {
+        return Macros.getLocalizedMessage(messageKey, FOUND_LOCALE);
+    }
+}
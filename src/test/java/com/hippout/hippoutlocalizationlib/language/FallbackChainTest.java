@@ -0,0 +1,112 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the fallback chains of com.hippout.hippoutlocalizationlib.language.LanguageHandler
+ *
+ * @author Wyatt Kalmer
+ */
+public class FallbackChainTest {
+    private LanguageHandler languageHandler;
+    private HippOutLocalizationLib plugin;
+
+    @Before
+    public void setUp()
+    {
+        plugin = StubServer.start().getPlugin();
+        languageHandler = plugin.getLanguageHandler();
+    }
+
+    @Test
+    public void testConfiguredChain()
+    {
+        // StubServer enables the example chain of config.yml, which maps pt_pt to pt_br.
+        final NamespacedKey key = new NamespacedKey(plugin, "fallback_test_configured");
+        languageHandler.addLocalizedMessage(key, "Olá", "pt_br");
+
+        final MessageReturnWrapper message = languageHandler.getLocalizedMessage("pt_pt", key);
+        assertEquals("Olá", message.getMessage());
+        assertEquals("pt_br", message.getLocale());
+        assertEquals(MessageType.LOCALE_FALLBACK, message.getMessageType());
+    }
+
+    @Test
+    public void testBaseLanguage()
+    {
+        final NamespacedKey key = new NamespacedKey(plugin, "fallback_test_base");
+        languageHandler.addLocalizedMessage(key, "Colour", "en");
+
+        final MessageReturnWrapper message = languageHandler.getLocalizedMessage("en_zz", key);
+        assertEquals("Colour", message.getMessage());
+        assertEquals("en", message.getLocale());
+        assertEquals(MessageType.LOCALE_FALLBACK, message.getMessageType());
+    }
+
+    @Test
+    public void testTiers()
+    {
+        final String defaultLocale = plugin.getConfiguration().DEFAULT_LOCALE;
+        final NamespacedKey key = new NamespacedKey(plugin, "fallback_test_tiers");
+        languageHandler.addLocalizedMessage(key, "Default", defaultLocale);
+
+        assertEquals(MessageType.DEFAULT_LANGUAGE_FALLBACK,
+                languageHandler.getLocalizedMessage("pt_pt", key).getMessageType());
+        assertEquals(MessageType.FOUND, languageHandler.getLocalizedMessage(defaultLocale, key).getMessageType());
+
+        // Messages added after a lookup must be picked up by the next lookup.
+        languageHandler.addLocalizedMessage(key, "Local", "pt_pt");
+        final MessageReturnWrapper message = languageHandler.getLocalizedMessage("pt_pt", key);
+        assertEquals("Local", message.getMessage());
+        assertEquals(MessageType.FOUND, message.getMessageType());
+
+        final NamespacedKey missingKey = new NamespacedKey(plugin, "fallback_test_missing");
+        assertEquals(MessageType.FAILSAFE_MESSAGE,
+                languageHandler.getLocalizedMessage("pt_pt", missingKey).getMessageType());
+    }
+
+    @Test
+    public void testAddsAfterLookups()
+    {
+        final String defaultLocale = plugin.getConfiguration().DEFAULT_LOCALE;
+
+        // Build the tables of every Locale first, so that the adds below patch them rather than rebuild them.
+        final NamespacedKey firstKey = new NamespacedKey(plugin, "fallback_test_adds_0");
+        languageHandler.addLocalizedMessage(firstKey, "Default 0", defaultLocale);
+        assertEquals(MessageType.DEFAULT_LANGUAGE_FALLBACK,
+                languageHandler.getLocalizedMessage("en_zz", firstKey).getMessageType());
+        assertEquals(MessageType.DEFAULT_LANGUAGE_FALLBACK,
+                languageHandler.getLocalizedMessage("pt_pt", firstKey).getMessageType());
+
+        // Enough single adds to span several storage chunks, to Locales with and without existing tables.
+        for (int i = 1; i < 600; ++i) {
+            final NamespacedKey key = new NamespacedKey(plugin, "fallback_test_adds_" + i);
+            languageHandler.addLocalizedMessage(key, "Default " + i, defaultLocale);
+            if (i % 3 == 0) languageHandler.addLocalizedMessage(key, "Base " + i, "en");
+            if (i % 5 == 0) languageHandler.addLocalizedMessage(key, "Brasil " + i, "pt_br");
+
+            assertEquals("Default " + i, languageHandler.getLocalizedMessage(defaultLocale, key).getMessage());
+        }
+
+        for (int i = 1; i < 600; ++i) {
+            final NamespacedKey key = new NamespacedKey(plugin, "fallback_test_adds_" + i);
+
+            final MessageReturnWrapper base = languageHandler.getLocalizedMessage("en_zz", key);
+            assertEquals(i % 3 == 0 ? "Base " + i : "Default " + i, base.getMessage());
+            assertEquals(i % 3 == 0 ? MessageType.LOCALE_FALLBACK : MessageType.DEFAULT_LANGUAGE_FALLBACK,
+                    base.getMessageType());
+
+            final MessageReturnWrapper configured = languageHandler.getLocalizedMessage("pt_pt", key);
+            assertEquals(i % 5 == 0 ? "Brasil " + i : "Default " + i, configured.getMessage());
+        }
+
+        assertEquals("Default 0", languageHandler.getLocalizedMessage("en_zz", firstKey).getMessage());
+    }
+}
@@ -0,0 +1,127 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Multi-threaded stress test for com.hippout.hippoutlocalizationlib.language.LanguageHandler
+ *
+ * @author Wyatt Kalmer
+ */
+public class LanguageHandlerConcurrencyTest {
+    private static final String[] LOCALES = {"en_us", "de_de", "fr_fr", "pt_br"};
+    private static final int WRITERS = 6;
+    private static final int READERS = 4;
+    private static final int MESSAGES_PER_WRITER = 300;
+    private static final int BATCH_SIZE = 10;
+
+    private HippOutLocalizationLib plugin;
+    private LanguageHandler languageHandler;
+
+    @Before
+    public void setUp()
+    {
+        plugin = StubServer.start().getPlugin();
+        languageHandler = plugin.getLanguageHandler();
+    }
+
+    @Test
+    public void testConcurrentAddsAndLookups() throws Exception
+    {
+        final List<List<NamespacedKey>> ownedKeys = new ArrayList<>();
+        for (int i = 0; i < WRITERS; ++i) {
+            final List<NamespacedKey> keys = new ArrayList<>();
+            for (int j = 0; j < MESSAGES_PER_WRITER; ++j)
+                keys.add(new NamespacedKey(plugin, "concurrency_test_" + i + "_" + j));
+
+            ownedKeys.add(keys);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicReference<String> invalidRead = new AtomicReference<>();
+        final List<Future<?>> writers = new ArrayList<>();
+        final List<Future<?>> readers = new ArrayList<>();
+
+        // Half of the writers add single messages, the other half add batches.
+        for (int i = 0; i < WRITERS; ++i) {
+            final List<NamespacedKey> keys = ownedKeys.get(i);
+            final String locale = LOCALES[i % LOCALES.length];
+            final boolean batched = i % 2 == 0;
+
+            writers.add(executor.submit(() -> {
+                StubServer.markAsyncThread();
+                start.await();
+
+                for (int j = 0; j < keys.size(); j += batched ? BATCH_SIZE : 1) {
+                    if (batched) {
+                        final Map<NamespacedKey, String> batch = new LinkedHashMap<>();
+                        for (NamespacedKey key : keys.subList(j, Math.min(j + BATCH_SIZE, keys.size())))
+                            batch.put(key, key.getKey());
+
+                        languageHandler.addLocalizedMessages(batch, locale);
+                    } else {
+                        languageHandler.addLocalizedMessage(keys.get(j), keys.get(j).getKey(), locale);
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < READERS; ++i) {
+            readers.add(executor.submit(() -> {
+                StubServer.markAsyncThread();
+                start.await();
+
+                while (writing.get()) {
+                    for (int w = 0; w < WRITERS; ++w) {
+                        final String locale = LOCALES[w % LOCALES.length];
+
+                        for (NamespacedKey key : ownedKeys.get(w)) {
+                            final MessageReturnWrapper message = languageHandler.getLocalizedMessage(locale, key);
+                            if (message.getMessageType() == MessageType.FOUND &&
+                                    !message.getMessage().equals(key.getKey()))
+                                invalidRead.set(message.getMessage());
+                        }
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers)
+            writer.get(60, TimeUnit.SECONDS);
+
+        writing.set(false);
+        for (Future<?> reader : readers)
+            reader.get(60, TimeUnit.SECONDS);
+
+        executor.shutdown();
+        assertNull("Read a wrong message.", invalidRead.get());
+
+        // No message may be lost to a concurrent add.
+        for (int w = 0; w < WRITERS; ++w) {
+            final String locale = LOCALES[w % LOCALES.length];
+
+            for (NamespacedKey key : ownedKeys.get(w)) {
+                final MessageReturnWrapper message = languageHandler.getLocalizedMessage(locale, key);
+                assertEquals(MessageType.FOUND, message.getMessageType());
+                assertEquals(key.getKey(), message.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the reloads of com.hippout.hippoutlocalizationlib.language.LanguageHandler
+ *
+ * @author Wyatt Kalmer
+ */
+public class LanguageReloadTest {
+    private static final String FILE_NAME = "reload_test.yml";
+
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LanguageHandler languageHandler;
+    private LanguageLoader languageLoader;
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        languageHandler = plugin.getLanguageHandler();
+        languageLoader = new LanguageLoader(plugin, HippOutLocalizationLib.LANGUAGE_DIRECTORY, true);
+
+        file = languageLoader.getLanguageFile(FILE_NAME).toPath();
+        Files.createDirectories(file.getParent());
+    }
+
+    @After
+    public void tearDown() throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testReload() throws Exception
+    {
+        writeFile("Before");
+        languageLoader.loadLanguageFile(FILE_NAME);
+
+        final NamespacedKey key = languageHandler.getExistingKey(plugin, "reload_test.message");
+        final int messageId = languageHandler.getMessageId(key);
+        final NamespacedKey addedKey = new NamespacedKey(plugin, "reload_test_added");
+        languageHandler.addLocalizedMessage(addedKey, "Added", "xx_rl");
+
+        writeFile("After");
+        final CompletableFuture<Void> reload = languageHandler.reload();
+        server.getScheduler().awaitAsyncTasks(10_000);
+
+        // The new Languages are built, but not yet published.
+        assertEquals("Before", languageHandler.getLocalizedMessage("xx_rl", key).getMessage());
+
+        server.getScheduler().tick();
+        reload.get(0, TimeUnit.SECONDS);
+
+        assertEquals("After", languageHandler.getLocalizedMessage("xx_rl", key).getMessage());
+        assertEquals(messageId, languageHandler.getMessageId(key));
+
+        // Messages added without a language file survive reloads.
+        assertEquals("Added", languageHandler.getLocalizedMessage("xx_rl", addedKey).getMessage());
+    }
+
+    @Test
+    public void testFailedReloadKeepsMessages() throws Exception
+    {
+        writeFile("Kept");
+        languageLoader.loadLanguageFile(FILE_NAME);
+        final NamespacedKey key = languageHandler.getExistingKey(plugin, "reload_test.message");
+
+        Files.write(file, "messages: [ unclosed".getBytes(StandardCharsets.UTF_8));
+        final CompletableFuture<Void> reload = languageHandler.reload();
+        server.getScheduler().awaitAsyncTasks(10_000);
+        server.getScheduler().tick();
+
+        assertTrue(reload.isCompletedExceptionally());
+        assertEquals("Kept", languageHandler.getLocalizedMessage("xx_rl", key).getMessage());
+    }
+
+    private void writeFile(String message) throws IOException
+    {
+        final String yaml = "config:\n  locales: [ xx_rl ]\nmessages:\n  reload_test:\n    message: \"" + message +
+                "\"\n";
+        Files.write(file, yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
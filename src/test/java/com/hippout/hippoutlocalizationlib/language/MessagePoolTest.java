@@ -0,0 +1,52 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.language.MessagePool
+ *
+ * @author Wyatt Kalmer
+ */
+public class MessagePoolTest {
+    @Test
+    public void testIntern()
+    {
+        final MessagePool pool = new MessagePool();
+
+        // Distinct String instances with equal contents, as produced by separate YAML loads.
+        final MessageTemplate first = pool.intern(new String("§aTest Message! %s"));
+        final MessageTemplate second = pool.intern(new String("§aTest Message! %s"));
+        final MessageTemplate other = pool.intern("§eThis command is disabled.");
+
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void testBytesSaved()
+    {
+        final MessagePool pool = new MessagePool();
+        final MessageTemplate template = pool.intern("§aTest Message! %s");
+        final long size = template.estimateRetainedBytes();
+
+        assertTrue(size > 0);
+
+        pool.addReferences(template, 1);
+        assertEquals(0, pool.getBytesSaved());
+
+        pool.addReferences(template, 6);
+        assertEquals(6 * size, pool.getBytesSaved());
+
+        pool.addReferences(pool.intern("%s"), 0);
+        assertEquals(6 * size, pool.getBytesSaved());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForeignTemplate()
+    {
+        new MessagePool().addReferences(MessageTemplate.compile("Not pooled."), 1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.language.MessageTable
+ *
+ * @author Wyatt Kalmer
+ */
+public class MessageTableTest {
+    @Test
+    public void testGetAndSet()
+    {
+        final MessageTable table = new MessageTable();
+        final MessageReturnWrapper message = wrap("Hello");
+
+        assertNull(table.get(0));
+        assertNull(table.get(-1));
+
+        table.set(1000, message);
+        assertSame(message, table.get(1000));
+        assertNull(table.get(999));
+        assertNull(table.get(100000));
+
+        table.set(1000, null);
+        assertNull(table.get(1000));
+    }
+
+    @Test
+    public void testCopiesAreIndependent()
+    {
+        final MessageTable original = new MessageTable();
+        final MessageReturnWrapper first = wrap("First");
+        final MessageReturnWrapper second = wrap("Second");
+        original.set(3, first);
+        original.set(700, first);
+
+        final MessageTable copy = new MessageTable(original);
+        copy.set(3, second);
+        copy.set(5000, second);
+
+        assertSame(first, original.get(3));
+        assertNull(original.get(5000));
+        assertSame(second, copy.get(3));
+        assertSame(first, copy.get(700));
+        assertSame(second, copy.get(5000));
+
+        // A copy of a copy must not share the chunks its source already owns.
+        final MessageTable secondCopy = new MessageTable(copy);
+        secondCopy.set(700, second);
+        assertSame(first, copy.get(700));
+        assertSame(second, secondCopy.get(700));
+    }
+
+    private static MessageReturnWrapper wrap(String message)
+    {
+        return new MessageReturnWrapper(message, "en_us", MessageType.FOUND);
+    }
+}
@@ -0,0 +1,129 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import org.junit.*;
+
+import java.math.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.language.MessageTemplate
+ *
+ * @author Wyatt Kalmer
+ */
+public class MessageTemplateTest {
+    private static final String[] compiledMessages = {
+            "",
+            "No arguments.",
+            "§aTest Message! %s",
+            "%s",
+            "%s%s",
+            "%s and %d",
+            "%2$s before %1$s",
+            "%1$s, %s, %1$s, %s",
+            "100%% done, %s",
+            "Line%nBreak %s",
+            "Locale of %s: %s."
+    };
+
+    private static final String[] formatterMessages = {
+            "%5s",
+            "%-5s|",
+            "%.2f",
+            "%x",
+            "%<s",
+            "%S",
+            "%,d",
+            "trailing %",
+            "%0$s"
+    };
+
+    private static final Object[] args = {"first", 42, "third"};
+
+    @Test
+    public void verifyCompiledMessages()
+    {
+        for (String message : compiledMessages) {
+            final MessageTemplate template = MessageTemplate.compile(message);
+
+            assertFalse("Unexpected formatter fallback: " + message, template.requiresFormatter());
+            assertEquals(message, String.format(message, "first", 42L, "third", 4),
+                    template.format("first", 42L, "third", 4));
+        }
+    }
+
+    @Test
+    public void verifyFormatterMessages()
+    {
+        for (String message : formatterMessages) {
+            final MessageTemplate template = MessageTemplate.compile(message);
+            assertTrue("Expected formatter fallback: " + message, template.requiresFormatter());
+
+            String expected;
+            try {
+                expected = String.format(message, 1.5d);
+            } catch (IllegalFormatException e) {
+                expected = e.getClass().getName();
+            }
+
+            String actual;
+            try {
+                actual = template.format(1.5d);
+            } catch (IllegalFormatException e) {
+                actual = e.getClass().getName();
+            }
+
+            assertEquals(message, expected, actual);
+        }
+    }
+
+    @Test
+    public void verifyArgumentTypes()
+    {
+        final MessageTemplate template = MessageTemplate.compile("%s %d");
+
+        assertEquals(String.format("%s %d", null, null), template.format(null, null));
+        assertEquals(String.format("%s %d", 'c', (byte) -3), template.format('c', (byte) -3));
+        assertEquals(String.format("%s %d", 2.5f, BigInteger.TEN), template.format(2.5f, BigInteger.TEN));
+
+        try {
+            template.format("a", "not a number");
+            fail("Expected IllegalFormatConversionException.");
+        } catch (IllegalFormatConversionException e) {
+        }
+
+        try {
+            template.format("a");
+            fail("Expected MissingFormatArgumentException.");
+        } catch (MissingFormatArgumentException e) {
+        }
+    }
+
+    @Test
+    public void verifyNestedFormat()
+    {
+        final MessageTemplate inner = MessageTemplate.compile("<%s>");
+        final Object arg = new Object() {
+            @Override
+            public String toString()
+            {
+                return inner.format("inner");
+            }
+        };
+
+        assertEquals("[<inner>|outer]", MessageTemplate.compile("[%s|%s]").format(arg, "outer"));
+    }
+
+    @Test
+    public void verifyFormatTo()
+    {
+        final MessageTemplate template = MessageTemplate.compile("[%s]");
+        final StringBuilder builder = new StringBuilder("prefix ");
+
+        template.formatTo(builder, args);
+        template.formatTo(builder, 7);
+
+        assertEquals("prefix [first][7]", builder.toString());
+    }
+}
@@ -0,0 +1,139 @@
+package com.hippout.hippoutlocalizationlib.language;
+
+import com.hippout.hippoutlocalizationlib.metrics.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.language.RenderCache
+ *
+ * @author Wyatt Kalmer
+ */
+public class RenderCacheTest {
+    private LocalizationMetrics metrics;
+    private AtomicInteger renders;
+
+    @Before
+    public void setUp()
+    {
+        metrics = new LocalizationMetrics(true, 1);
+        renders = new AtomicInteger();
+    }
+
+    @Test
+    public void testHitsAndMisses()
+    {
+        final RenderCache cache = new RenderCache(10, metrics);
+
+        assertEquals("a 1", get(cache, 0, "en_us", "a", 1));
+        assertEquals("a 1", get(cache, 0, "en_us", "a", 1));
+        assertEquals("a 2", get(cache, 0, "en_us", "a", 2));
+        assertEquals("a 1", get(cache, 0, "de_de", "a", 1));
+        assertEquals("a 1", get(cache, 1, "en_us", "a", 1));
+
+        assertEquals(4, renders.get());
+        assertEquals(4, cache.size());
+        assertEquals(1, metrics.getRenderCacheHits());
+        assertEquals(4, metrics.getRenderCacheMisses());
+        assertEquals(0.2, metrics.getRenderCacheHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testLruEviction()
+    {
+        final RenderCache cache = new RenderCache(2, metrics);
+
+        get(cache, 0, "en_us", "a");
+        get(cache, 0, "en_us", "b");
+        get(cache, 0, "en_us", "a"); // b is now least recently used
+        get(cache, 0, "en_us", "c");
+
+        assertEquals(2, cache.size());
+        assertEquals(1, metrics.getRenderCacheEvictions());
+
+        renders.set(0);
+        get(cache, 0, "en_us", "a");
+        get(cache, 0, "en_us", "c");
+        assertEquals(0, renders.get());
+
+        get(cache, 0, "en_us", "b");
+        assertEquals(1, renders.get());
+    }
+
+    @Test
+    public void testInvalidate()
+    {
+        final RenderCache cache = new RenderCache(10, metrics);
+
+        get(cache, 0, "en_us", "a");
+        get(cache, 0, "de_de", "a");
+        get(cache, 1, "en_us", "a");
+
+        cache.invalidate(Collections.singletonList(0));
+        assertEquals(1, cache.size());
+
+        renders.set(0);
+        get(cache, 1, "en_us", "a");
+        assertEquals(0, renders.get());
+
+        get(cache, 0, "en_us", "a");
+        assertEquals(1, renders.get());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testStaleRenderNotCached()
+    {
+        final RenderCache cache = new RenderCache(10, metrics);
+        final Object[] args = {"a"};
+
+        // The message was looked up before it was invalidated, so its result may be outdated.
+        final long version = cache.getVersion();
+        cache.invalidate(Collections.singletonList(0));
+        cache.get(version, 0, "en_us", args, () -> "old");
+        assertEquals(0, cache.size());
+
+        assertEquals("new", cache.get(cache.getVersion(), 0, "en_us", args, () -> "new"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testArgumentsCopied()
+    {
+        final RenderCache cache = new RenderCache(10, metrics);
+        final Object[] args = {"a"};
+
+        cache.get(cache.getVersion(), 0, "en_us", args, () -> "a");
+        args[0] = "b";
+
+        assertEquals("b", cache.get(cache.getVersion(), 0, "en_us", args, () -> "b"));
+    }
+
+    @Test
+    public void testIsCacheable()
+    {
+        assertTrue(RenderCache.isCacheable(new Object[]{"a", 1, 2L, 1.5, true, 'c', null, UUID.randomUUID()}));
+        assertTrue(RenderCache.isCacheable(new Object[]{Thread.State.NEW}));
+        assertFalse(RenderCache.isCacheable(new Object[]{"a", new StringBuilder("b")}));
+        assertFalse(RenderCache.isCacheable(new Object[]{new ArrayList<>()}));
+    }
+
+    private String get(RenderCache cache, int messageId, String locale, Object... args)
+    {
+        return cache.get(cache.getVersion(), messageId, locale, args, () -> {
+            renders.incrementAndGet();
+
+            final StringJoiner joiner = new StringJoiner(" ");
+            for (Object arg : args)
+                joiner.add(String.valueOf(arg));
+
+            return joiner.toString();
+        });
+    }
+}
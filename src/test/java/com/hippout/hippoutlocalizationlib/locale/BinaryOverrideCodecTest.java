@@ -0,0 +1,81 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.BinaryOverrideCodec
+ *
+ * @author Wyatt Kalmer
+ */
+public class BinaryOverrideCodecTest {
+    private static final String[] LOCALES = {"en_us", "de_de", "pt_br", "ja_jp", "zh_cn"};
+
+    private Path file;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        file = Files.createTempDirectory("binary").resolve("locale_overrides.bin");
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException
+    {
+        final Map<UUID, String> overrides = new HashMap<>();
+        for (int i = 0; i < 10_000; ++i)
+            overrides.put(UUID.randomUUID(), LOCALES[i % LOCALES.length]);
+
+        final byte[] bytes = BinaryOverrideCodec.encode(overrides);
+        Files.write(file, bytes);
+
+        final Map<UUID, String> read = BinaryOverrideCodec.read(file);
+        assertEquals(overrides, read);
+
+        // Entries of the same Locale share one String.
+        final Set<String> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(read.values());
+        assertEquals(LOCALES.length, distinct.size());
+
+        // A fixed 18 bytes per entry, plus the header and Locale table.
+        assertTrue(bytes.length < 10_000 * 18 + 100);
+    }
+
+    @Test
+    public void testEmpty() throws IOException
+    {
+        Files.write(file, BinaryOverrideCodec.encode(Collections.emptyMap()));
+        assertTrue(BinaryOverrideCodec.read(file).isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorrupt() throws IOException
+    {
+        final byte[] bytes = BinaryOverrideCodec.encode(Collections.singletonMap(UUID.randomUUID(), "de_de"));
+        bytes[bytes.length - 8] ^= 0x40;
+
+        Files.write(file, bytes);
+        BinaryOverrideCodec.read(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException
+    {
+        final byte[] bytes = BinaryOverrideCodec.encode(Collections.singletonMap(UUID.randomUUID(), "de_de"));
+
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+        BinaryOverrideCodec.read(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotBinary() throws IOException
+    {
+        Files.write(file, "a2c4e6f8-0000-0000-0000-000000000000: de_de\n".getBytes("UTF-8"));
+        BinaryOverrideCodec.read(file);
+    }
+}
@@ -0,0 +1,120 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.api.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.entity.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.LocaleAudienceIndex
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleAudienceIndexTest {
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LocaleAudienceIndex audienceIndex;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        audienceIndex = plugin.getLocaleAudienceIndex();
+    }
+
+    @After
+    public void tearDown()
+    {
+        server.removeAllPlayers();
+    }
+
+    @Test
+    public void testJoinChangeAndQuit()
+    {
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final Player bob = server.addPlayer("Bob", "en_gb");
+        final Player carol = server.addPlayer("Carol", "de_de");
+
+        assertAudience("en_gb", alice, bob);
+        assertAudience("de_de", carol);
+
+        server.changeLocale(bob, "de_de");
+        assertAudience("en_gb", alice);
+        assertAudience("de_de", carol, bob);
+
+        server.removePlayer(alice);
+        assertAudience("en_gb");
+        assertFalse(audienceIndex.getOnlineLocales().contains("en_gb"));
+    }
+
+    @Test
+    public void testOverride()
+    {
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final LocaleCache localeCache = plugin.getLocaleCache();
+
+        localeCache.setLocaleOverride(alice.getUniqueId(), "fr_fr");
+        assertAudience("en_gb");
+        assertAudience("fr_fr", alice);
+
+        // The override still applies, so the audience must not change.
+        server.changeLocale(alice, "de_de");
+        assertAudience("fr_fr", alice);
+
+        localeCache.removeLocaleOverride(alice.getUniqueId());
+        assertAudience("fr_fr");
+        assertAudience("de_de", alice);
+    }
+
+    @Test
+    public void testAsyncOverride() throws Exception
+    {
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.submit(() -> {
+            StubServer.markAsyncThread();
+            plugin.getLocaleCache().setLocaleOverride(alice.getUniqueId(), "ja_jp");
+        }).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // The index is only modified on the main thread, on the next tick.
+        assertAudience("en_gb", alice);
+        server.getScheduler().tick();
+        assertAudience("en_gb");
+        assertAudience("ja_jp", alice);
+
+        plugin.getLocaleCache().removeLocaleOverride(alice.getUniqueId());
+        assertAudience("en_gb", alice);
+    }
+
+    @Test
+    public void testBroadcast()
+    {
+        final NamespacedKey key = new NamespacedKey(plugin, "audience_test_broadcast");
+        plugin.getLanguageHandler().addLocalizedMessage(key, "Hello %s", "en_gb");
+        plugin.getLanguageHandler().addLocalizedMessage(key, "Hallo %s", "de_de");
+
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final Player bob = server.addPlayer("Bob", "de_de");
+
+        Macros.broadcastLocalized(key, "World");
+
+        assertEquals("Hello World", StubPlayer.of(alice).getLastMessage());
+        assertEquals("Hallo World", StubPlayer.of(bob).getLastMessage());
+    }
+
+    private void assertAudience(String locale, Player... expected)
+    {
+        final Set<Player> audience = new HashSet<>(Arrays.asList(audienceIndex.getAudience(locale)));
+        assertEquals(new HashSet<>(Arrays.asList(expected)), audience);
+    }
+}
@@ -0,0 +1,133 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.events.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.entity.*;
+import org.bukkit.event.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the bulk Locale Override methods of com.hippout.hippoutlocalizationlib.locale.LocaleCache
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleCacheBulkTest {
+    private static final int OFFLINE_OVERRIDES = 10_000;
+
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LocaleCache localeCache;
+    private EventCounter counter;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        localeCache = plugin.getLocaleCache();
+        counter = new EventCounter();
+        Bukkit.getPluginManager().registerEvents(counter, plugin);
+    }
+
+    @After
+    public void tearDown()
+    {
+        HandlerList.unregisterAll(counter);
+        localeCache.clearLocaleOverrides();
+        server.removeAllPlayers();
+    }
+
+    @Test
+    public void testReplace()
+    {
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final Player bob = server.addPlayer("Bob", "en_gb");
+        final Player carol = server.addPlayer("Carol", "de_de");
+
+        final Map<UUID, String> overrides = new HashMap<>();
+        for (int i = 0; i < OFFLINE_OVERRIDES; ++i)
+            overrides.put(UUID.randomUUID(), "fr_fr");
+
+        overrides.put(alice.getUniqueId(), "ja_jp");
+        overrides.put(carol.getUniqueId(), "de_de"); // Unchanged, so not part of the event.
+
+        localeCache.replaceLocaleOverrides(overrides);
+
+        assertEquals(OFFLINE_OVERRIDES + 2, localeCache.getLocaleOverrides().size());
+        assertEquals(0, counter.changeEvents);
+        assertEquals(1, counter.bulkEvents.size());
+
+        final LocaleCacheBulkChangeEvent event = counter.bulkEvents.get(0);
+        assertEquals(Collections.singleton(alice.getUniqueId()), event.getIds());
+        assertEquals("en_gb", event.getOldLocales().get(alice.getUniqueId()));
+        assertEquals("ja_jp", event.getNewLocales().get(alice.getUniqueId()));
+
+        // Listeners moved Alice to her new audience.
+        assertArrayEquals(new Player[]{alice}, plugin.getLocaleAudienceIndex().getAudience("ja_jp"));
+        assertArrayEquals(new Player[]{bob}, plugin.getLocaleAudienceIndex().getAudience("en_gb"));
+
+        // Replacing removes every override which is not in the new Map.
+        localeCache.replaceLocaleOverrides(Collections.singletonMap(bob.getUniqueId(), "pt_br"));
+
+        assertEquals(1, localeCache.getLocaleOverrides().size());
+        assertEquals(2, counter.bulkEvents.size());
+        assertEquals(new HashSet<>(Arrays.asList(alice.getUniqueId(), bob.getUniqueId())),
+                counter.bulkEvents.get(1).getIds());
+        assertEquals("en_gb", localeCache.getLocale(alice.getUniqueId()));
+    }
+
+    @Test
+    public void testPutAndClear()
+    {
+        final Player alice = server.addPlayer("Alice", "en_gb");
+        final UUID offline = UUID.randomUUID();
+
+        localeCache.setLocaleOverride(offline, "fr_fr");
+        localeCache.putLocaleOverrides(Collections.singletonMap(alice.getUniqueId(), "de_de"));
+
+        assertEquals("fr_fr", localeCache.getLocale(offline));
+        assertEquals("de_de", localeCache.getLocale(alice.getUniqueId()));
+        assertEquals(1, counter.bulkEvents.size());
+
+        localeCache.clearLocaleOverrides();
+
+        assertTrue(localeCache.getLocaleOverrides().isEmpty());
+        assertEquals(2, counter.bulkEvents.size());
+        assertEquals("en_gb", counter.bulkEvents.get(1).getNewLocales().get(alice.getUniqueId()));
+    }
+
+    @Test
+    public void testNoEventWithoutOnlineChanges()
+    {
+        server.addPlayer("Alice", "en_gb");
+        localeCache.putLocaleOverrides(Collections.singletonMap(UUID.randomUUID(), "fr_fr"));
+
+        assertTrue(counter.bulkEvents.isEmpty());
+    }
+
+    /**
+     * Records every LocaleCacheBulkChangeEvent and counts every LocaleCacheChangeEvent.
+     */
+    public static class EventCounter implements Listener {
+        private final List<LocaleCacheBulkChangeEvent> bulkEvents = new ArrayList<>();
+        private int changeEvents;
+
+        @EventHandler
+        public void onLocaleCacheChange(LocaleCacheChangeEvent event)
+        {
+            ++changeEvents;
+        }
+
+        @EventHandler
+        public void onLocaleCacheBulkChange(LocaleCacheBulkChangeEvent event)
+        {
+            bulkEvents.add(event);
+        }
+    }
+}
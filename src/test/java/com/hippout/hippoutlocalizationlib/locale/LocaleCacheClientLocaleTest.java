@@ -0,0 +1,52 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.entity.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for the handling of client Locales by com.hippout.hippoutlocalizationlib.locale.LocaleCache
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleCacheClientLocaleTest {
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LocaleCache localeCache;
+    private Player player;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        localeCache = plugin.getLocaleCache();
+        player = server.addPlayer("ClientLocaleTester", "en_us");
+    }
+
+    @After
+    public void tearDown()
+    {
+        server.removePlayer(player);
+    }
+
+    @Test
+    public void testInvalidLocaleUsesDefault()
+    {
+        final int size = plugin.getLocaleTable().size();
+
+        server.changeLocale(player, "not a locale!");
+        assertEquals(plugin.getConfiguration().DEFAULT_LOCALE, localeCache.getLocale(player.getUniqueId()));
+        assertEquals(size, plugin.getLocaleTable().size());
+    }
+
+    @Test
+    public void testLocaleIsLowercased()
+    {
+        server.changeLocale(player, "EN_GB");
+        assertEquals("en_gb", localeCache.getLocale(player.getUniqueId()));
+    }
+}
@@ -0,0 +1,259 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.events.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.event.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Multi-threaded stress test for com.hippout.hippoutlocalizationlib.locale.LocaleCache
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleCacheConcurrencyTest {
+    private static final String[] LOCALES = {"en_us", "en_gb", "de_de", "fr_fr", "pt_br", "ja_jp"};
+    private static final int WRITERS = 8;
+    private static final int READERS = 4;
+    private static final int IDS_PER_WRITER = 32;
+    private static final int ITERATIONS = 20_000;
+
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LocaleCache localeCache;
+    private ChangeListener listener;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        localeCache = plugin.getLocaleCache();
+        listener = new ChangeListener();
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+    }
+
+    @After
+    public void tearDown()
+    {
+        HandlerList.unregisterAll(listener);
+    }
+
+    @Test
+    public void testConcurrentReadsAndWrites() throws Exception
+    {
+        final Set<String> validLocales = new HashSet<>(Arrays.asList(LOCALES));
+        validLocales.add(plugin.getConfiguration().DEFAULT_LOCALE);
+
+        final List<List<UUID>> ownedIds = new ArrayList<>();
+        final List<UUID> allIds = new ArrayList<>();
+        for (int i = 0; i < WRITERS; ++i) {
+            final List<UUID> ids = new ArrayList<>();
+            for (int j = 0; j < IDS_PER_WRITER; ++j)
+                ids.add(UUID.randomUUID());
+
+            ownedIds.add(ids);
+            allIds.addAll(ids);
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS + READERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final AtomicReference<String> invalidRead = new AtomicReference<>();
+        final List<Future<?>> writers = new ArrayList<>();
+        final List<Future<?>> readers = new ArrayList<>();
+
+        // Every writer owns its UUIDs, so that the events of each UUID are scheduled in the order of its changes.
+        for (List<UUID> ids : ownedIds) {
+            writers.add(executor.submit(() -> {
+                StubServer.markAsyncThread();
+                final Random random = new Random(ids.get(0).getLeastSignificantBits());
+                start.await();
+
+                for (int i = 0; i < ITERATIONS; ++i) {
+                    final UUID id = ids.get(random.nextInt(ids.size()));
+                    final String locale = LOCALES[random.nextInt(LOCALES.length)];
+
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            localeCache.setLocaleOverride(id, locale);
+                            break;
+                        case 1:
+                            if (localeCache.hasLocaleOverride(id)) localeCache.removeLocaleOverride(id);
+                            break;
+                        case 2:
+                            if (localeCache.hasLocale(id)) localeCache.removeLocale(id);
+                            break;
+                        default:
+                            localeCache.setLocale(id, locale);
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        for (int i = 0; i < READERS; ++i) {
+            readers.add(executor.submit(() -> {
+                StubServer.markAsyncThread();
+                start.await();
+
+                while (writing.get()) {
+                    for (UUID id : allIds) {
+                        final String locale = localeCache.getLocale(id);
+                        if (!validLocales.contains(locale)) invalidRead.set(locale);
+                    }
+                }
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers)
+            writer.get(60, TimeUnit.SECONDS);
+
+        writing.set(false);
+        for (Future<?> reader : readers)
+            reader.get(60, TimeUnit.SECONDS);
+
+        executor.shutdown();
+        assertNull("Read an invalid Locale.", invalidRead.get());
+
+        // Events of async changes are delivered on the next tick, on the main thread.
+        assertTrue(listener.events.isEmpty());
+        server.getScheduler().tick();
+        assertFalse(listener.events.isEmpty());
+        assertFalse("An event was called off the main thread.", listener.calledOffMainThread);
+
+        // Replaying each UUID's events must end at its current Locale.
+        final Map<UUID, String> replayed = new HashMap<>();
+        for (LocaleCacheChangeEvent event : listener.events) {
+            final String previous = replayed.getOrDefault(event.getId(), plugin.getConfiguration().DEFAULT_LOCALE);
+            assertEquals(previous, event.getOldLocale());
+            replayed.put(event.getId(), event.getNewLocale());
+        }
+
+        for (UUID id : allIds)
+            assertEquals(localeCache.getLocale(id), replayed.getOrDefault(id,
+                    plugin.getConfiguration().DEFAULT_LOCALE));
+    }
+
+    @Test
+    public void testAsyncThenMainThreadChangeKeepsOrder() throws Exception
+    {
+        final UUID id = UUID.randomUUID();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.submit(() -> {
+            StubServer.markAsyncThread();
+            localeCache.setLocaleOverride(id, "de_de");
+        }).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertTrue(listener.events.isEmpty());
+
+        // The main thread change calls the queued async event first.
+        localeCache.setLocaleOverride(id, "fr_fr");
+        assertEquals(2, listener.events.size());
+        assertEquals("de_de", listener.events.get(0).getNewLocale());
+        assertEquals("de_de", listener.events.get(1).getOldLocale());
+        assertEquals("fr_fr", listener.events.get(1).getNewLocale());
+
+        server.getScheduler().tick();
+        assertEquals(2, listener.events.size());
+        assertEquals("fr_fr", localeCache.getLocale(id));
+    }
+
+    @Test
+    public void testAsyncAndMainThreadShareUuids() throws Exception
+    {
+        final List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < IDS_PER_WRITER; ++i)
+            ids.add(UUID.randomUUID());
+
+        final ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> writers = new ArrayList<>();
+
+        for (int w = 0; w < WRITERS; ++w) {
+            final long seed = w;
+            writers.add(executor.submit(() -> {
+                StubServer.markAsyncThread();
+                final Random random = new Random(seed);
+                start.await();
+
+                for (int i = 0; i < ITERATIONS / 4; ++i) {
+                    final UUID id = ids.get(random.nextInt(ids.size()));
+                    localeCache.setLocale(id, LOCALES[random.nextInt(LOCALES.length)]);
+                }
+
+                return null;
+            }));
+        }
+
+        // The main thread changes the same UUIDs and runs ticks while the async writers are running.
+        final Random random = new Random(-1);
+        start.countDown();
+        for (int i = 0; i < ITERATIONS / 4; ++i) {
+            final UUID id = ids.get(random.nextInt(ids.size()));
+            localeCache.setLocale(id, LOCALES[random.nextInt(LOCALES.length)]);
+            if (i % 64 == 0) server.getScheduler().tick();
+        }
+
+        for (Future<?> writer : writers)
+            writer.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        server.getScheduler().tick();
+        assertFalse("An event was called off the main thread.", listener.calledOffMainThread);
+
+        // Every event must start where the previous event of its UUID ended, and the last must match the cache.
+        final Map<UUID, String> replayed = new HashMap<>();
+        for (LocaleCacheChangeEvent event : listener.events) {
+            final String previous = replayed.getOrDefault(event.getId(), plugin.getConfiguration().DEFAULT_LOCALE);
+            assertEquals(previous, event.getOldLocale());
+            replayed.put(event.getId(), event.getNewLocale());
+        }
+
+        for (UUID id : ids)
+            assertEquals(localeCache.getLocale(id), replayed.getOrDefault(id,
+                    plugin.getConfiguration().DEFAULT_LOCALE));
+    }
+
+    @Test
+    public void testMainThreadEventsAreImmediate()
+    {
+        final UUID id = UUID.randomUUID();
+        localeCache.setLocaleOverride(id, "de_de");
+
+        assertEquals(1, listener.events.size());
+        assertEquals("de_de", listener.events.get(0).getNewLocale());
+
+        localeCache.removeLocaleOverride(id);
+        assertEquals(2, listener.events.size());
+        assertEquals(plugin.getConfiguration().DEFAULT_LOCALE, localeCache.getLocale(id));
+    }
+
+    /**
+     * Records every LocaleCacheChangeEvent.
+     */
+    public static class ChangeListener implements Listener {
+        private final List<LocaleCacheChangeEvent> events = new ArrayList<>();
+        private volatile boolean calledOffMainThread;
+
+        @EventHandler
+        public void onLocaleCacheChange(LocaleCacheChangeEvent event)
+        {
+            if (!Bukkit.isPrimaryThread()) calledOffMainThread = true;
+            events.add(event);
+        }
+    }
+}
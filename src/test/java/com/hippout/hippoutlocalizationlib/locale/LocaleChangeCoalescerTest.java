@@ -0,0 +1,105 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.events.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.event.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.LocaleChangeCoalescer
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleChangeCoalescerTest {
+    private static final int WINDOW_TICKS = 2;
+
+    private StubServer server;
+    private LocaleChangeCoalescer coalescer;
+    private EventRecorder recorder;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        coalescer = new LocaleChangeCoalescer(server.getPlugin(), WINDOW_TICKS);
+        recorder = new EventRecorder();
+        Bukkit.getPluginManager().registerEvents(recorder, server.getPlugin());
+    }
+
+    @After
+    public void tearDown()
+    {
+        HandlerList.unregisterAll(recorder);
+    }
+
+    @Test
+    public void testNetChange()
+    {
+        final UUID joined = UUID.randomUUID();
+        final UUID other = UUID.randomUUID();
+
+        // A join followed by the client reporting its Locale within the same window.
+        coalescer.record(joined, "en_us", "en_gb");
+        coalescer.record(joined, "en_gb", "de_de");
+        coalescer.record(other, "en_us", "fr_fr");
+
+        server.getScheduler().tick(WINDOW_TICKS - 1);
+        assertTrue(recorder.changeEvents.isEmpty());
+
+        server.getScheduler().tick();
+        assertEquals(2, recorder.changeEvents.size());
+        assertEquals(joined, recorder.changeEvents.get(0).getId());
+        assertEquals("en_us", recorder.changeEvents.get(0).getOldLocale());
+        assertEquals("de_de", recorder.changeEvents.get(0).getNewLocale());
+
+        assertEquals(1, recorder.batchEvents.size());
+        final LocaleCacheChangeBatchEvent batch = recorder.batchEvents.get(0);
+        assertEquals(new HashSet<>(Arrays.asList(joined, other)), batch.getIds());
+        assertEquals("fr_fr", batch.getNewLocales().get(other));
+
+        // The next change opens a new window.
+        coalescer.record(other, "fr_fr", "ja_jp");
+        server.getScheduler().tick(WINDOW_TICKS);
+        assertEquals(3, recorder.changeEvents.size());
+        assertEquals(2, recorder.batchEvents.size());
+    }
+
+    @Test
+    public void testRevertedChange()
+    {
+        final UUID id = UUID.randomUUID();
+
+        coalescer.record(id, "en_us", "de_de");
+        coalescer.record(id, "de_de", "en_us");
+        coalescer.record(id, "en_us", "en_us");
+        server.getScheduler().tick(WINDOW_TICKS);
+
+        assertTrue(recorder.changeEvents.isEmpty());
+        assertTrue(recorder.batchEvents.isEmpty());
+    }
+
+    /**
+     * Records every LocaleCacheChangeEvent and LocaleCacheChangeBatchEvent.
+     */
+    public static class EventRecorder implements Listener {
+        private final List<LocaleCacheChangeEvent> changeEvents = new ArrayList<>();
+        private final List<LocaleCacheChangeBatchEvent> batchEvents = new ArrayList<>();
+
+        @EventHandler
+        public void onLocaleCacheChange(LocaleCacheChangeEvent event)
+        {
+            changeEvents.add(event);
+        }
+
+        @EventHandler
+        public void onLocaleCacheChangeBatch(LocaleCacheChangeBatchEvent event)
+        {
+            batchEvents.add(event);
+        }
+    }
+}
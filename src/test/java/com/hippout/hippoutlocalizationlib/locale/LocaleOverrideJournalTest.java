@@ -0,0 +1,163 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.LocaleOverrideJournal
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleOverrideJournalTest {
+    private static final Logger LOGGER = Logger.getLogger(LocaleOverrideJournalTest.class.getName());
+
+    private Path file;
+    private int compactionRequests;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        file = Files.createTempDirectory("journal").resolve("locale_overrides.journal");
+        compactionRequests = 0;
+    }
+
+    @Test
+    public void testReplay() throws IOException
+    {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        final LocaleOverrideJournal journal = open(Long.MAX_VALUE);
+        journal.appendSet(first, "de_de");
+        journal.appendSet(second, "fr_fr");
+        journal.appendClear();
+        journal.appendSet(first, "ja_jp");
+        journal.appendSet(second, "pt_br");
+        journal.appendRemove(second);
+        journal.close();
+
+        final Map<UUID, String> overrides = new HashMap<>();
+        overrides.put(UUID.randomUUID(), "en_gb");
+
+        assertEquals(6, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+        assertEquals(Collections.singletonMap(first, "ja_jp"), overrides);
+    }
+
+    @Test
+    public void testRotation() throws IOException
+    {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        final LocaleOverrideJournal journal = open(Long.MAX_VALUE);
+        journal.appendSet(first, "de_de");
+        journal.rotate();
+        journal.appendSet(second, "fr_fr");
+        journal.appendSet(first, "ja_jp");
+        journal.sync();
+
+        // A crash before the rotated file is deleted replays both, oldest first.
+        final Map<UUID, String> overrides = new HashMap<>();
+        assertEquals(3, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+        assertEquals("ja_jp", overrides.get(first));
+        assertEquals("fr_fr", overrides.get(second));
+
+        journal.deleteRotated();
+        journal.close();
+
+        overrides.clear();
+        assertEquals(2, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+
+        LocaleOverrideJournal.delete(file);
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void testFailedRotationKeepsJournalOpen() throws IOException
+    {
+        final UUID id = UUID.randomUUID();
+
+        final LocaleOverrideJournal journal = open(Long.MAX_VALUE);
+
+        // Deleting the file makes the move of the rotation fail.
+        Files.delete(file);
+        try {
+            journal.rotate();
+            fail("Rotating a deleted journal should fail.");
+        } catch (IOException expected) {
+            // The journal must still be usable.
+        }
+
+        journal.appendSet(id, "de_de");
+        journal.sync();
+
+        final Map<UUID, String> overrides = new HashMap<>();
+        assertEquals(1, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+        assertEquals(Collections.singletonMap(id, "de_de"), overrides);
+
+        journal.close();
+    }
+
+    @Test
+    public void testAppendsAreBufferedUntilSync() throws IOException
+    {
+        final LocaleOverrideJournal journal = open(Long.MAX_VALUE);
+        journal.appendSet(UUID.randomUUID(), "de_de");
+        journal.appendRemove(UUID.randomUUID());
+
+        final Map<UUID, String> overrides = new HashMap<>();
+        assertEquals(0, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+
+        journal.sync();
+        assertEquals(2, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+
+        journal.close();
+    }
+
+    @Test
+    public void testIncompleteRecord() throws IOException
+    {
+        final UUID id = UUID.randomUUID();
+
+        final LocaleOverrideJournal journal = open(Long.MAX_VALUE);
+        journal.appendSet(id, "de_de");
+        journal.appendSet(UUID.randomUUID(), "fr_fr");
+        journal.close();
+
+        // Cut the last record in half, as a crash during an append would.
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        final Map<UUID, String> overrides = new HashMap<>();
+        assertEquals(1, LocaleOverrideJournal.replay(file, overrides, LOGGER));
+        assertEquals(Collections.singletonMap(id, "de_de"), overrides);
+    }
+
+    @Test
+    public void testCompactionRequest() throws IOException
+    {
+        final LocaleOverrideJournal journal = open(100);
+
+        for (int i = 0; i < 20; ++i)
+            journal.appendSet(UUID.randomUUID(), "en_us");
+        assertEquals(1, compactionRequests);
+
+        journal.rotate();
+        for (int i = 0; i < 20; ++i)
+            journal.appendSet(UUID.randomUUID(), "en_us");
+        assertEquals(2, compactionRequests);
+
+        journal.close();
+    }
+
+    private LocaleOverrideJournal open(long compactionThreshold) throws IOException
+    {
+        return new LocaleOverrideJournal(file, compactionThreshold, () -> ++compactionRequests, LOGGER);
+    }
+}
@@ -0,0 +1,192 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import com.hippout.hippoutlocalizationlib.Configuration;
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.locale.LocaleOverrideStore.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.LocaleOverrideStore
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleOverrideStoreTest {
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private File directory;
+    private File file;
+    private LocaleCache localeCache;
+    private LocaleOverrideStore store;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+        directory = Files.createTempDirectory("overrides").toFile();
+        file = new File(directory, Configuration.LOCALE_CACHE_FILE_NAME);
+        localeCache = new LocaleCache(plugin);
+        store = new LocaleOverrideStore(plugin, localeCache, directory, Format.YAML, false);
+    }
+
+    @After
+    public void tearDown()
+    {
+        store.close();
+    }
+
+    @Test
+    public void testSaveAndLoad() throws Exception
+    {
+        final UUID kept = UUID.randomUUID();
+        final UUID removed = UUID.randomUUID();
+
+        localeCache.setLocaleOverride(kept, "de_de");
+        localeCache.setLocaleOverride(removed, "fr_fr");
+        assertTrue(store.save());
+
+        // Removed overrides must not come back from the previous save.
+        localeCache.removeLocaleOverride(removed);
+        assertTrue(store.save());
+        assertFalse("Saved without any change.", store.save());
+
+        final LocaleCache loadedCache = new LocaleCache(plugin);
+        new LocaleOverrideStore(plugin, loadedCache, directory, Format.YAML, false).load();
+
+        final Map<UUID, String> expected = new HashMap<>();
+        expected.put(kept, "de_de");
+        assertEquals(expected, loadedCache.getLocaleOverrides());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    public void testInterruptedSaveIsIgnored() throws Exception
+    {
+        final UUID id = UUID.randomUUID();
+        localeCache.setLocaleOverride(id, "ja_jp");
+        store.save();
+
+        // A save which crashed before its rename leaves a partial temporary file.
+        final File tempFile = new File(file.getPath() + ".tmp");
+        Files.write(tempFile.toPath(), "{ partial".getBytes(StandardCharsets.UTF_8));
+
+        final LocaleCache loadedCache = new LocaleCache(plugin);
+        new LocaleOverrideStore(plugin, loadedCache, directory, Format.YAML, false).load();
+
+        assertEquals("ja_jp", loadedCache.getLocale(id));
+        assertFalse(tempFile.exists());
+    }
+
+    @Test
+    public void testJournalSurvivesCrash() throws Exception
+    {
+        store = new LocaleOverrideStore(plugin, localeCache, directory, Format.YAML, true);
+        store.load();
+        assertTrue(store.isJournaling());
+
+        final UUID kept = UUID.randomUUID();
+        final UUID removed = UUID.randomUUID();
+        localeCache.setLocaleOverride(kept, "de_de");
+        localeCache.setLocaleOverride(removed, "fr_fr");
+        localeCache.removeLocaleOverride(removed);
+
+        // The journal is synced every second. No save happens before the crash, so every change is only in it.
+        server.getScheduler().tick(20);
+        server.getScheduler().awaitAsyncTasks(10_000);
+
+        final LocaleCache loadedCache = new LocaleCache(plugin);
+        final LocaleOverrideStore loadedStore = new LocaleOverrideStore(plugin, loadedCache, directory,
+                Format.YAML, true);
+        loadedStore.load();
+        loadedStore.close();
+
+        assertEquals(Collections.singletonMap(kept, "de_de"), loadedCache.getLocaleOverrides());
+    }
+
+    @Test
+    public void testCompaction() throws Exception
+    {
+        store = new LocaleOverrideStore(plugin, localeCache, directory, Format.YAML, true);
+        store.load();
+
+        final UUID id = UUID.randomUUID();
+        localeCache.setLocaleOverride(id, "ja_jp");
+        assertTrue(store.save());
+
+        // Changes after a compaction go to the new journal.
+        localeCache.setLocaleOverride(id, "pt_br");
+        store.close();
+
+        final LocaleCache loadedCache = new LocaleCache(plugin);
+        new LocaleOverrideStore(plugin, loadedCache, directory, Format.YAML, false).load();
+        assertEquals("pt_br", loadedCache.getLocale(id));
+    }
+
+    @Test
+    public void testConversion() throws Exception
+    {
+        final UUID id = UUID.randomUUID();
+        localeCache.setLocaleOverride(id, "de_de");
+        store.save();
+
+        // Switching to the binary format loads the YAML file and replaces it on the next save.
+        final LocaleCache binaryCache = new LocaleCache(plugin);
+        final LocaleOverrideStore binaryStore = new LocaleOverrideStore(plugin, binaryCache, directory,
+                Format.BINARY, false);
+        binaryStore.load();
+        assertEquals("de_de", binaryCache.getLocale(id));
+
+        assertTrue(binaryStore.save());
+        assertFalse(file.exists());
+        assertTrue(binaryStore.getFile().exists());
+
+        // And back again.
+        final LocaleCache yamlCache = new LocaleCache(plugin);
+        final LocaleOverrideStore yamlStore = new LocaleOverrideStore(plugin, yamlCache, directory, Format.YAML,
+                false);
+        yamlStore.load();
+        assertEquals("de_de", yamlCache.getLocale(id));
+
+        assertTrue(yamlStore.save());
+        assertTrue(file.exists());
+        assertFalse(binaryStore.getFile().exists());
+    }
+
+    @Test
+    public void testSaveAsync() throws Exception
+    {
+        final UUID id = UUID.randomUUID();
+        localeCache.setLocaleOverride(id, "pt_br");
+
+        store.saveAsync();
+        server.getScheduler().awaitAsyncTasks(10_000);
+        assertTrue(file.exists());
+
+        final LocaleCache loadedCache = new LocaleCache(plugin);
+        new LocaleOverrideStore(plugin, loadedCache, directory, Format.YAML, false).load();
+        assertEquals("pt_br", loadedCache.getLocale(id));
+    }
+
+    @Test
+    public void testAutosave() throws Exception
+    {
+        store.startAutosave(20);
+        localeCache.setLocaleOverride(UUID.randomUUID(), "en_gb");
+
+        server.getScheduler().tick(19);
+        server.getScheduler().awaitAsyncTasks(10_000);
+        assertFalse(file.exists());
+
+        server.getScheduler().tick();
+        server.getScheduler().awaitAsyncTasks(10_000);
+        assertTrue(file.exists());
+    }
+}
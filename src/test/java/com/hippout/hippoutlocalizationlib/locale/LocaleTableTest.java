@@ -0,0 +1,89 @@
+package com.hippout.hippoutlocalizationlib.locale;
+
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.locale.LocaleTable
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocaleTableTest {
+    @Test
+    public void testOrdinalsAreDenseAndStable()
+    {
+        final LocaleTable localeTable = new LocaleTable();
+
+        assertEquals(0, localeTable.register("en_us"));
+        assertEquals(1, localeTable.register("de_de"));
+        assertEquals(0, localeTable.register("en_us"));
+        assertEquals(2, localeTable.size());
+
+        assertEquals("de_de", localeTable.getLocale(1));
+        assertEquals(1, localeTable.getOrdinal("de_de"));
+        assertEquals(-1, localeTable.getOrdinal("fr_fr"));
+    }
+
+    @Test
+    public void testBoundedRegister()
+    {
+        final LocaleTable localeTable = new LocaleTable();
+        localeTable.register("en_us");
+
+        assertEquals(1, localeTable.register("de_de", 2));
+        assertEquals(-1, localeTable.register("fr_fr", 2));
+        assertEquals(1, localeTable.register("de_de", 2));
+        assertEquals(2, localeTable.size());
+        assertEquals(-1, localeTable.getOrdinal("fr_fr"));
+    }
+
+    @Test
+    public void testGrowth()
+    {
+        final LocaleTable localeTable = new LocaleTable();
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(i, localeTable.register("l" + i + "_xx"));
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals("l" + i + "_xx", localeTable.getLocale(i));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnassignedOrdinal()
+    {
+        new LocaleTable().getLocale(0);
+    }
+
+    @Test
+    public void testConcurrentRegistration() throws Exception
+    {
+        final LocaleTable localeTable = new LocaleTable();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final List<Future<int[]>> results = new ArrayList<>();
+
+        for (int t = 0; t < 8; ++t) {
+            results.add(executor.submit(() -> {
+                final int[] ordinals = new int[200];
+                for (int i = 0; i < ordinals.length; ++i)
+                    ordinals[i] = localeTable.register("l" + i + "_xx");
+
+                return ordinals;
+            }));
+        }
+
+        final int[] expected = results.get(0).get(60, TimeUnit.SECONDS);
+        for (Future<int[]> result : results)
+            assertArrayEquals(expected, result.get(60, TimeUnit.SECONDS));
+
+        executor.shutdown();
+        assertEquals(200, localeTable.size());
+
+        for (int i = 0; i < expected.length; ++i)
+            assertEquals("l" + i + "_xx", localeTable.getLocale(expected[i]));
+    }
+}
@@ -0,0 +1,134 @@
+package com.hippout.hippoutlocalizationlib.metrics;
+
+import com.hippout.hippoutlocalizationlib.api.MessageReturnWrapper.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.metrics.LocalizationMetrics
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocalizationMetricsTest {
+    @Test
+    public void testOutcomes()
+    {
+        final LocalizationMetrics metrics = new LocalizationMetrics(true, 1);
+
+        metrics.recordLookup("en_us", "plugin", MessageType.FOUND, -1);
+        metrics.recordLookup("en_us", "plugin", MessageType.FOUND, -1);
+        metrics.recordLookup("pt_pt", "plugin", MessageType.LOCALE_FALLBACK, -1);
+        metrics.recordLookup("de_de", "other_plugin", MessageType.FAILSAFE_MESSAGE, -1);
+
+        assertEquals(2, metrics.getOutcomeCount(MessageType.FOUND));
+        assertEquals(1, metrics.getOutcomeCount(MessageType.LOCALE_FALLBACK));
+        assertEquals(0, metrics.getOutcomeCount(MessageType.DEFAULT_LANGUAGE_FALLBACK));
+        assertEquals(1, metrics.getOutcomeCount(MessageType.FAILSAFE_MESSAGE));
+
+        final Map<String, Map<MessageType, Long>> locales = metrics.getLocaleOutcomes();
+        assertEquals(3, locales.size());
+        assertEquals(2L, (long) locales.get("en_us").get(MessageType.FOUND));
+        assertEquals(0L, (long) locales.get("en_us").get(MessageType.FAILSAFE_MESSAGE));
+
+        final Map<String, Map<MessageType, Long>> namespaces = metrics.getNamespaceOutcomes();
+        assertEquals(2, namespaces.size());
+        assertEquals(2L, (long) namespaces.get("plugin").get(MessageType.FOUND));
+        assertEquals(1L, (long) namespaces.get("plugin").get(MessageType.LOCALE_FALLBACK));
+
+        // Unsampled lookups are counted but not timed.
+        assertEquals(0, metrics.getLookupLatency().getCount());
+
+        metrics.reset();
+        assertEquals(0, metrics.getOutcomeCount(MessageType.FOUND));
+        assertTrue(metrics.getLocaleOutcomes().isEmpty());
+    }
+
+    @Test
+    public void testTrackedKeysAreBounded()
+    {
+        final LocalizationMetrics metrics = new LocalizationMetrics(true, 1);
+
+        for (int i = 0; i < 1000; ++i)
+            metrics.recordLookup("xx_" + i, "plugin", MessageType.FOUND, -1);
+
+        final Map<String, Map<MessageType, Long>> locales = metrics.getLocaleOutcomes();
+        assertEquals(256, locales.size());
+        assertTrue(locales.containsKey(LocalizationMetrics.OTHER));
+        assertEquals(1000, locales.values().stream().mapToLong(m -> m.get(MessageType.FOUND)).sum());
+    }
+
+    @Test
+    public void testTrackedKeysAreBoundedConcurrently() throws Exception
+    {
+        final LocalizationMetrics metrics = new LocalizationMetrics(true, 1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; ++thread) {
+            final int offset = thread * 1000;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; ++i)
+                    metrics.recordLookup("xx_" + (offset + i), "plugin", MessageType.FOUND, -1);
+
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures)
+            future.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        final Map<String, Map<MessageType, Long>> locales = metrics.getLocaleOutcomes();
+        assertEquals(256, locales.size());
+        assertEquals(8000, locales.values().stream().mapToLong(m -> m.get(MessageType.FOUND)).sum());
+    }
+
+    @Test
+    public void testDisabled()
+    {
+        final LocalizationMetrics metrics = new LocalizationMetrics(false, 1);
+
+        assertFalse(metrics.shouldSample());
+        metrics.recordLookup("en_us", "plugin", MessageType.FOUND, 100);
+        metrics.recordBroadcast(100);
+
+        assertEquals(0, metrics.getOutcomeCount(MessageType.FOUND));
+        assertEquals(0, metrics.getLookupLatency().getCount());
+        assertEquals(0, metrics.getBroadcastLatency().getCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSampleRate()
+    {
+        new LocalizationMetrics(true, 0);
+    }
+
+    @Test
+    public void testLatencyHistogram()
+    {
+        final LocalizationMetrics metrics = new LocalizationMetrics(true, 1);
+        final LatencyHistogram histogram = metrics.getBroadcastLatency();
+
+        assertEquals(0, histogram.getPercentileNanos(99));
+
+        for (int i = 0; i < 99; ++i)
+            metrics.recordBroadcast(1000);
+        metrics.recordBroadcast(1_000_000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals((99 * 1000 + 1_000_000) / 100, histogram.getMeanNanos());
+
+        // Percentiles are bucket upper bounds, so accurate to within a factor of two.
+        final long p50 = histogram.getPercentileNanos(50);
+        assertTrue(p50 >= 1000 && p50 < 2000);
+        assertEquals(1_000_000, histogram.getPercentileNanos(100));
+    }
+}
@@ -0,0 +1,145 @@
+package com.hippout.hippoutlocalizationlib.objects;
+
+import com.hippout.hippoutlocalizationlib.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.bukkit.*;
+import org.bukkit.boss.*;
+import org.bukkit.entity.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.objects.LocalizedBossBar
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocalizedBossBarTest {
+    private StubServer server;
+    private HippOutLocalizationLib plugin;
+    private LocalizedBossBar bossBar;
+    private Player player;
+
+    @Before
+    public void setUp()
+    {
+        server = StubServer.start();
+        plugin = server.getPlugin();
+
+        final NamespacedKey titleKey = new NamespacedKey(plugin, "bossbar_test_" + UUID.randomUUID());
+        plugin.getLanguageHandler().addLocalizedMessage(titleKey, "Title en_us", "en_us");
+        plugin.getLanguageHandler().addLocalizedMessage(titleKey, "Title de_de", "de_de");
+
+        bossBar = new LocalizedBossBar(titleKey, BarColor.BLUE, BarStyle.SOLID);
+        player = server.addPlayer("BossBarTester", "en_us");
+    }
+
+    @After
+    public void tearDown()
+    {
+        if (!bossBar.isClosed()) bossBar.close();
+        if (plugin.getLocaleCache().hasLocaleOverride(player.getUniqueId()))
+            plugin.getLocaleCache().removeLocaleOverride(player.getUniqueId());
+
+        server.removePlayer(player);
+    }
+
+    @Test
+    public void testLocaleChangeMovesPlayer()
+    {
+        bossBar.addPlayer(player);
+        assertEquals(Collections.singletonList("Title en_us"), getTitlesShowing(player));
+
+        server.changeLocale(player, "de_de");
+        assertEquals(Collections.singletonList("Title de_de"), getTitlesShowing(player));
+
+        // Removes them from the BossBar of their new Locale, not the one they were added to.
+        bossBar.removePlayer(player);
+        assertTrue(getTitlesShowing(player).isEmpty());
+        assertFalse(bossBar.containsPlayer(player));
+    }
+
+    @Test
+    public void testRemoveBeforeChangeIsDelivered() throws Exception
+    {
+        bossBar.addPlayer(player);
+        changeLocaleAsync("de_de");
+
+        // The event is only delivered on the next tick, so they are still in the BossBar they were added to.
+        bossBar.removePlayer(player);
+        assertTrue(getTitlesShowing(player).isEmpty());
+
+        // The late event must not add them back.
+        server.getScheduler().tick();
+        assertTrue(getTitlesShowing(player).isEmpty());
+        assertFalse(bossBar.containsPlayer(player));
+    }
+
+    @Test
+    public void testAddAgainBeforeChangeIsDelivered() throws Exception
+    {
+        bossBar.addPlayer(player);
+        changeLocaleAsync("de_de");
+
+        // Adding again reads their current Locale and moves them, so the late event finds them in place.
+        bossBar.addPlayer(player);
+        assertEquals(Collections.singletonList("Title de_de"), getTitlesShowing(player));
+
+        server.getScheduler().tick();
+        assertEquals(Collections.singletonList("Title de_de"), getTitlesShowing(player));
+
+        bossBar.removePlayer(player);
+        assertTrue(getTitlesShowing(player).isEmpty());
+    }
+
+    @Test
+    public void testCloseAfterLocaleChange()
+    {
+        bossBar.addPlayer(player);
+        server.changeLocale(player, "de_de");
+
+        bossBar.close();
+        assertTrue(getTitlesShowing(player).isEmpty());
+
+        // A closed LocalizedBossBar no longer follows the Player.
+        server.changeLocale(player, "en_us");
+        assertTrue(getTitlesShowing(player).isEmpty());
+    }
+
+    /**
+     * Sets a Locale Override for the Player from another thread, so that its event is deferred to the next tick.
+     *
+     * @param locale Locale Override to set.
+     * @throws Exception if the other thread fails or times out.
+     */
+    private void changeLocaleAsync(String locale) throws Exception
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        executor.submit(() -> {
+            StubServer.markAsyncThread();
+            plugin.getLocaleCache().setLocaleOverride(player.getUniqueId(), locale);
+        }).get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the titles of every localized BossBar showing the given Player. Dummy BossBars have no title.
+     *
+     * @param player Player to look for.
+     * @return The titles of the BossBars the Player is in.
+     */
+    private List<String> getTitlesShowing(Player player)
+    {
+        final List<String> titles = new ArrayList<>();
+
+        for (BossBar created : server.getBossBars())
+            if (created.getTitle() != null && created.getPlayers().contains(player))
+                titles.add(created.getTitle());
+
+        return titles;
+    }
+}
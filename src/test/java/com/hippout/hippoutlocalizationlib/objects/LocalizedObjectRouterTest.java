@@ -0,0 +1,120 @@
+package com.hippout.hippoutlocalizationlib.objects;
+
+import com.hippout.hippoutlocalizationlib.events.*;
+import com.hippout.hippoutlocalizationlib.stub.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Test class for com.hippout.hippoutlocalizationlib.objects.LocalizedObjectRouter
+ *
+ * @author Wyatt Kalmer
+ */
+public class LocalizedObjectRouterTest {
+    private LocalizedObjectRouter router;
+
+    @Before
+    public void setUp()
+    {
+        StubServer.start(); // LocaleCacheChangeEvent validates its Locales against the Configuration.
+        router = new LocalizedObjectRouter();
+    }
+
+    @Test
+    public void testRouteToAttachedOnly()
+    {
+        final RecordingObject attached = new RecordingObject();
+        final RecordingObject other = new RecordingObject();
+        final UUID id = UUID.randomUUID();
+
+        router.register(attached);
+        router.register(other);
+        router.attach(id, attached);
+
+        router.onLocaleCacheChange(new LocaleCacheChangeEvent(id, "en_us", "de_de"));
+        router.onLocaleCacheChange(new LocaleCacheChangeEvent(UUID.randomUUID(), "en_us", "fr_fr"));
+
+        assertEquals(Collections.singletonList(id + "=de_de"), attached.changes);
+        assertTrue(other.changes.isEmpty());
+    }
+
+    @Test
+    public void testBulkChange()
+    {
+        final RecordingObject object = new RecordingObject();
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        router.register(object);
+        router.attach(first, object);
+
+        final Map<UUID, String> oldLocales = new HashMap<>();
+        final Map<UUID, String> newLocales = new HashMap<>();
+        oldLocales.put(first, "en_us");
+        newLocales.put(first, "ja_jp");
+        oldLocales.put(second, "en_us");
+        newLocales.put(second, "ko_kr");
+
+        router.onLocaleCacheBulkChange(new LocaleCacheBulkChangeEvent(oldLocales, newLocales));
+        assertEquals(Collections.singletonList(first + "=ja_jp"), object.changes);
+    }
+
+    @Test
+    public void testDetach()
+    {
+        final RecordingObject object = new RecordingObject();
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        router.register(object);
+        router.attach(first, object);
+        router.attach(second, object);
+
+        router.detach(first, object);
+        router.onLocaleCacheChange(new LocaleCacheChangeEvent(first, "en_us", "de_de"));
+        assertTrue(object.changes.isEmpty());
+
+        router.unregister(object);
+        router.onLocaleCacheChange(new LocaleCacheChangeEvent(second, "en_us", "de_de"));
+        assertTrue(object.changes.isEmpty());
+        assertEquals(0, router.size());
+    }
+
+    @Test
+    public void testLanguageReload()
+    {
+        final RecordingObject registered = new RecordingObject();
+        final RecordingObject unregistered = new RecordingObject();
+
+        router.register(registered);
+        router.register(unregistered);
+        router.unregister(unregistered);
+
+        router.onLanguageReload(new LanguageReloadEvent());
+        assertEquals(1, registered.reloads);
+        assertEquals(0, unregistered.reloads);
+    }
+
+    /**
+     * Records the calls it receives.
+     */
+    private static final class RecordingObject implements LocalizedObject {
+        private final List<String> changes = new ArrayList<>();
+        private int reloads;
+
+        @Override
+        public void onLocaleChange(UUID id, String newLocale)
+        {
+            changes.add(id + "=" + newLocale);
+        }
+
+        @Override
+        public void onLanguageReload()
+        {
+            ++reloads;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.hippout.hippoutlocalizationlib.stub;
+
+import org.bukkit.boss.*;
+import org.bukkit.entity.*;
+
+import javax.annotation.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A minimal BossBar for tests. Holds its title, progress, visibility and Players instead of showing them to anyone.
+ *
+ * @author Wyatt Kalmer
+ */
+public final class StubBossBar implements InvocationHandler {
+    private final List<Player> players;
+
+    private String title;
+    private BarColor color;
+    private BarStyle style;
+    private double progress;
+    private boolean visible;
+
+    /**
+     * Constructs a StubBossBar.
+     *
+     * @param title Title of the BossBar.
+     * @param color Color of the BossBar.
+     * @param style Style of the BossBar.
+     */
+    private StubBossBar(@Nullable String title, @Nullable BarColor color, @Nullable BarStyle style)
+    {
+        this.players = new ArrayList<>();
+        this.title = title;
+        this.color = color;
+        this.style = style;
+        this.progress = 1.0;
+        this.visible = true;
+    }
+
+    /**
+     * Creates a new BossBar backed by a StubBossBar.
+     *
+     * @param title Title of the BossBar.
+     * @param color Color of the BossBar.
+     * @param style Style of the BossBar.
+     * @return The new BossBar.
+     */
+    @Nonnull
+    static BossBar create(@Nullable String title, @Nullable BarColor color, @Nullable BarStyle style)
+    {
+        return (BossBar) Proxy.newProxyInstance(StubBossBar.class.getClassLoader(), new Class<?>[]{BossBar.class},
+                new StubBossBar(title, color, style));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+    {
+        switch (method.getName()) {
+            case "getTitle":
+                return title;
+            case "setTitle":
+                title = (String) args[0];
+                return null;
+            case "getColor":
+                return color;
+            case "setColor":
+                color = (BarColor) args[0];
+                return null;
+            case "getStyle":
+                return style;
+            case "setStyle":
+                style = (BarStyle) args[0];
+                return null;
+            case "getProgress":
+                return progress;
+            case "setProgress":
+                progress = (Double) args[0];
+                return null;
+            case "isVisible":
+                return visible;
+            case "setVisible":
+                visible = (Boolean) args[0];
+                return null;
+            case "addPlayer":
+                if (!players.contains((Player) args[0])) players.add((Player) args[0]);
+                return null;
+            case "removePlayer":
+                players.remove((Player) args[0]);
+                return null;
+            case "removeAll":
+                players.clear();
+                return null;
+            case "getPlayers":
+                return new ArrayList<>(players);
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "StubBossBar{" + title + "}";
+            default:
+                return StubServer.defaultValue(method.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.hippout.hippoutlocalizationlib.stub;
+
+import org.bukkit.entity.*;
+
+import javax.annotation.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A minimal online Player for tests and benchmarks. Counts the messages it receives instead of sending them anywhere.
+ *
+ * @author Wyatt Kalmer
+ */
+public final class StubPlayer implements InvocationHandler {
+    private final UUID id;
+    private final String name;
+    private final AtomicLong messagesReceived;
+
+    private volatile String locale;
+    private volatile String lastMessage;
+
+    private Player player;
+
+    /**
+     * Constructs a StubPlayer.
+     *
+     * @param id     UUID of the Player.
+     * @param name   Name of the Player.
+     * @param locale Client Locale of the Player.
+     */
+    private StubPlayer(@Nonnull UUID id, @Nonnull String name, @Nonnull String locale)
+    {
+        this.id = Objects.requireNonNull(id, "UUID cannot be null.");
+        this.name = Objects.requireNonNull(name, "Name cannot be null.");
+        this.locale = Objects.requireNonNull(locale, "Locale cannot be null.");
+        this.messagesReceived = new AtomicLong();
+    }
+
+    /**
+     * Creates a new Player backed by a StubPlayer. Does not add it to the StubServer.
+     *
+     * @param name   Name of the Player.
+     * @param locale Client Locale of the Player.
+     * @return The new Player.
+     */
+    @Nonnull
+    static Player create(@Nonnull String name, @Nonnull String locale)
+    {
+        final StubPlayer stub = new StubPlayer(UUID.randomUUID(), name, locale);
+        stub.player = (Player) Proxy.newProxyInstance(StubPlayer.class.getClassLoader(),
+                new Class<?>[]{Player.class}, stub);
+
+        return stub.player;
+    }
+
+    /**
+     * Returns the StubPlayer backing the given Player.
+     *
+     * @param player Player created by StubServer.
+     * @return The StubPlayer of the given Player.
+     * @throws IllegalArgumentException if player was not created by StubServer.
+     */
+    @Nonnull
+    public static StubPlayer of(@Nonnull Player player)
+    {
+        final InvocationHandler handler = Proxy.getInvocationHandler(player);
+        if (!(handler instanceof StubPlayer))
+            throw new IllegalArgumentException("Player was not created by StubServer.");
+
+        return (StubPlayer) handler;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+    {
+        switch (method.getName()) {
+            case "getUniqueId":
+                return id;
+            case "getName":
+            case "getDisplayName":
+            case "getPlayerListName":
+                return name;
+            case "getLocale":
+                return locale;
+            case "getPlayer":
+                return player;
+            case "isOnline":
+            case "hasPermission":
+                return true;
+            case "sendMessage": {
+                // The last argument is the message. Some overloads take a sender UUID first.
+                final Object message = args[args.length - 1];
+
+                if (message instanceof String[]) {
+                    final String[] messages = (String[]) message;
+                    messagesReceived.addAndGet(messages.length);
+                    if (messages.length > 0) lastMessage = messages[messages.length - 1];
+                } else {
+                    messagesReceived.incrementAndGet();
+                    lastMessage = (String) message;
+                }
+                return null;
+            }
+            case "hashCode":
+                return id.hashCode();
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "StubPlayer{" + name + "}";
+            default:
+                return StubServer.defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Returns the Player backed by this StubPlayer.
+     *
+     * @return The Player backed by this StubPlayer.
+     */
+    @Nonnull
+    public Player getPlayer()
+    {
+        return player;
+    }
+
+    /**
+     * Returns the client Locale of this StubPlayer.
+     *
+     * @return The client Locale of this StubPlayer.
+     */
+    @Nonnull
+    public String getLocale()
+    {
+        return locale;
+    }
+
+    /**
+     * Sets the client Locale of this StubPlayer without firing any events.
+     *
+     * @param locale New client Locale.
+     */
+    void setLocale(@Nonnull String locale)
+    {
+        this.locale = Objects.requireNonNull(locale, "Locale cannot be null.");
+    }
+
+    /**
+     * Returns the number of messages this StubPlayer has received.
+     *
+     * @return The number of messages this StubPlayer has received.
+     */
+    public long getMessagesReceived()
+    {
+        return messagesReceived.get();
+    }
+
+    /**
+     * Returns the last message this StubPlayer received.
+     *
+     * @return The last message received, or null if none were received.
+     */
+    @Nullable
+    public String getLastMessage()
+    {
+        return lastMessage;
+    }
+}
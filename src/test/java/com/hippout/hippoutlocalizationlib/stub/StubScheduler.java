@@ -0,0 +1,280 @@
+package com.hippout.hippoutlocalizationlib.stub;
+
+import org.bukkit.scheduler.*;
+
+import javax.annotation.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A minimal BukkitScheduler for tests and benchmarks. Time only advances when tick is called. Synchronous tasks run on
+ * the thread calling tick, and asynchronous tasks run on a daemon thread pool whose threads are marked as async.
+ *
+ * @author Wyatt Kalmer
+ */
+public final class StubScheduler implements InvocationHandler {
+    private final BukkitScheduler scheduler;
+    private final ExecutorService asyncExecutor;
+    private final PriorityQueue<ScheduledTask> pendingTasks;
+    private final AtomicInteger nextTaskId;
+    private final AtomicInteger runningAsyncTasks;
+
+    private long currentTick;
+
+    /**
+     * Constructs a StubScheduler at tick 0.
+     */
+    StubScheduler()
+    {
+        scheduler = (BukkitScheduler) Proxy.newProxyInstance(StubScheduler.class.getClassLoader(),
+                new Class<?>[]{BukkitScheduler.class}, this);
+        asyncExecutor = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(() -> {
+                StubServer.markAsyncThread();
+                r.run();
+            }, "StubScheduler Async");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pendingTasks = new PriorityQueue<>(Comparator.comparingLong((ScheduledTask t) -> t.dueTick)
+                .thenComparingInt(t -> t.id));
+        nextTaskId = new AtomicInteger(1);
+        runningAsyncTasks = new AtomicInteger();
+        currentTick = 0;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args)
+    {
+        switch (method.getName()) {
+            case "runTask":
+                return schedule((Runnable) args[1], 0, -1, false);
+            case "runTaskLater":
+                return schedule((Runnable) args[1], (long) args[2], -1, false);
+            case "runTaskTimer":
+                return schedule((Runnable) args[1], (long) args[2], (long) args[3], false);
+            case "runTaskAsynchronously":
+                return schedule((Runnable) args[1], 0, -1, true);
+            case "runTaskLaterAsynchronously":
+                return schedule((Runnable) args[1], (long) args[2], -1, true);
+            case "runTaskTimerAsynchronously":
+                return schedule((Runnable) args[1], (long) args[2], (long) args[3], true);
+            case "cancelTasks":
+                cancelAll();
+                return null;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return "StubScheduler";
+            default:
+                return StubServer.defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Schedules a task. Asynchronous tasks without a delay start immediately.
+     *
+     * @param task   Task to run.
+     * @param delay  Delay in ticks.
+     * @param period Period in ticks, or -1 to run once.
+     * @param async  Whether to run the task on the async thread pool.
+     * @return The BukkitTask of the scheduled task.
+     */
+    @Nonnull
+    private BukkitTask schedule(@Nonnull Runnable task, long delay, long period, boolean async)
+    {
+        final ScheduledTask scheduledTask = new ScheduledTask(nextTaskId.getAndIncrement(), task, period, async);
+
+        synchronized (this) {
+            // Like Bukkit, synchronous tasks never run during the tick in which they are scheduled.
+            scheduledTask.dueTick = currentTick + Math.max(delay, async ? 0 : 1);
+
+            if (async && delay <= 0 && period < 0)
+                runAsync(scheduledTask);
+            else
+                pendingTasks.add(scheduledTask);
+        }
+
+        return scheduledTask.bukkitTask;
+    }
+
+    /**
+     * Advances time by one tick, running every synchronous task that becomes due on the calling thread and starting
+     * every asynchronous task that becomes due.
+     */
+    public void tick()
+    {
+        final List<ScheduledTask> dueTasks = new ArrayList<>();
+
+        synchronized (this) {
+            ++currentTick;
+            while (!pendingTasks.isEmpty() && pendingTasks.peek().dueTick <= currentTick)
+                dueTasks.add(pendingTasks.poll());
+        }
+
+        for (ScheduledTask task : dueTasks) {
+            if (task.cancelled) continue;
+
+            if (task.async)
+                runAsync(task);
+            else
+                task.task.run();
+
+            synchronized (this) {
+                if (task.period >= 0 && !task.cancelled) {
+                    task.dueTick = currentTick + Math.max(task.period, 1);
+                    pendingTasks.add(task);
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances time by the given number of ticks.
+     *
+     * @param ticks Number of ticks to advance by.
+     */
+    public void tick(int ticks)
+    {
+        for (int i = 0; i < ticks; ++i)
+            tick();
+    }
+
+    /**
+     * Waits for every running asynchronous task to finish.
+     *
+     * @param timeoutMillis Maximum time to wait.
+     * @throws InterruptedException if interrupted while waiting.
+     * @throws TimeoutException     if the tasks did not finish in time.
+     */
+    public void awaitAsyncTasks(long timeoutMillis) throws InterruptedException, TimeoutException
+    {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        synchronized (runningAsyncTasks) {
+            while (runningAsyncTasks.get() > 0) {
+                final long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) throw new TimeoutException("Async tasks did not finish in time.");
+                runningAsyncTasks.wait(remaining);
+            }
+        }
+    }
+
+    /**
+     * Returns the current tick.
+     *
+     * @return The number of ticks that have passed.
+     */
+    public synchronized long getCurrentTick()
+    {
+        return currentTick;
+    }
+
+    /**
+     * Returns the number of tasks waiting for their tick.
+     *
+     * @return The number of pending tasks.
+     */
+    public synchronized int getPendingTaskCount()
+    {
+        return pendingTasks.size();
+    }
+
+    /**
+     * Returns the BukkitScheduler backed by this StubScheduler.
+     *
+     * @return The BukkitScheduler backed by this StubScheduler.
+     */
+    @Nonnull
+    BukkitScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
+    /**
+     * Cancels every pending task.
+     */
+    private synchronized void cancelAll()
+    {
+        pendingTasks.forEach(t -> t.cancelled = true);
+        pendingTasks.clear();
+    }
+
+    /**
+     * Runs a task on the async thread pool.
+     *
+     * @param task Task to run.
+     */
+    private void runAsync(@Nonnull ScheduledTask task)
+    {
+        runningAsyncTasks.incrementAndGet();
+
+        asyncExecutor.execute(() -> {
+            try {
+                task.task.run();
+            } finally {
+                synchronized (runningAsyncTasks) {
+                    runningAsyncTasks.decrementAndGet();
+                    runningAsyncTasks.notifyAll();
+                }
+            }
+        });
+    }
+
+    /**
+     * A task waiting to be run, and its BukkitTask.
+     */
+    private final class ScheduledTask implements InvocationHandler {
+        private final int id;
+        private final Runnable task;
+        private final long period;
+        private final boolean async;
+        private final BukkitTask bukkitTask;
+
+        private long dueTick;
+        private volatile boolean cancelled;
+
+        private ScheduledTask(int id, @Nonnull Runnable task, long period, boolean async)
+        {
+            this.id = id;
+            this.task = Objects.requireNonNull(task, "Task cannot be null.");
+            this.period = period;
+            this.async = async;
+            this.bukkitTask = (BukkitTask) Proxy.newProxyInstance(StubScheduler.class.getClassLoader(),
+                    new Class<?>[]{BukkitTask.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args)
+        {
+            switch (method.getName()) {
+                case "getTaskId":
+                    return id;
+                case "isSync":
+                    return !async;
+                case "isCancelled":
+                    return cancelled;
+                case "cancel":
+                    cancelled = true;
+                    synchronized (StubScheduler.this) {
+                        pendingTasks.remove(this);
+                    }
+                    return null;
+                case "getOwner":
+                    return StubServer.start().getPlugin();
+                case "hashCode":
+                    return id;
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "StubTask{" + id + "}";
+                default:
+                    return StubServer.defaultValue(method.getReturnType());
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.hippout.hippoutlocalizationlib.stub;
+
+import com.hippout.hippoutlocalizationlib.*;
+import org.bukkit.*;
+import org.bukkit.boss.*;
+import org.bukkit.command.*;
+import org.bukkit.configuration.*;
+import org.bukkit.configuration.file.*;
+import org.bukkit.entity.*;
+import org.bukkit.event.player.*;
+import org.bukkit.plugin.*;
+import org.bukkit.plugin.java.*;
+
+import javax.annotation.*;
+import java.io.*;
+import java.lang.reflect.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+/**
+ * A minimal Bukkit Server which runs an enabled HippOutLocalizationLib outside of a real server, for tests and
+ * benchmarks. Only the parts of the Server used by HippOutLocalizationLib are implemented. Every other method returns
+ * a default value.
+ * <p>
+ * Bukkit only allows its Server to be set once, so a single StubServer is shared by the whole JVM. Every thread is
+ * treated as the primary thread unless it calls markAsyncThread.
+ * </p>
+ *
+ * @author Wyatt Kalmer
+ */
+public final class StubServer implements InvocationHandler {
+    private static final String PLUGIN_NAME = "HippOutLocalizationLib";
+    private static final ThreadLocal<Boolean> ASYNC_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private static StubServer instance;
+
+    private final Server server;
+    private final Logger logger;
+    private final SimplePluginManager pluginManager;
+    private final StubScheduler scheduler;
+    private final Map<UUID, Player> onlinePlayers;
+    private final Map<String, PluginCommand> commands;
+    private final List<BossBar> bossBars;
+    private final File dataFolder;
+
+    private HippOutLocalizationLib plugin;
+
+    /**
+     * Constructs a StubServer with the given data folder.
+     *
+     * @param dataFolder Data folder for HippOutLocalizationLib.
+     */
+    private StubServer(@Nonnull File dataFolder)
+    {
+        this.dataFolder = dataFolder;
+
+        logger = Logger.getLogger("StubServer");
+        logger.setUseParentHandlers(false);
+        final Handler handler = new ConsoleHandler();
+        handler.setLevel(Level.WARNING);
+        logger.addHandler(handler);
+
+        server = (Server) Proxy.newProxyInstance(StubServer.class.getClassLoader(), new Class<?>[]{Server.class},
+                this);
+        pluginManager = new SimplePluginManager(server, new SimpleCommandMap(server));
+        scheduler = new StubScheduler();
+        onlinePlayers = new ConcurrentHashMap<>();
+        commands = new ConcurrentHashMap<>();
+        bossBars = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Starts the StubServer and enables HippOutLocalizationLib, or returns the existing StubServer.
+     *
+     * @return The running StubServer.
+     */
+    @Nonnull
+    public static synchronized StubServer start()
+    {
+        if (instance != null) return instance;
+
+        try {
+            final StubServer stubServer = new StubServer(Files.createTempDirectory(PLUGIN_NAME).toFile());
+            Bukkit.setServer(stubServer.server);
+            stubServer.writeConfig();
+            stubServer.enablePlugin();
+
+            instance = stubServer;
+            return instance;
+        } catch (IOException | InvalidConfigurationException | ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not start StubServer.", e);
+        }
+    }
+
+    /**
+     * Writes the shipped config.yml to the data folder before HippOutLocalizationLib saves its default, with the
+     * optional fallbacks enabled so that tests cover them. The example chain of config.yml is enabled as pt_pt to
+     * pt_br.
+     *
+     * @throws IOException                   if config.yml cannot be read or written.
+     * @throws InvalidConfigurationException if the shipped config.yml is not valid YAML.
+     */
+    private void writeConfig() throws IOException, InvalidConfigurationException
+    {
+        final YamlConfiguration config = new YamlConfiguration();
+        try (InputStream in = StubServer.class.getClassLoader().getResourceAsStream("config.yml")) {
+            if (in == null) throw new FileNotFoundException("config.yml is not on the classpath.");
+            config.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        config.set("fallback.use_base_language", true);
+        config.set("fallback.chains.pt_pt", Collections.singletonList("pt_br"));
+        config.save(new File(dataFolder, "config.yml"));
+    }
+
+    /**
+     * Creates HippOutLocalizationLib and enables it the same way Bukkit does.
+     *
+     * @throws ReflectiveOperationException if the plugin's testing constructor or setEnabled cannot be invoked.
+     */
+    @SuppressWarnings("deprecation")
+    private void enablePlugin() throws ReflectiveOperationException
+    {
+        final Constructor<HippOutLocalizationLib> constructor = HippOutLocalizationLib.class.getDeclaredConstructor(
+                JavaPluginLoader.class, PluginDescriptionFile.class, File.class, File.class);
+        constructor.setAccessible(true);
+
+        final PluginDescriptionFile description = new PluginDescriptionFile(PLUGIN_NAME, "stub",
+                HippOutLocalizationLib.class.getName());
+        plugin = constructor.newInstance(new JavaPluginLoader(server), description, dataFolder,
+                new File(dataFolder, PLUGIN_NAME + ".jar"));
+
+        final Method setEnabled = JavaPlugin.class.getDeclaredMethod("setEnabled", boolean.class);
+        setEnabled.setAccessible(true);
+        setEnabled.invoke(plugin, true);
+    }
+
+    /**
+     * Marks the current thread as an asynchronous thread, so that the Server reports it is not the primary thread.
+     */
+    public static void markAsyncThread()
+    {
+        ASYNC_THREAD.set(true);
+    }
+
+    /**
+     * Adds a new online Player and fires PlayerJoinEvent for them.
+     *
+     * @param name   Name of the Player.
+     * @param locale Client Locale of the Player.
+     * @return The new Player.
+     */
+    @Nonnull
+    public Player addPlayer(@Nonnull String name, @Nonnull String locale)
+    {
+        final Player player = StubPlayer.create(name, locale);
+        onlinePlayers.put(player.getUniqueId(), player);
+        pluginManager.callEvent(new PlayerJoinEvent(player, null));
+
+        return player;
+    }
+
+    /**
+     * Fires PlayerQuitEvent for the given Player and removes them from the online Players.
+     *
+     * @param player Player to remove.
+     */
+    public void removePlayer(@Nonnull Player player)
+    {
+        pluginManager.callEvent(new PlayerQuitEvent(player, null));
+        onlinePlayers.remove(player.getUniqueId());
+    }
+
+    /**
+     * Removes every online Player.
+     */
+    public void removeAllPlayers()
+    {
+        new ArrayList<>(onlinePlayers.values()).forEach(this::removePlayer);
+    }
+
+    /**
+     * Changes the client Locale of the given Player and fires PlayerLocaleChangeEvent.
+     *
+     * @param player Player to change the Locale of.
+     * @param locale New client Locale.
+     */
+    public void changeLocale(@Nonnull Player player, @Nonnull String locale)
+    {
+        StubPlayer.of(player).setLocale(locale);
+        pluginManager.callEvent(new PlayerLocaleChangeEvent(player, locale));
+    }
+
+    /**
+     * Returns the enabled HippOutLocalizationLib instance.
+     *
+     * @return The enabled HippOutLocalizationLib instance.
+     */
+    @Nonnull
+    public HippOutLocalizationLib getPlugin()
+    {
+        return plugin;
+    }
+
+    /**
+     * Returns the StubScheduler used by this StubServer.
+     *
+     * @return The StubScheduler used by this StubServer.
+     */
+    @Nonnull
+    public StubScheduler getScheduler()
+    {
+        return scheduler;
+    }
+
+    /**
+     * Returns the data folder of HippOutLocalizationLib.
+     *
+     * @return The data folder of HippOutLocalizationLib.
+     */
+    @Nonnull
+    public File getDataFolder()
+    {
+        return dataFolder;
+    }
+
+    /**
+     * Returns a Collection of all online Players.
+     *
+     * @return A Collection of all online Players.
+     */
+    @Nonnull
+    public Collection<Player> getOnlinePlayers()
+    {
+        return Collections.unmodifiableCollection(onlinePlayers.values());
+    }
+
+    /**
+     * Returns every BossBar created through the Server so far, in order.
+     *
+     * @return An unmodifiable List of every created BossBar.
+     */
+    @Nonnull
+    public List<BossBar> getBossBars()
+    {
+        return Collections.unmodifiableList(bossBars);
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws ReflectiveOperationException
+    {
+        switch (method.getName()) {
+            case "getLogger":
+                return logger;
+            case "getPluginManager":
+                return pluginManager;
+            case "getScheduler":
+                return scheduler.getScheduler();
+            case "getOnlinePlayers":
+                return getOnlinePlayers();
+            case "isPrimaryThread":
+                return !ASYNC_THREAD.get();
+            case "getPlayer":
+                return args[0] instanceof UUID ? onlinePlayers.get(args[0]) : findPlayer((String) args[0]);
+            case "getPlayerExact":
+                return findPlayer((String) args[0]);
+            case "getOfflinePlayer":
+                return args[0] instanceof UUID ? onlinePlayers.get(args[0]) : findPlayer((String) args[0]);
+            case "getPluginCommand":
+                return getPluginCommand((String) args[0]);
+            case "createBossBar": {
+                final BossBar bossBar = StubBossBar.create((String) args[0], (BarColor) args[1], (BarStyle) args[2]);
+                bossBars.add(bossBar);
+                return bossBar;
+            }
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+            case "getName":
+                return "StubServer";
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    /**
+     * Finds an online Player by name.
+     *
+     * @param name Name of the Player.
+     * @return The Player, or null if no online Player has the given name.
+     */
+    @Nullable
+    private Player findPlayer(@Nonnull String name)
+    {
+        for (Player player : onlinePlayers.values()) {
+            if (player.getName().equalsIgnoreCase(name))
+                return player;
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the PluginCommand with the given name, owned by HippOutLocalizationLib.
+     *
+     * @param name Name of the command.
+     * @return The PluginCommand.
+     * @throws ReflectiveOperationException if PluginCommand's constructor cannot be invoked.
+     */
+    @Nonnull
+    private PluginCommand getPluginCommand(@Nonnull String name) throws ReflectiveOperationException
+    {
+        PluginCommand command = commands.get(name);
+
+        if (command == null) {
+            final Constructor<PluginCommand> constructor = PluginCommand.class.getDeclaredConstructor(String.class,
+                    Plugin.class);
+            constructor.setAccessible(true);
+
+            command = constructor.newInstance(name, plugin);
+            commands.put(name, command);
+        }
+
+        return command;
+    }
+
+    /**
+     * Returns the default value for a method with the given return type. Used by the stubs of this package and by
+     * tests which stub an interface of their own.
+     *
+     * @param type Return type.
+     * @return null for Objects, a zero or false for primitives, and "StubServer" for Strings.
+     */
+    @Nullable
+    public static Object defaultValue(@Nonnull Class<?> type)
+    {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0D;
+        if (type == float.class) return 0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return '\0';
+        if (type == String.class) return "StubServer";
+
+        return null;
+    }
+}